@@ -0,0 +1,125 @@
+package com.lms.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lms.dto.PrincipalView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache of OAuth2 subject to user ID and of user ID to principal view, used to
+ * answer /auth/me without a database round trip.
+ *
+ * The subject mapping never changes for a user and is only bounded by size. Views
+ * expire after a TTL and are evicted whenever the user is modified, after which the
+ * subject mapping lets the view be reloaded by primary key. Both maps are Caffeine
+ * caches.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, Long> subjects;
+    private final Cache<Long, PrincipalView> views;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${lms.cache.principal.max-size:10000}") int maxSize,
+                          @Value("${lms.cache.principal.ttl:PT5M}") Duration ttl) {
+        this.subjects = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .executor(Runnable::run)
+                .build();
+        this.views = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .build();
+        this.hits = Counter.builder("lms.cache.principal.requests")
+                .tag("result", "hit")
+                .description("Principal views served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("lms.cache.principal.requests")
+                .tag("result", "miss")
+                .description("Principal views that had to be resolved")
+                .register(meterRegistry);
+        Gauge.builder("lms.cache.principal.size", this, PrincipalCache::size)
+                .description("Principal views currently held in the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up the view of the user an OAuth2 subject resolved to
+     *
+     * @param subject The OAuth2 subject
+     * @return Optional view, empty when unknown or expired
+     */
+    public Optional<PrincipalView> getBySubject(String subject) {
+        Long userId = getUserId(subject);
+        PrincipalView view = userId != null ? views.getIfPresent(userId) : null;
+        if (view != null) {
+            hits.increment();
+            return Optional.of(view);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Look up the user ID an OAuth2 subject resolved to
+     *
+     * @param subject The OAuth2 subject
+     * @return User ID, or null when unknown
+     */
+    public Long getUserId(String subject) {
+        if (subject == null) {
+            return null;
+        }
+        return subjects.getIfPresent(subject);
+    }
+
+    /**
+     * Record the user an OAuth2 subject resolved to
+     *
+     * @param subject The OAuth2 subject
+     * @param view View of the resolved user
+     */
+    public void put(String subject, PrincipalView view) {
+        subjects.put(subject, view.getId());
+        views.put(view.getId(), view);
+    }
+
+    /**
+     * Drop the cached view of a user; the subject mapping is kept
+     *
+     * @param userId The user ID
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        views.invalidate(userId);
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void clear() {
+        subjects.invalidateAll();
+        views.invalidateAll();
+    }
+
+    public int size() {
+        views.cleanUp();
+        return (int) views.estimatedSize();
+    }
+}
@@ -0,0 +1,213 @@
+package com.lms.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Two-level cache of email to User used to resolve the authenticated principal.
+ *
+ * The first level is the current HTTP request, so repeated lookups inside one call are free.
+ * The second level is a bounded, TTL-evicting process-wide Caffeine cache of
+ * immutable snapshots that leave out the password hash. Each hit on the shared level
+ * returns a fresh detached User built from the snapshot, so no caller can alter the
+ * shared entry; the copy must only be used for identity and scalar fields.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class UserCache {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserCache.class.getName() + ".";
+
+    private final Cache<String, Snapshot> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${lms.cache.user.max-size:10000}") int maxSize,
+                     @Value("${lms.cache.user.ttl:PT5M}") Duration ttl) {
+        this.hits = Counter.builder("lms.cache.user.requests")
+                .tag("result", "hit")
+                .description("Principal lookups served from the user cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("lms.cache.user.requests")
+                .tag("result", "miss")
+                .description("Principal lookups that went to the database")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("lms.cache.user.evictions")
+                .description("Entries removed from the user cache")
+                .register(meterRegistry);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .<String, Snapshot>removalListener((email, snapshot, cause) -> {
+                    if (cause != RemovalCause.REPLACED) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+        Gauge.builder("lms.cache.user.size", this, UserCache::size)
+                .description("Entries currently held in the user cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resolve a user by email, consulting the request scope, then the shared cache,
+     * then the given loader.
+     *
+     * @param email The email address
+     * @param loader Database lookup used on a miss
+     * @return Optional user
+     */
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        String requestKey = REQUEST_ATTRIBUTE_PREFIX + email;
+        if (request != null) {
+            Object cached = request.getAttribute(requestKey, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User) {
+                hits.increment();
+                return Optional.of((User) cached);
+            }
+        }
+
+        Snapshot snapshot = entries.getIfPresent(email);
+        if (snapshot != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            Optional<User> loaded = loader.apply(email);
+            if (loaded.isEmpty()) {
+                return loaded;
+            }
+            snapshot = new Snapshot(loaded.get());
+            entries.put(email, snapshot);
+        }
+
+        User user = snapshot.toUser();
+
+        if (request != null) {
+            request.setAttribute(requestKey, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(user);
+    }
+
+    /**
+     * Remove the entry for an email address
+     *
+     * @param email The email address
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        entries.invalidate(email);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + email, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Remove every entry belonging to a user ID
+     *
+     * @param userId The user ID
+     */
+    public void evictById(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        entries.asMap().values().removeIf(snapshot -> userId.equals(snapshot.id));
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    /**
+     * Scalar state of a user at load time, without the password hash
+     */
+    private static final class Snapshot {
+        private final Long id;
+        private final Long version;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final Role role;
+        private final String profilePicture;
+        private final String bio;
+        private final String phoneNumber;
+        private final String address;
+        private final String city;
+        private final String country;
+        private final Boolean active;
+        private final String googleId;
+
+        private Snapshot(User user) {
+            this.id = user.getId();
+            this.version = user.getVersion();
+            this.createdAt = user.getCreatedAt();
+            this.updatedAt = user.getUpdatedAt();
+            this.firstName = user.getFirstName();
+            this.lastName = user.getLastName();
+            this.email = user.getEmail();
+            this.role = user.getRole();
+            this.profilePicture = user.getProfilePicture();
+            this.bio = user.getBio();
+            this.phoneNumber = user.getPhoneNumber();
+            this.address = user.getAddress();
+            this.city = user.getCity();
+            this.country = user.getCountry();
+            this.active = user.isActive();
+            this.googleId = user.getGoogleId();
+        }
+
+        private User toUser() {
+            User user = new User(firstName, lastName, email, role);
+            user.setId(id);
+            user.setVersion(version);
+            user.setCreatedAt(createdAt);
+            user.setUpdatedAt(updatedAt);
+            user.setProfilePicture(profilePicture);
+            user.setBio(bio);
+            user.setPhoneNumber(phoneNumber);
+            user.setAddress(address);
+            user.setCity(city);
+            user.setCountry(country);
+            user.setActive(active);
+            user.setGoogleId(googleId);
+            return user;
+        }
+    }
+}
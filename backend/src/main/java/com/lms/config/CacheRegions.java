@@ -0,0 +1,33 @@
+package com.lms.config;
+
+/**
+ * Hibernate second-level cache region names.
+ * 
+ * Each region is sized and expired in application.conf (Caffeine JCache configuration);
+ * regions missing there are created from its default entry with a startup warning.
+ * Names must match the application.conf keys exactly and contain no dots, which the
+ * configuration file would otherwise read as nested paths.
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class CacheRegions {
+
+    public static final String COURSE = "lms-course";
+    public static final String LEARNING_MODULE = "lms-learning-module";
+    public static final String LEARNING_MODULE_SECTIONS = "lms-learning-module-sections";
+    public static final String LEARNING_SECTION = "lms-learning-section";
+    public static final String LEARNING_SECTION_CONTENT_BLOCKS = "lms-learning-section-content-blocks";
+    public static final String CONTENT_BLOCK = "lms-content-block";
+    public static final String QUESTION = "lms-question";
+    public static final String QUESTION_OPTIONS = "lms-question-options";
+    public static final String QUESTION_OPTION = "lms-question-option";
+
+    /**
+     * Query cache region for the distinct subject/level lists of published modules
+     */
+    public static final String MODULE_FACETS = "lms-module-facets";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,162 @@
+package com.lms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Logs a warning at startup for each datasource, driver or Hibernate setting known
+ * to slow down every statement. Nothing is changed; the warnings only point at the
+ * property to fix.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class DataSourceSettingsValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceSettingsValidator.class);
+
+    static final int LARGE_POOL_SIZE = 50;
+    static final long LONG_CONNECTION_TIMEOUT_MILLIS = 30_000;
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    public DataSourceSettingsValidator(Environment environment, DataSource dataSource) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        findSlowSettings().forEach(warning -> log.warn("Slow datasource setting: {}", warning));
+    }
+
+    /**
+     * Check the effective settings
+     *
+     * @return One message per slow setting, empty when none are found
+     */
+    public List<String> findSlowSettings() {
+        List<String> warnings = new ArrayList<>();
+        checkHibernate(warnings);
+        HikariDataSource hikari = hikari();
+        if (hikari != null) {
+            checkPool(hikari, warnings);
+            checkDriver(hikari, warnings);
+        }
+        return warnings;
+    }
+
+    private void checkHibernate(List<String> warnings) {
+        if (isTrue("spring.jpa.properties.hibernate.use_sql_comments")) {
+            warnings.add("hibernate.use_sql_comments=true prepends a comment to every statement sent to the database");
+        }
+        if (isTrue("spring.jpa.show-sql") || isTrue("spring.jpa.properties.hibernate.show_sql")) {
+            warnings.add("spring.jpa.show-sql=true writes every statement to stdout synchronously");
+        }
+        if (isTrue("spring.jpa.properties.hibernate.format_sql")
+                && (isTrue("spring.jpa.show-sql") || isDebug("logging.level.org.hibernate.SQL"))) {
+            warnings.add("hibernate.format_sql=true pretty-prints every logged statement");
+        }
+        if (isDebug("logging.level.org.hibernate.SQL")) {
+            warnings.add("logging.level.org.hibernate.SQL at DEBUG logs every statement");
+        }
+        if ("TRACE".equalsIgnoreCase(environment.getProperty("logging.level.org.hibernate.orm.jdbc.bind"))) {
+            warnings.add("logging.level.org.hibernate.orm.jdbc.bind at TRACE logs every bound parameter");
+        }
+        int batchSize = environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0);
+        if (batchSize <= 1) {
+            warnings.add("hibernate.jdbc.batch_size is not set, so every insert and update is its own round trip");
+        }
+    }
+
+    private void checkPool(HikariDataSource hikari, List<String> warnings) {
+        if (hikari.getMaximumPoolSize() > LARGE_POOL_SIZE) {
+            warnings.add("maximum pool size " + hikari.getMaximumPoolSize()
+                    + " is large; more connections than the database can run in parallel only add contention");
+        }
+        if (hikari.getMinimumIdle() < hikari.getMaximumPoolSize()) {
+            warnings.add("minimum idle " + hikari.getMinimumIdle() + " is below the maximum pool size "
+                    + hikari.getMaximumPoolSize() + ", so bursts pay for opening connections");
+        }
+        if (hikari.getConnectionTimeout() > LONG_CONNECTION_TIMEOUT_MILLIS) {
+            warnings.add("connection timeout " + hikari.getConnectionTimeout()
+                    + " ms lets requests queue on an exhausted pool instead of failing fast");
+        }
+    }
+
+    private void checkDriver(HikariDataSource hikari, List<String> warnings) {
+        String url = hikari.getJdbcUrl();
+        if (url == null || !url.startsWith("jdbc:mysql:")) {
+            return;
+        }
+        Map<String, String> driverProperties = driverProperties(url, hikari.getDataSourceProperties());
+        if (!"true".equalsIgnoreCase(driverProperties.get("cachePrepStmts"))) {
+            warnings.add("cachePrepStmts is off, so the driver prepares every statement again");
+        }
+        if (!"true".equalsIgnoreCase(driverProperties.get("useServerPrepStmts"))) {
+            warnings.add("useServerPrepStmts is off, so the server parses every statement again");
+        }
+        if (!"true".equalsIgnoreCase(driverProperties.get("rewriteBatchedStatements"))) {
+            warnings.add("rewriteBatchedStatements is off, so JDBC batches are sent one row at a time");
+        }
+        if ("true".equalsIgnoreCase(driverProperties.get("profileSQL"))) {
+            warnings.add("profileSQL=true logs timing for every statement");
+        }
+        if ("true".equalsIgnoreCase(driverProperties.get("useUsageAdvisor"))) {
+            warnings.add("useUsageAdvisor=true inspects every result set");
+        }
+        if ("true".equalsIgnoreCase(driverProperties.get("autoReconnect"))) {
+            warnings.add("autoReconnect=true masks broken connections; let the pool replace them instead");
+        }
+    }
+
+    /**
+     * Driver properties with URL parameters overriding pool-supplied ones, as Connector/J applies them
+     */
+    static Map<String, String> driverProperties(String url, Properties dataSourceProperties) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        dataSourceProperties.forEach((key, value) -> properties.put(String.valueOf(key), String.valueOf(value)));
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            for (String pair : url.substring(query + 1).split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    properties.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return properties;
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private boolean isTrue(String property) {
+        return environment.getProperty(property, Boolean.class, false);
+    }
+
+    private boolean isDebug(String property) {
+        String level = environment.getProperty(property, "");
+        return level.equalsIgnoreCase("DEBUG") || level.equalsIgnoreCase("TRACE");
+    }
+}
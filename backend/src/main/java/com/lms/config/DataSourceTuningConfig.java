@@ -0,0 +1,93 @@
+package com.lms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Applies {@link DataSourceTuningProperties} to the HikariCP datasource and publishes
+ * pool and statement cache meters.
+ *
+ * Spring Boot already publishes hikaricp.connections.* (active, idle, pending and
+ * the acquire timer for wait time); this adds pool saturation and, on MySQL, the
+ * server-side statement cache counters.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceTuningConfig {
+
+    /**
+     * Tune the pool before it starts; lms.datasource.pool.* takes precedence over
+     * spring.datasource.hikari.*
+     */
+    @Bean
+    static BeanPostProcessor hikariTuningPostProcessor(ObjectProvider<DataSourceTuningProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    apply(properties.getObject(), dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourcePoolSaturationMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return registry -> { };
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        return registry -> Gauge.builder("lms.datasource.pool.saturation", hikari, DataSourceTuningConfig::saturation)
+                .description("Share of the maximum pool size currently checked out")
+                .tag("pool", String.valueOf(hikari.getPoolName()))
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder statementCacheMetrics(DataSource dataSource) {
+        return new StatementCacheMetrics(dataSource);
+    }
+
+    static void apply(DataSourceTuningProperties properties, HikariDataSource dataSource) {
+        DataSourceTuningProperties.Pool pool = properties.getPool();
+        dataSource.setMaximumPoolSize(pool.getMaximumSize());
+        dataSource.setMinimumIdle(Math.min(pool.getMinimumIdle(), pool.getMaximumSize()));
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(pool.getMaxLifetime().toMillis());
+        dataSource.setLeakDetectionThreshold(pool.getLeakDetectionThreshold().toMillis());
+
+        String url = dataSource.getJdbcUrl();
+        if (url == null || !url.startsWith("jdbc:mysql:")) {
+            return;
+        }
+        DataSourceTuningProperties.Statements statements = properties.getStatements();
+        dataSource.addDataSourceProperty("cachePrepStmts", statements.isCachePrepStmts());
+        dataSource.addDataSourceProperty("prepStmtCacheSize", statements.getPrepStmtCacheSize());
+        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", statements.getPrepStmtCacheSqlLimit());
+        dataSource.addDataSourceProperty("useServerPrepStmts", statements.isUseServerPrepStmts());
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", statements.isRewriteBatchedStatements());
+        dataSource.addDataSourceProperty("cacheResultSetMetadata", statements.isCacheResultSetMetadata());
+        dataSource.addDataSourceProperty("cacheServerConfiguration", statements.isCacheServerConfiguration());
+        dataSource.addDataSourceProperty("elideSetAutoCommits", statements.isElideSetAutoCommits());
+        dataSource.addDataSourceProperty("useLocalSessionState", statements.isUseLocalSessionState());
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        if (dataSource.getHikariPoolMXBean() == null) {
+            return 0;
+        }
+        return (double) dataSource.getHikariPoolMXBean().getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,122 @@
+package com.lms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and JDBC statement cache settings, bound from lms.datasource.*.
+ *
+ * The pool settings are applied to the HikariCP datasource before it starts. The
+ * statement settings are passed to MySQL Connector/J as driver properties and are
+ * skipped for other databases.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "lms.datasource")
+public class DataSourceTuningProperties {
+
+    private final Pool pool = new Pool();
+    private final Statements statements = new Statements();
+
+    public Pool getPool() { return pool; }
+
+    public Statements getStatements() { return statements; }
+
+    public static class Pool {
+
+        /** Upper bound on open connections; keep it near the number of DB cores times two */
+        private int maximumSize = 10;
+
+        /** Idle connections kept open; equal to maximumSize gives a fixed-size pool */
+        private int minimumIdle = 10;
+
+        /** Longest a caller waits for a connection before failing */
+        private Duration connectionTimeout = Duration.ofSeconds(5);
+
+        /** Idle time after which connections above minimumIdle are closed */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /** Connection lifetime; keep it below the server's wait_timeout */
+        private Duration maxLifetime = Duration.ofMinutes(30);
+
+        /** Log connections held longer than this; zero disables leak detection */
+        private Duration leakDetectionThreshold = Duration.ZERO;
+
+        public int getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(int maximumSize) { this.maximumSize = maximumSize; }
+
+        public int getMinimumIdle() { return minimumIdle; }
+        public void setMinimumIdle(int minimumIdle) { this.minimumIdle = minimumIdle; }
+
+        public Duration getConnectionTimeout() { return connectionTimeout; }
+        public void setConnectionTimeout(Duration connectionTimeout) { this.connectionTimeout = connectionTimeout; }
+
+        public Duration getIdleTimeout() { return idleTimeout; }
+        public void setIdleTimeout(Duration idleTimeout) { this.idleTimeout = idleTimeout; }
+
+        public Duration getMaxLifetime() { return maxLifetime; }
+        public void setMaxLifetime(Duration maxLifetime) { this.maxLifetime = maxLifetime; }
+
+        public Duration getLeakDetectionThreshold() { return leakDetectionThreshold; }
+        public void setLeakDetectionThreshold(Duration leakDetectionThreshold) { this.leakDetectionThreshold = leakDetectionThreshold; }
+    }
+
+    public static class Statements {
+
+        /** Cache prepared statements per connection in the driver */
+        private boolean cachePrepStmts = true;
+
+        /** Prepared statements cached per connection */
+        private int prepStmtCacheSize = 250;
+
+        /** Longest SQL text, in characters, that is cached */
+        private int prepStmtCacheSqlLimit = 2048;
+
+        /** Prepare on the server so cached statements skip parsing and planning */
+        private boolean useServerPrepStmts = true;
+
+        /** Send JDBC batches as multi-row statements */
+        private boolean rewriteBatchedStatements = true;
+
+        /** Cache result set metadata of cached statements */
+        private boolean cacheResultSetMetadata = true;
+
+        /** Cache server variables instead of reading them on every new connection */
+        private boolean cacheServerConfiguration = true;
+
+        /** Skip SET autocommit when the session already has the requested value */
+        private boolean elideSetAutoCommits = true;
+
+        /** Track autocommit and isolation locally instead of querying the server */
+        private boolean useLocalSessionState = true;
+
+        public boolean isCachePrepStmts() { return cachePrepStmts; }
+        public void setCachePrepStmts(boolean cachePrepStmts) { this.cachePrepStmts = cachePrepStmts; }
+
+        public int getPrepStmtCacheSize() { return prepStmtCacheSize; }
+        public void setPrepStmtCacheSize(int prepStmtCacheSize) { this.prepStmtCacheSize = prepStmtCacheSize; }
+
+        public int getPrepStmtCacheSqlLimit() { return prepStmtCacheSqlLimit; }
+        public void setPrepStmtCacheSqlLimit(int prepStmtCacheSqlLimit) { this.prepStmtCacheSqlLimit = prepStmtCacheSqlLimit; }
+
+        public boolean isUseServerPrepStmts() { return useServerPrepStmts; }
+        public void setUseServerPrepStmts(boolean useServerPrepStmts) { this.useServerPrepStmts = useServerPrepStmts; }
+
+        public boolean isRewriteBatchedStatements() { return rewriteBatchedStatements; }
+        public void setRewriteBatchedStatements(boolean rewriteBatchedStatements) { this.rewriteBatchedStatements = rewriteBatchedStatements; }
+
+        public boolean isCacheResultSetMetadata() { return cacheResultSetMetadata; }
+        public void setCacheResultSetMetadata(boolean cacheResultSetMetadata) { this.cacheResultSetMetadata = cacheResultSetMetadata; }
+
+        public boolean isCacheServerConfiguration() { return cacheServerConfiguration; }
+        public void setCacheServerConfiguration(boolean cacheServerConfiguration) { this.cacheServerConfiguration = cacheServerConfiguration; }
+
+        public boolean isElideSetAutoCommits() { return elideSetAutoCommits; }
+        public void setElideSetAutoCommits(boolean elideSetAutoCommits) { this.elideSetAutoCommits = elideSetAutoCommits; }
+
+        public boolean isUseLocalSessionState() { return useLocalSessionState; }
+        public void setUseLocalSessionState(boolean useLocalSessionState) { this.useLocalSessionState = useLocalSessionState; }
+    }
+}
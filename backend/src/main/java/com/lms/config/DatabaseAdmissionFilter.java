@@ -0,0 +1,94 @@
+package com.lms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests in flight relative to the connection pool.
+ *
+ * With platform threads Tomcat's worker pool bounds concurrency. Virtual threads
+ * remove that bound, and every request beyond the pool size would otherwise park
+ * on Hikari until its connection timeout. Requests that cannot be admitted within
+ * the timeout get 503 with Retry-After instead.
+ *
+ * The permit is held until the filter chain returns. Writing the body still uses the
+ * database: open-in-view keeps the request's connection, lazy associations load while
+ * JSON is serialised, and the export endpoints stream rows as they write them.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public class DatabaseAdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long timeoutNanos;
+    private final Counter rejected;
+
+    public DatabaseAdmissionFilter(int maxConcurrentRequests, Duration timeout, MeterRegistry meterRegistry) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.timeoutNanos = timeout.toNanos();
+        this.rejected = Counter.builder("lms.db.admission.rejected")
+                .description("Requests turned away because the database admission limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("lms.db.admission.active", this, DatabaseAdmissionFilter::getActiveRequests)
+                .description("Requests currently holding a database admission permit")
+                .register(meterRegistry);
+        Gauge.builder("lms.db.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a database admission permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server busy, retry shortly");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getActiveRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+}
@@ -0,0 +1,18 @@
+package com.lms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA auditing for @CreatedDate and @LastModifiedDate fields
+ * 
+ * Kept off the application class so web slice tests, which start without JPA,
+ * do not try to register the auditing handler.
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -0,0 +1,106 @@
+package com.lms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL prepared statement counters from SHOW GLOBAL STATUS.
+ *
+ * With server-side prepared statements cached by the driver, every Com_stmt_prepare
+ * is a cache miss and every other Com_stmt_execute a hit. The counters are server-wide
+ * and cumulative since the server started, and are read at most once per refresh
+ * interval however often the meters are scraped. Nothing is registered for other
+ * databases.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public class StatementCacheMetrics implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCacheMetrics.class);
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(15);
+    private static final String STATUS_QUERY = "SHOW GLOBAL STATUS WHERE Variable_name IN "
+            + "('Com_stmt_prepare', 'Com_stmt_execute', 'Com_stmt_reprepare')";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private long refreshedAt;
+    private long prepared;
+    private long executed;
+    private long reprepared;
+
+    public StatementCacheMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!isMySql()) {
+            return;
+        }
+        FunctionCounter.builder("lms.datasource.statements.prepared", this, metrics -> metrics.refresh().prepared)
+                .description("Statements prepared on the server (statement cache misses)")
+                .register(registry);
+        FunctionCounter.builder("lms.datasource.statements.executed", this, metrics -> metrics.refresh().executed)
+                .description("Prepared statement executions on the server")
+                .register(registry);
+        FunctionCounter.builder("lms.datasource.statements.reprepared", this, metrics -> metrics.refresh().reprepared)
+                .description("Prepared statements the server re-prepared after a schema change")
+                .register(registry);
+        Gauge.builder("lms.datasource.statements.cache.hit.ratio", this, StatementCacheMetrics::hitRatio)
+                .description("Share of prepared statement executions that reused a prepared statement")
+                .register(registry);
+    }
+
+    private double hitRatio() {
+        refresh();
+        return executed == 0 ? 0 : Math.max(0, 1 - (double) prepared / executed);
+    }
+
+    private synchronized StatementCacheMetrics refresh() {
+        long now = System.nanoTime();
+        if (refreshedAt != 0 && now - refreshedAt < REFRESH_INTERVAL_NANOS) {
+            return this;
+        }
+        refreshedAt = now;
+        try {
+            jdbcTemplate.query(STATUS_QUERY, rs -> {
+                long value = rs.getLong(2);
+                switch (rs.getString(1).toLowerCase()) {
+                    case "com_stmt_prepare" -> prepared = value;
+                    case "com_stmt_execute" -> executed = value;
+                    case "com_stmt_reprepare" -> reprepared = value;
+                    default -> { }
+                }
+            });
+        } catch (RuntimeException e) {
+            // Keep the last values; a scrape must not fail because the database is busy
+            log.debug("Could not read statement counters: {}", e.getMessage());
+        }
+        return this;
+    }
+
+    private boolean isMySql() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return false;
+            }
+            String url = dataSource.unwrap(HikariDataSource.class).getJdbcUrl();
+            return url != null && url.startsWith("jdbc:mysql:");
+        } catch (SQLException e) {
+            log.warn("Could not inspect the datasource, statement cache metrics disabled: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.lms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Pool-sizing guard for the virtual-thread execution mode.
+ *
+ * spring.threads.virtual.enabled switches Tomcat request handling and the @Async
+ * executor to virtual threads (Java 21+). This configuration is only active in that
+ * mode and admits at most requests-per-connection requests per pooled connection.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public FilterRegistrationBean<DatabaseAdmissionFilter> databaseAdmissionFilter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${lms.threads.db-admission.requests-per-connection:2}") int requestsPerConnection,
+            @Value("${lms.threads.db-admission.timeout:PT2S}") Duration timeout) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            throw new IllegalStateException("Virtual threads require a HikariCP datasource to size the admission limit");
+        }
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        DatabaseAdmissionFilter filter = new DatabaseAdmissionFilter(
+                poolSize * requestsPerConnection, timeout, meterRegistry);
+        log.info("Virtual threads enabled; admitting {} concurrent requests for {} pooled connections",
+                filter.getMaxConcurrentRequests(), poolSize);
+
+        FilterRegistrationBean<DatabaseAdmissionFilter> registration = new FilterRegistrationBean<>(filter);
+        // Ahead of Spring Security so that rejected requests cost no session or user lookups
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,123 @@
+package com.lms.controller;
+
+import com.lms.delivery.DeliverySnapshot;
+import com.lms.delivery.DeliverySnapshotService;
+import com.lms.dto.AnswerDTO;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.grading.AnswerFeedback;
+import com.lms.grading.AnswerKeyService;
+import com.lms.grading.GradingEngine;
+import com.lms.grading.GradingResult;
+import com.lms.grading.ItemAnalysis;
+import com.lms.grading.ItemAnalysisReport;
+import com.lms.service.AssessmentAttemptService;
+import com.lms.service.EnrollmentService;
+import com.lms.service.UserService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/assessments")
+@CrossOrigin(origins = "http://localhost:3000")
+public class AssessmentController {
+
+    @Autowired
+    private GradingEngine gradingEngine;
+
+    @Autowired
+    private AnswerKeyService answerKeyService;
+
+    @Autowired
+    private ItemAnalysis itemAnalysis;
+
+    @Autowired
+    private DeliverySnapshotService deliverySnapshotService;
+
+    @Autowired
+    private AssessmentAttemptService attemptService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @GetMapping("/{assessmentId}/delivery")
+    public ResponseEntity<byte[]> getDelivery(@PathVariable Long assessmentId, WebRequest request,
+                                              Authentication authentication) {
+        User user = userService.findByEmail(authentication.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        DeliverySnapshot snapshot = deliverySnapshotService.getOpenSnapshot(assessmentId);
+        // Only the course's own students, its instructor and admins may see the questions
+        if (user.getRole() != Role.ADMIN
+                && !user.getId().equals(snapshot.getInstructorId())
+                && !enrollmentService.isStudentEnrolled(user.getId(), snapshot.getCourseId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (request.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
+
+    @PostMapping("/{assessmentId}/grading")
+    public ResponseEntity<GradingResult> gradeAttempts(
+            @PathVariable Long assessmentId,
+            @RequestParam(defaultValue = "false") boolean regrade,
+            Authentication authentication) {
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        GradingResult result = regrade
+                ? gradingEngine.regradeAttempts(assessmentId)
+                : gradingEngine.gradePendingAttempts(assessmentId);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/{assessmentId}/questions/{questionId}/feedback")
+    public ResponseEntity<AnswerFeedback> checkAnswer(
+            @PathVariable Long assessmentId,
+            @PathVariable Long questionId,
+            @RequestParam Long attemptId,
+            @Valid @RequestBody AnswerDTO answer,
+            Authentication authentication) {
+        User student = userService.findByEmail(authentication.getName()).orElse(null);
+        if (student == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Feedback reveals the answer key, so it is only given on the caller's own attempt
+        // at an assessment that opted in
+        if (!attemptService.allowsFeedback(attemptId, assessmentId, student)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(answerKeyService.check(assessmentId, questionId,
+                answer.getSelectedOptionIds(), answer.getAnswerText()));
+    }
+
+    @GetMapping("/{assessmentId}/item-analysis")
+    public ResponseEntity<ItemAnalysisReport> getItemAnalysis(
+            @PathVariable Long assessmentId,
+            Authentication authentication) {
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(itemAnalysis.getReport(assessmentId));
+    }
+}
@@ -0,0 +1,65 @@
+package com.lms.controller;
+
+import com.lms.dto.AnswerDTO;
+import com.lms.dto.AttemptSubmissionResult;
+import com.lms.entity.User;
+import com.lms.repository.AnswerJournalEntry;
+import com.lms.service.AssessmentAttemptService;
+import com.lms.service.UserService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/attempts")
+@CrossOrigin(origins = "http://localhost:3000")
+public class AttemptController {
+
+    @Autowired
+    private AssessmentAttemptService attemptService;
+
+    @Autowired
+    private UserService userService;
+
+    @PutMapping("/{attemptId}/answers/{questionId}")
+    public ResponseEntity<Void> autosave(
+            @PathVariable Long attemptId,
+            @PathVariable Long questionId,
+            @Valid @RequestBody AnswerDTO answer,
+            Authentication authentication) {
+        User student = userService.findByEmail(authentication.getName()).orElse(null);
+        if (student == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (attemptService.autosave(attemptId, questionId, answer, student)) {
+            return ResponseEntity.accepted().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{attemptId}/answers")
+    public ResponseEntity<List<AnswerJournalEntry>> getSavedAnswers(
+            @PathVariable Long attemptId,
+            Authentication authentication) {
+        User student = userService.findByEmail(authentication.getName()).orElse(null);
+        if (student == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(attemptService.getSavedAnswers(attemptId, student));
+    }
+
+    @PostMapping("/{attemptId}/submit")
+    public ResponseEntity<AttemptSubmissionResult> submit(
+            @PathVariable Long attemptId,
+            Authentication authentication) {
+        User student = userService.findByEmail(authentication.getName()).orElse(null);
+        if (student == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(attemptService.submit(attemptId, student));
+    }
+}
@@ -1,11 +1,14 @@
 package com.lms.controller;
 
+import com.lms.dto.PrincipalView;
 import com.lms.dto.UserRegistrationDTO;
 import com.lms.entity.User;
 import com.lms.enums.Role;
+import com.lms.service.OAuth2ProvisioningService;
 import com.lms.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -13,7 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/auth")
@@ -23,6 +26,9 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private OAuth2ProvisioningService oauth2ProvisioningService;
+
     @PostMapping("/register")
     public ResponseEntity<User> register(@Valid @RequestBody UserRegistrationDTO userDTO) {
         if (userService.emailExists(userDTO.getEmail())) {
@@ -46,57 +52,20 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<Map<String, Object>> getCurrentUser(Authentication authentication) {
+    public CompletableFuture<ResponseEntity<PrincipalView>> getCurrentUser(Authentication authentication) {
         if (authentication == null) {
-            return ResponseEntity.unauthorized().build();
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
         }
 
-        Map<String, Object> userInfo = new HashMap<>();
-        
-        if (authentication.getPrincipal() instanceof OAuth2User) {
-            OAuth2User oauth2User = (OAuth2User) authentication.getPrincipal();
-            String email = oauth2User.getAttribute("email");
-            String name = oauth2User.getAttribute("name");
-            String googleId = oauth2User.getAttribute("sub");
-            
-            Optional<User> userOpt = userService.findByEmail(email);
-            User user;
-            
-            if (userOpt.isEmpty()) {
-                // Create new user from OAuth2 data
-                user = new User();
-                user.setEmail(email);
-                user.setFirstName(name != null ? name.split(" ")[0] : "");
-                user.setLastName(name != null && name.split(" ").length > 1 ? name.split(" ")[1] : "");
-                user.setGoogleId(googleId);
-                user.setRole(Role.STUDENT);
-                user = userService.createUser(user);
-            } else {
-                user = userOpt.get();
-            }
-            
-            userInfo.put("id", user.getId());
-            userInfo.put("email", user.getEmail());
-            userInfo.put("firstName", user.getFirstName());
-            userInfo.put("lastName", user.getLastName());
-            userInfo.put("role", user.getRole());
-            userInfo.put("active", user.isActive());
-        } else {
-            String email = authentication.getName();
-            Optional<User> userOpt = userService.findByEmail(email);
-            
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                userInfo.put("id", user.getId());
-                userInfo.put("email", user.getEmail());
-                userInfo.put("firstName", user.getFirstName());
-                userInfo.put("lastName", user.getLastName());
-                userInfo.put("role", user.getRole());
-                userInfo.put("active", user.isActive());
-            }
+        if (authentication.getPrincipal() instanceof OAuth2User oauth2User) {
+            return oauth2ProvisioningService.resolve(oauth2User).thenApply(ResponseEntity::ok);
         }
-        
-        return ResponseEntity.ok(userInfo);
+
+        ResponseEntity<PrincipalView> response = userService.findByEmail(authentication.getName())
+                .map(PrincipalView::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        return CompletableFuture.completedFuture(response);
     }
 
     @PostMapping("/logout")
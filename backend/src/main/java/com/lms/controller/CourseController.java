@@ -1,6 +1,8 @@
 package com.lms.controller;
 
 import com.lms.dto.CourseCreateDTO;
+import com.lms.dto.CourseDetailDTO;
+import com.lms.dto.CourseSummaryDTO;
 import com.lms.entity.Course;
 import com.lms.entity.User;
 import com.lms.enums.CourseStatus;
@@ -29,7 +31,7 @@ public class CourseController {
     private UserService userService;
 
     @GetMapping
-    public ResponseEntity<Page<Course>> getAllCourses(
+    public ResponseEntity<Page<CourseSummaryDTO>> getAllCourses(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -37,7 +39,7 @@ public class CourseController {
     }
 
     @GetMapping("/published")
-    public ResponseEntity<Page<Course>> getPublishedCourses(
+    public ResponseEntity<Page<CourseSummaryDTO>> getPublishedCourses(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -45,7 +47,7 @@ public class CourseController {
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<Page<Course>> getFeaturedCourses(
+    public ResponseEntity<Page<CourseSummaryDTO>> getFeaturedCourses(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
@@ -53,7 +55,7 @@ public class CourseController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<Course>> searchCourses(
+    public ResponseEntity<Page<CourseSummaryDTO>> searchCourses(
             @RequestParam String query,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -62,8 +64,8 @@ public class CourseController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
-        return courseService.findById(id)
+    public ResponseEntity<CourseDetailDTO> getCourseById(@PathVariable Long id) {
+        return courseService.getCourseDetail(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
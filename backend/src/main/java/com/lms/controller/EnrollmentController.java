@@ -1,9 +1,12 @@
 package com.lms.controller;
 
+import com.lms.dto.BulkEnrollmentResult;
+import com.lms.dto.CursorPage;
 import com.lms.entity.Course;
 import com.lms.entity.Enrollment;
 import com.lms.entity.User;
 import com.lms.enums.EnrollmentStatus;
+import com.lms.enums.Role;
 import com.lms.service.CourseService;
 import com.lms.service.EnrollmentService;
 import com.lms.service.UserService;
@@ -11,10 +14,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -44,6 +53,38 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollment);
     }
 
+    @PostMapping("/course/{courseId}/bulk")
+    public ResponseEntity<BulkEnrollmentResult> bulkEnroll(@PathVariable Long courseId,
+                                                           @RequestBody List<Long> studentIds,
+                                                           Authentication authentication) {
+        Course course = courseService.findById(courseId).orElse(null);
+        if (course == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!canManageEnrollments(course, authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(enrollmentService.enrollStudents(course, studentIds));
+    }
+
+    @PostMapping(value = "/course/{courseId}/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkEnrollmentResult> bulkEnrollFromCsv(@PathVariable Long courseId,
+                                                                  @RequestParam("file") MultipartFile file,
+                                                                  Authentication authentication) throws IOException {
+        Course course = courseService.findById(courseId).orElse(null);
+        if (course == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!canManageEnrollments(course, authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(enrollmentService.enrollStudentsFromCsv(course, csv));
+        }
+    }
+
     @DeleteMapping("/unenroll/{courseId}")
     public ResponseEntity<Void> unenrollFromCourse(@PathVariable Long courseId, Authentication authentication) {
         User student = userService.findByEmail(authentication.getName()).orElse(null);
@@ -109,6 +150,24 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollments);
     }
 
+    @GetMapping("/course/{courseId}/scroll")
+    public ResponseEntity<CursorPage<Enrollment>> scrollCourseEnrollments(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        Course course = courseService.findById(courseId).orElse(null);
+        if (course == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!canManageEnrollments(course, authentication)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        Window<Enrollment> enrollments = enrollmentService.scrollEnrollmentsByCourse(course, CursorPage.decode(cursor), size);
+        return ResponseEntity.ok(CursorPage.of(enrollments));
+    }
+
     @PutMapping("/{enrollmentId}/status")
     public ResponseEntity<Enrollment> updateEnrollmentStatus(
             @PathVariable Long enrollmentId,
@@ -134,4 +193,13 @@ public class EnrollmentController {
     public ResponseEntity<EnrollmentService.EnrollmentStatistics> getEnrollmentStatistics() {
         return ResponseEntity.ok(enrollmentService.getEnrollmentStatistics());
     }
-}
\ No newline at end of file
+
+    private boolean canManageEnrollments(Course course, Authentication authentication) {
+        User user = userService.findByEmail(authentication.getName()).orElse(null);
+        if (user == null) {
+            return false;
+        }
+        return user.getRole() == Role.ADMIN
+                || (course.getInstructor() != null && user.getId().equals(course.getInstructor().getId()));
+    }
+}
@@ -58,7 +58,7 @@ public class LearningPathController {
     public ResponseEntity<LearningPath> createLearningPath(@RequestBody LearningPath learningPath, Authentication authentication) {
         User instructor = userService.findByEmail(authentication.getName()).orElse(null);
         if (instructor != null) {
-            learningPath.setInstructor(instructor);
+            learningPath.setCreator(instructor);
         }
         LearningPath createdPath = learningPathService.createLearningPath(learningPath);
         return ResponseEntity.ok(createdPath);
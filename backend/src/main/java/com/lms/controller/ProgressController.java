@@ -1,20 +1,28 @@
 package com.lms.controller;
 
-import com.lms.entity.Course;
+import com.lms.dto.CursorPage;
+import com.lms.entity.LearningModule;
 import com.lms.entity.StudentProgress;
 import com.lms.entity.User;
-import com.lms.service.CourseService;
+import com.lms.enums.ExportFormat;
+import com.lms.enums.TimeGranularity;
+import com.lms.repository.projection.ModuleProgressStatisticsView;
+import com.lms.service.LearningModuleService;
 import com.lms.service.StudentProgressService;
 import com.lms.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -31,46 +39,59 @@ public class ProgressController {
     private UserService userService;
 
     @Autowired
-    private CourseService courseService;
+    private LearningModuleService learningModuleService;
 
     @PostMapping
     public ResponseEntity<StudentProgress> saveProgress(@RequestBody StudentProgress progress, Authentication authentication) {
         User student = userService.findByEmail(authentication.getName()).orElse(null);
-        if (student != null) {
-            progress.setStudent(student);
+        if (student == null || progress.getModule() == null || progress.getModule().getId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Checked up front: a buffered row for a missing module could only fail at flush time
+        LearningModule module = learningModuleService.getModuleById(progress.getModule().getId()).orElse(null);
+        if (module == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        progress.setStudent(student);
+        progress.setModule(module);
+        if (progressService.queueProgress(progress)) {
+            return ResponseEntity.accepted().body(progress);
         }
-        StudentProgress savedProgress = progressService.saveProgress(progress);
+        StudentProgress savedProgress = progressService.recordProgress(progress);
         return ResponseEntity.ok(savedProgress);
     }
 
-    @GetMapping("/course/{courseId}")
-    public ResponseEntity<List<StudentProgress>> getCourseProgress(
-            @PathVariable Long courseId, 
+    @GetMapping("/module/{moduleId}")
+    public ResponseEntity<StudentProgress> getModuleProgress(
+            @PathVariable Long moduleId, 
             Authentication authentication) {
         User student = userService.findByEmail(authentication.getName()).orElse(null);
-        Course course = courseService.findById(courseId).orElse(null);
+        LearningModule module = learningModuleService.getModuleById(moduleId).orElse(null);
         
-        if (student == null || course == null) {
+        if (student == null || module == null) {
             return ResponseEntity.badRequest().build();
         }
         
-        List<StudentProgress> progress = progressService.getStudentProgress(student, course);
-        return ResponseEntity.ok(progress);
+        return progressService.getProgress(student, module)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
-    @GetMapping("/course/{courseId}/percentage")
-    public ResponseEntity<Double> getCourseProgressPercentage(
-            @PathVariable Long courseId, 
+    @GetMapping("/module/{moduleId}/percentage")
+    public ResponseEntity<Double> getModuleProgressPercentage(
+            @PathVariable Long moduleId, 
             Authentication authentication) {
         User student = userService.findByEmail(authentication.getName()).orElse(null);
-        Course course = courseService.findById(courseId).orElse(null);
+        LearningModule module = learningModuleService.getModuleById(moduleId).orElse(null);
         
-        if (student == null || course == null) {
+        if (student == null || module == null) {
             return ResponseEntity.badRequest().build();
         }
         
-        Double progressPercentage = progressService.calculateCourseProgress(student, course);
-        return ResponseEntity.ok(progressPercentage);
+        Double completionPercentage = progressService.getProgress(student, module)
+                .map(StudentProgress::getCompletionPercentage)
+                .orElse(0.0);
+        return ResponseEntity.ok(completionPercentage);
     }
 
     @GetMapping("/instructor/statistics")
@@ -84,11 +105,21 @@ public class ProgressController {
         return ResponseEntity.ok(statistics);
     }
 
+    @GetMapping("/instructor/statistics/modules")
+    public ResponseEntity<List<ModuleProgressStatisticsView>> getInstructorModuleStatistics(Authentication authentication) {
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ResponseEntity.ok(progressService.getModuleProgressStatistics(instructor));
+    }
+
     @GetMapping("/instructor/students")
     public ResponseEntity<Page<StudentProgress>> getStudentsProgress(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Long moduleId,
             Authentication authentication) {
         
         User instructor = userService.findByEmail(authentication.getName()).orElse(null);
@@ -98,10 +129,10 @@ public class ProgressController {
         
         Pageable pageable = PageRequest.of(page, size);
         
-        if (courseId != null) {
-            Course course = courseService.findById(courseId).orElse(null);
-            if (course != null) {
-                Page<StudentProgress> progress = progressService.getProgressByCourse(course, pageable);
+        if (moduleId != null) {
+            LearningModule module = learningModuleService.getModuleById(moduleId).orElse(null);
+            if (module != null) {
+                Page<StudentProgress> progress = progressService.getProgressByModule(module, pageable);
                 return ResponseEntity.ok(progress);
             }
         }
@@ -109,6 +140,27 @@ public class ProgressController {
         return ResponseEntity.badRequest().build();
     }
 
+    @GetMapping("/instructor/students/scroll")
+    public ResponseEntity<CursorPage<StudentProgress>> scrollStudentsProgress(
+            @RequestParam Long moduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        LearningModule module = learningModuleService.getModuleById(moduleId).orElse(null);
+        if (module == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        Window<StudentProgress> progress = progressService.scrollProgressByModule(module, CursorPage.decode(cursor), size);
+        return ResponseEntity.ok(CursorPage.of(progress));
+    }
+
     @GetMapping("/analytics/date-range")
     public ResponseEntity<List<StudentProgress>> getProgressByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -124,6 +176,24 @@ public class ProgressController {
         return ResponseEntity.ok(progress);
     }
 
+    @GetMapping("/analytics/date-range/export")
+    public void exportProgressByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            Authentication authentication,
+            HttpServletResponse response) throws IOException {
+        
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        
+        startExport(response, format, "progress-date-range");
+        progressService.exportProgressByDateRange(startDate, endDate, format, response.getOutputStream());
+    }
+
     @GetMapping("/analytics/location")
     public ResponseEntity<List<StudentProgress>> getProgressByLocation(
             @RequestParam(required = false) String city,
@@ -139,6 +209,24 @@ public class ProgressController {
         return ResponseEntity.ok(progress);
     }
 
+    @GetMapping("/analytics/location/export")
+    public void exportProgressByLocation(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String country,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            Authentication authentication,
+            HttpServletResponse response) throws IOException {
+        
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        
+        startExport(response, format, "progress-location");
+        progressService.exportProgressByLocation(city, country, format, response.getOutputStream());
+    }
+
     @GetMapping("/analytics/monthly/{year}")
     public ResponseEntity<Map<String, Long>> getMonthlyProgress(
             @PathVariable int year,
@@ -152,4 +240,28 @@ public class ProgressController {
         Map<String, Long> monthlyProgress = progressService.getProgressByMonth(year);
         return ResponseEntity.ok(monthlyProgress);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/analytics/activity")
+    public ResponseEntity<Map<String, Long>> getActivityHistogram(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") TimeGranularity granularity,
+            @RequestParam(required = false) Long moduleId,
+            Authentication authentication) {
+        
+        User instructor = userService.findByEmail(authentication.getName()).orElse(null);
+        if (instructor == null || !instructor.isInstructor() || to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        Map<String, Long> histogram = progressService.getActivityHistogram(from, to, granularity, moduleId);
+        return ResponseEntity.ok(histogram);
+    }
+
+    private void startExport(HttpServletResponse response, ExportFormat format, String fileName) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"" + fileName + "." + format.name().toLowerCase() + "\"");
+    }
+}
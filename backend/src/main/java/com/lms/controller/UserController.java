@@ -1,5 +1,6 @@
 package com.lms.controller;
 
+import com.lms.dto.CursorPage;
 import com.lms.entity.User;
 import com.lms.enums.Role;
 import com.lms.service.UserService;
@@ -7,6 +8,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -60,6 +62,15 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get all users with cursor pagination (no total count)")
+    public ResponseEntity<CursorPage<User>> scrollAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Window<User> users = userService.scrollAllUsers(CursorPage.decode(cursor), size);
+        return ResponseEntity.ok(CursorPage.of(users));
+    }
+
     @GetMapping("/role/{role}")
     @Operation(summary = "Get users by role")
     public ResponseEntity<Page<User>> getUsersByRole(
@@ -0,0 +1,112 @@
+package com.lms.delivery;
+
+import com.lms.entity.Assessment;
+import com.lms.repository.projection.DeliveryRowView;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What a student receives when an assessment opens: its settings and questions with
+ * their options, without correct flags or explanations. Serialized once per snapshot.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class AssessmentDelivery {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String instructions;
+    private final Integer timeLimitMinutes;
+    private final Integer maxAttempts;
+    private final Double totalPoints;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final List<QuestionView> questions;
+
+    private AssessmentDelivery(Assessment assessment, List<QuestionView> questions) {
+        this.id = assessment.getId();
+        this.title = assessment.getTitle();
+        this.description = assessment.getDescription();
+        this.instructions = assessment.getInstructions();
+        this.timeLimitMinutes = assessment.getTimeLimitMinutes();
+        this.maxAttempts = assessment.getMaxAttempts();
+        this.totalPoints = assessment.getTotalPoints();
+        this.startDate = assessment.getStartDate();
+        this.endDate = assessment.getEndDate();
+        this.questions = questions;
+    }
+
+    /**
+     * Build the delivery view of an assessment
+     *
+     * @param assessment The assessment
+     * @param rows Delivery rows, grouped by question
+     * @return The delivery view
+     */
+    public static AssessmentDelivery from(Assessment assessment, List<DeliveryRowView> rows) {
+        List<QuestionView> questions = new ArrayList<>();
+        QuestionView current = null;
+        for (DeliveryRowView row : rows) {
+            if (current == null || !current.id.equals(row.getQuestionId())) {
+                current = new QuestionView(row.getQuestionId(), row.getQuestionText(), row.getQuestionType(),
+                        row.getPoints());
+                questions.add(current);
+            }
+            if (row.getOptionId() != null) {
+                current.options.add(new OptionView(row.getOptionId(), row.getOptionText()));
+            }
+        }
+        return new AssessmentDelivery(assessment, questions);
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getInstructions() { return instructions; }
+    public Integer getTimeLimitMinutes() { return timeLimitMinutes; }
+    public Integer getMaxAttempts() { return maxAttempts; }
+    public Double getTotalPoints() { return totalPoints; }
+    public LocalDateTime getStartDate() { return startDate; }
+    public LocalDateTime getEndDate() { return endDate; }
+    public List<QuestionView> getQuestions() { return questions; }
+
+    public static final class QuestionView {
+
+        private final Long id;
+        private final String questionText;
+        private final String questionType;
+        private final Double points;
+        private final List<OptionView> options = new ArrayList<>();
+
+        QuestionView(Long id, String questionText, String questionType, Double points) {
+            this.id = id;
+            this.questionText = questionText;
+            this.questionType = questionType;
+            this.points = points;
+        }
+
+        public Long getId() { return id; }
+        public String getQuestionText() { return questionText; }
+        public String getQuestionType() { return questionType; }
+        public Double getPoints() { return points; }
+        public List<OptionView> getOptions() { return options; }
+    }
+
+    public static final class OptionView {
+
+        private final Long id;
+        private final String optionText;
+
+        OptionView(Long id, String optionText) {
+            this.id = id;
+            this.optionText = optionText;
+        }
+
+        public Long getId() { return id; }
+        public String getOptionText() { return optionText; }
+    }
+}
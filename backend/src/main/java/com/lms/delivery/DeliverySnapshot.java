@@ -0,0 +1,60 @@
+package com.lms.delivery;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-rendered JSON of an {@link AssessmentDelivery} together with its ETag and the
+ * window in which it may be served.
+ *
+ * The body array is shared by every response and must not be modified.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class DeliverySnapshot {
+
+    private final long assessmentId;
+    private final long courseId;
+    private final long instructorId;
+    private final boolean active;
+    private final LocalDateTime opensAt;
+    private final LocalDateTime closesAt;
+    private final byte[] body;
+    private final String eTag;
+
+    public DeliverySnapshot(long assessmentId, long courseId, long instructorId, boolean active, LocalDateTime opensAt, LocalDateTime closesAt,
+                            byte[] body, String eTag) {
+        this.assessmentId = assessmentId;
+        this.courseId = courseId;
+        this.instructorId = instructorId;
+        this.active = active;
+        this.opensAt = opensAt;
+        this.closesAt = closesAt;
+        this.body = body;
+        this.eTag = eTag;
+    }
+
+    /**
+     * Whether students may be served the snapshot at a point in time
+     */
+    public boolean isOpenAt(LocalDateTime now) {
+        return active
+                && (opensAt == null || !now.isBefore(opensAt))
+                && (closesAt == null || !now.isAfter(closesAt));
+    }
+
+    /**
+     * Whether the assessment has closed for good at a point in time
+     */
+    public boolean isClosedAt(LocalDateTime now) {
+        return closesAt != null && now.isAfter(closesAt);
+    }
+
+    public long getAssessmentId() { return assessmentId; }
+    public long getCourseId() { return courseId; }
+    public long getInstructorId() { return instructorId; }
+    public LocalDateTime getOpensAt() { return opensAt; }
+    public LocalDateTime getClosesAt() { return closesAt; }
+    public byte[] getBody() { return body; }
+    public String getETag() { return eTag; }
+}
@@ -0,0 +1,167 @@
+package com.lms.delivery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongFunction;
+
+/**
+ * In-memory store of delivery snapshots, one per assessment.
+ *
+ * Entries are futures, so when many students open an assessment whose snapshot is
+ * missing only the first request builds it and the rest wait for that build. Edits
+ * to an assessment, its questions or their options evict the entry once they commit
+ * (see {@link com.lms.entity.AssessmentChangeListener}); a build that was running at the time
+ * still answers its waiters but is not kept. Eviction only reaches this node, and bulk
+ * updates skip it, so a snapshot is also rebuilt once it is older than its time to
+ * live; serving stays free of database reads in between. The store holds only
+ * assessments that are about to open or are open, so it is not size-bounded; closed
+ * ones are dropped by {@link #removeClosed}.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class DeliverySnapshotCache {
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    public DeliverySnapshotCache(MeterRegistry meterRegistry,
+                                 @Value("${lms.delivery.snapshot-ttl:PT1M}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("lms.cache.delivery.requests")
+                .tag("result", "hit")
+                .description("Delivery snapshots served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("lms.cache.delivery.requests")
+                .tag("result", "miss")
+                .description("Delivery snapshots built from the database")
+                .register(meterRegistry);
+        Gauge.builder("lms.cache.delivery.size", entries, ConcurrentMap::size)
+                .description("Delivery snapshots currently held in memory")
+                .register(meterRegistry);
+        Gauge.builder("lms.cache.delivery.bytes", this, DeliverySnapshotCache::bytes)
+                .description("Total size of the delivery snapshots held in memory")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the snapshot of an assessment, building it once on a miss
+     *
+     * @param assessmentId The assessment ID
+     * @param loader Builds the snapshot from the database
+     * @return The snapshot
+     */
+    public DeliverySnapshot get(long assessmentId, LongFunction<DeliverySnapshot> loader) {
+        Entry entry = entries.get(assessmentId);
+        if (entry != null && entry.isExpired(ttlNanos)) {
+            entries.remove(assessmentId, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            Entry created = new Entry();
+            entry = entries.putIfAbsent(assessmentId, created);
+            if (entry == null) {
+                misses.increment();
+                return build(assessmentId, created, loader);
+            }
+        }
+        hits.increment();
+        try {
+            return entry.snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Whether a snapshot of an assessment is held or being built
+     */
+    public boolean contains(long assessmentId) {
+        return entries.containsKey(assessmentId);
+    }
+
+    /**
+     * Drop the snapshot of an assessment
+     *
+     * @param assessmentId The assessment ID
+     */
+    public void evict(long assessmentId) {
+        entries.remove(assessmentId);
+    }
+
+    /**
+     * Drop snapshots of assessments that have closed
+     *
+     * @param now The current time
+     * @return Number of snapshots dropped
+     */
+    public int removeClosed(LocalDateTime now) {
+        int removed = 0;
+        for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+            DeliverySnapshot snapshot = completed(entry.getValue());
+            if (snapshot != null && snapshot.isClosedAt(now) && entries.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private DeliverySnapshot build(long assessmentId, Entry created, LongFunction<DeliverySnapshot> loader) {
+        try {
+            DeliverySnapshot snapshot = loader.apply(assessmentId);
+            created.snapshot.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            entries.remove(assessmentId, created);
+            created.snapshot.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private double bytes() {
+        long total = 0;
+        for (Entry entry : entries.values()) {
+            DeliverySnapshot snapshot = completed(entry);
+            if (snapshot != null) {
+                total += snapshot.getBody().length;
+            }
+        }
+        return total;
+    }
+
+    private static DeliverySnapshot completed(Entry entry) {
+        CompletableFuture<DeliverySnapshot> snapshot = entry.snapshot;
+        return snapshot.isDone() && !snapshot.isCompletedExceptionally() ? snapshot.join() : null;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<DeliverySnapshot> snapshot = new CompletableFuture<>();
+        private final long createdAt = System.nanoTime();
+
+        private boolean isExpired(long ttlNanos) {
+            return snapshot.isDone() && System.nanoTime() - createdAt >= ttlNanos;
+        }
+    }
+}
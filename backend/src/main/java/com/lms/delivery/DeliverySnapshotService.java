@@ -0,0 +1,120 @@
+package com.lms.delivery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.entity.Assessment;
+import com.lms.entity.Course;
+import com.lms.exception.ResourceNotFoundException;
+import com.lms.repository.AssessmentRepository;
+import com.lms.repository.QuestionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Serves assessments to students from pre-rendered, answer-stripped snapshots.
+ *
+ * A scheduled job builds the snapshot of every active assessment shortly before its
+ * start date, so when a timed exam opens and the whole class requests it at once,
+ * each request is answered from memory without a database read. Assessments without
+ * a start date, or whose snapshot was evicted by an edit, are built on first request.
+ * The snapshot is only served inside the assessment's start and end dates.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class DeliverySnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliverySnapshotService.class);
+
+    private final AssessmentRepository assessmentRepository;
+    private final QuestionRepository questionRepository;
+    private final DeliverySnapshotCache snapshotCache;
+    private final ObjectMapper objectMapper;
+    private final Duration prewarmLead;
+
+    public DeliverySnapshotService(AssessmentRepository assessmentRepository,
+                                   QuestionRepository questionRepository,
+                                   DeliverySnapshotCache snapshotCache,
+                                   ObjectMapper objectMapper,
+                                   @Value("${lms.delivery.prewarm-lead:PT10M}") Duration prewarmLead) {
+        this.assessmentRepository = assessmentRepository;
+        this.questionRepository = questionRepository;
+        this.snapshotCache = snapshotCache;
+        this.objectMapper = objectMapper;
+        this.prewarmLead = prewarmLead;
+    }
+
+    /**
+     * Get the delivery snapshot of an assessment that is currently open
+     *
+     * @param assessmentId The assessment ID
+     * @return The snapshot
+     * @throws ResourceNotFoundException if the assessment does not exist or is not open
+     */
+    public DeliverySnapshot getOpenSnapshot(Long assessmentId) {
+        DeliverySnapshot snapshot = snapshotCache.get(assessmentId, this::build);
+        if (!snapshot.isOpenAt(LocalDateTime.now())) {
+            throw new ResourceNotFoundException("Assessment not found with id: " + assessmentId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Build snapshots of assessments starting within the lead time and drop those of
+     * closed assessments. The window also reaches back by the lead time, so a restart
+     * just before or after an exam opens still warms it.
+     *
+     * @return Number of snapshots built
+     */
+    @Scheduled(fixedDelayString = "${lms.delivery.prewarm-interval:PT1M}")
+    public int prewarm() {
+        LocalDateTime now = LocalDateTime.now();
+        snapshotCache.removeClosed(now);
+
+        int built = 0;
+        List<Long> opening = assessmentRepository.findActiveIdsStartingBetween(now.minus(prewarmLead), now.plus(prewarmLead));
+        for (Long assessmentId : opening) {
+            if (snapshotCache.contains(assessmentId)) {
+                continue;
+            }
+            try {
+                snapshotCache.get(assessmentId, this::build);
+                built++;
+            } catch (RuntimeException e) {
+                // Students will trigger the build on first request instead
+                logger.warn("Could not prewarm delivery snapshot of assessment {}", assessmentId, e);
+            }
+        }
+        if (built > 0) {
+            logger.info("Prewarmed {} assessment delivery snapshots", built);
+        }
+        return built;
+    }
+
+    DeliverySnapshot build(long assessmentId) {
+        Assessment assessment = assessmentRepository.findWithCourseById(assessmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + assessmentId));
+        AssessmentDelivery delivery = AssessmentDelivery.from(assessment,
+                questionRepository.findDeliveryRows(assessmentId));
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(delivery);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize assessment " + assessmentId, e);
+        }
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        Course course = assessment.getCourse();
+        return new DeliverySnapshot(assessmentId, course.getId(), course.getInstructor().getId(),
+                Boolean.TRUE.equals(assessment.getIsActive()),
+                assessment.getStartDate(), assessment.getEndDate(), body, eTag);
+    }
+}
@@ -0,0 +1,31 @@
+package com.lms.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AnswerDTO {
+
+    @Size(max = 64, message = "At most 64 options can be selected")
+    private List<Long> selectedOptionIds = new ArrayList<>();
+
+    @Size(max = 5000, message = "Answer text must not exceed 5000 characters")
+    private String answerText;
+
+    public List<Long> getSelectedOptionIds() {
+        return selectedOptionIds;
+    }
+
+    public void setSelectedOptionIds(List<Long> selectedOptionIds) {
+        this.selectedOptionIds = selectedOptionIds;
+    }
+
+    public String getAnswerText() {
+        return answerText;
+    }
+
+    public void setAnswerText(String answerText) {
+        this.answerText = answerText;
+    }
+}
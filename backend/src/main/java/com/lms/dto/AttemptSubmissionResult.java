@@ -0,0 +1,29 @@
+package com.lms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of submitting an assessment attempt
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class AttemptSubmissionResult {
+
+    private final Long attemptId;
+    private final String status;
+    private final LocalDateTime submittedAt;
+    private final int questionsAnswered;
+
+    public AttemptSubmissionResult(Long attemptId, String status, LocalDateTime submittedAt, int questionsAnswered) {
+        this.attemptId = attemptId;
+        this.status = status;
+        this.submittedAt = submittedAt;
+        this.questionsAnswered = questionsAnswered;
+    }
+
+    public Long getAttemptId() { return attemptId; }
+    public String getStatus() { return status; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public int getQuestionsAnswered() { return questionsAnswered; }
+}
@@ -0,0 +1,84 @@
+package com.lms.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-row report of a bulk enrollment request
+ */
+public class BulkEnrollmentResult {
+
+    public enum RowStatus {
+        ENROLLED,
+        ALREADY_ENROLLED,
+        DUPLICATE,
+        COURSE_FULL,
+        NOT_FOUND,
+        INVALID
+    }
+
+    private Long courseId;
+    private int requested;
+    private int enrolled;
+    private int skipped;
+    private List<Row> rows = new ArrayList<>();
+
+    public BulkEnrollmentResult() {}
+
+    public BulkEnrollmentResult(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public void addRow(int row, String value, Long studentId, RowStatus status) {
+        rows.add(new Row(row, value, studentId, status));
+        requested++;
+        if (status == RowStatus.ENROLLED) {
+            enrolled++;
+        } else {
+            skipped++;
+        }
+    }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getEnrolled() { return enrolled; }
+    public void setEnrolled(int enrolled) { this.enrolled = enrolled; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public List<Row> getRows() { return rows; }
+    public void setRows(List<Row> rows) { this.rows = rows; }
+
+    public static class Row {
+        private int row;
+        private String value;
+        private Long studentId;
+        private RowStatus status;
+
+        public Row() {}
+
+        public Row(int row, String value, Long studentId, RowStatus status) {
+            this.row = row;
+            this.value = value;
+            this.studentId = studentId;
+            this.status = status;
+        }
+
+        public int getRow() { return row; }
+        public void setRow(int row) { this.row = row; }
+
+        public String getValue() { return value; }
+        public void setValue(String value) { this.value = value; }
+
+        public Long getStudentId() { return studentId; }
+        public void setStudentId(Long studentId) { this.studentId = studentId; }
+
+        public RowStatus getStatus() { return status; }
+        public void setStatus(RowStatus status) { this.status = status; }
+    }
+}
@@ -0,0 +1,276 @@
+package com.lms.dto;
+
+import com.lms.entity.Assessment;
+import com.lms.entity.Course;
+import com.lms.entity.CourseContent;
+import com.lms.entity.User;
+import com.lms.enums.ContentType;
+import com.lms.enums.CourseStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Course detail page: the course, its instructor, ordered contents and active assessments
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public class CourseDetailDTO {
+
+    private Long id;
+    private String title;
+    private String description;
+    private String shortDescription;
+    private CourseStatus status;
+    private String thumbnailUrl;
+    private String category;
+    private String level;
+    private String language;
+    private Integer durationHours;
+    private BigDecimal price;
+    private Integer maxStudents;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String prerequisites;
+    private String learningObjectives;
+    private String tags;
+    private Boolean featured;
+    private Integer enrollmentCount;
+    private Double rating;
+    private Integer reviewCount;
+    private Long instructorId;
+    private String instructorName;
+    private List<ContentItem> contents = new ArrayList<>();
+    private List<AssessmentItem> assessments = new ArrayList<>();
+
+    public CourseDetailDTO() {}
+
+    /**
+     * Build the detail view from a course loaded with its instructor and contents
+     * 
+     * @param course Course fetched through the course detail entity graph
+     * @param assessments The course's active assessments
+     */
+    public static CourseDetailDTO from(Course course, List<Assessment> assessments) {
+        CourseDetailDTO dto = new CourseDetailDTO();
+        dto.id = course.getId();
+        dto.title = course.getTitle();
+        dto.description = course.getDescription();
+        dto.shortDescription = course.getShortDescription();
+        dto.status = course.getStatus();
+        dto.thumbnailUrl = course.getThumbnailUrl();
+        dto.category = course.getCategory();
+        dto.level = course.getLevel();
+        dto.language = course.getLanguage();
+        dto.durationHours = course.getDurationHours();
+        dto.price = course.getPrice();
+        dto.maxStudents = course.getMaxStudents();
+        dto.startDate = course.getStartDate();
+        dto.endDate = course.getEndDate();
+        dto.prerequisites = course.getPrerequisites();
+        dto.learningObjectives = course.getLearningObjectives();
+        dto.tags = course.getTags();
+        dto.featured = course.getIsFeatured();
+        dto.enrollmentCount = course.getEnrollmentCount();
+        dto.rating = course.getRating();
+        dto.reviewCount = course.getReviewCount();
+
+        User instructor = course.getInstructor();
+        if (instructor != null) {
+            dto.instructorId = instructor.getId();
+            dto.instructorName = instructor.getFullName();
+        }
+        for (CourseContent content : course.getContents()) {
+            dto.contents.add(new ContentItem(content));
+        }
+        for (Assessment assessment : assessments) {
+            dto.assessments.add(new AssessmentItem(assessment));
+        }
+        return dto;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getShortDescription() { return shortDescription; }
+    public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
+
+    public CourseStatus getStatus() { return status; }
+    public void setStatus(CourseStatus status) { this.status = status; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getLevel() { return level; }
+    public void setLevel(String level) { this.level = level; }
+
+    public String getLanguage() { return language; }
+    public void setLanguage(String language) { this.language = language; }
+
+    public Integer getDurationHours() { return durationHours; }
+    public void setDurationHours(Integer durationHours) { this.durationHours = durationHours; }
+
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public Integer getMaxStudents() { return maxStudents; }
+    public void setMaxStudents(Integer maxStudents) { this.maxStudents = maxStudents; }
+
+    public LocalDateTime getStartDate() { return startDate; }
+    public void setStartDate(LocalDateTime startDate) { this.startDate = startDate; }
+
+    public LocalDateTime getEndDate() { return endDate; }
+    public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+
+    public String getPrerequisites() { return prerequisites; }
+    public void setPrerequisites(String prerequisites) { this.prerequisites = prerequisites; }
+
+    public String getLearningObjectives() { return learningObjectives; }
+    public void setLearningObjectives(String learningObjectives) { this.learningObjectives = learningObjectives; }
+
+    public String getTags() { return tags; }
+    public void setTags(String tags) { this.tags = tags; }
+
+    public Boolean getFeatured() { return featured; }
+    public void setFeatured(Boolean featured) { this.featured = featured; }
+
+    public Integer getEnrollmentCount() { return enrollmentCount; }
+    public void setEnrollmentCount(Integer enrollmentCount) { this.enrollmentCount = enrollmentCount; }
+
+    public Double getRating() { return rating; }
+    public void setRating(Double rating) { this.rating = rating; }
+
+    public Integer getReviewCount() { return reviewCount; }
+    public void setReviewCount(Integer reviewCount) { this.reviewCount = reviewCount; }
+
+    public Long getInstructorId() { return instructorId; }
+    public void setInstructorId(Long instructorId) { this.instructorId = instructorId; }
+
+    public String getInstructorName() { return instructorName; }
+    public void setInstructorName(String instructorName) { this.instructorName = instructorName; }
+
+    public List<ContentItem> getContents() { return contents; }
+    public void setContents(List<ContentItem> contents) { this.contents = contents; }
+
+    public List<AssessmentItem> getAssessments() { return assessments; }
+    public void setAssessments(List<AssessmentItem> assessments) { this.assessments = assessments; }
+
+    /**
+     * Course content outline entry; bodies and transcripts are loaded per lesson
+     */
+    public static class ContentItem {
+        private Long id;
+        private String title;
+        private String description;
+        private ContentType contentType;
+        private Integer durationMinutes;
+        private Integer orderIndex;
+        private Boolean free;
+        private String thumbnailUrl;
+
+        public ContentItem() {}
+
+        public ContentItem(CourseContent content) {
+            this.id = content.getId();
+            this.title = content.getTitle();
+            this.description = content.getDescription();
+            this.contentType = content.getContentType();
+            this.durationMinutes = content.getDurationMinutes();
+            this.orderIndex = content.getOrderIndex();
+            this.free = content.getIsFree();
+            this.thumbnailUrl = content.getThumbnailUrl();
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+
+        public ContentType getContentType() { return contentType; }
+        public void setContentType(ContentType contentType) { this.contentType = contentType; }
+
+        public Integer getDurationMinutes() { return durationMinutes; }
+        public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+
+        public Integer getOrderIndex() { return orderIndex; }
+        public void setOrderIndex(Integer orderIndex) { this.orderIndex = orderIndex; }
+
+        public Boolean getFree() { return free; }
+        public void setFree(Boolean free) { this.free = free; }
+
+        public String getThumbnailUrl() { return thumbnailUrl; }
+        public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+    }
+
+    /**
+     * Active assessment entry
+     */
+    public static class AssessmentItem {
+        private Long id;
+        private String title;
+        private String description;
+        private Integer timeLimitMinutes;
+        private Integer maxAttempts;
+        private Double passingScore;
+        private Double totalPoints;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+
+        public AssessmentItem() {}
+
+        public AssessmentItem(Assessment assessment) {
+            this.id = assessment.getId();
+            this.title = assessment.getTitle();
+            this.description = assessment.getDescription();
+            this.timeLimitMinutes = assessment.getTimeLimitMinutes();
+            this.maxAttempts = assessment.getMaxAttempts();
+            this.passingScore = assessment.getPassingScore();
+            this.totalPoints = assessment.getTotalPoints();
+            this.startDate = assessment.getStartDate();
+            this.endDate = assessment.getEndDate();
+        }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+
+        public Integer getTimeLimitMinutes() { return timeLimitMinutes; }
+        public void setTimeLimitMinutes(Integer timeLimitMinutes) { this.timeLimitMinutes = timeLimitMinutes; }
+
+        public Integer getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(Integer maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public Double getPassingScore() { return passingScore; }
+        public void setPassingScore(Double passingScore) { this.passingScore = passingScore; }
+
+        public Double getTotalPoints() { return totalPoints; }
+        public void setTotalPoints(Double totalPoints) { this.totalPoints = totalPoints; }
+
+        public LocalDateTime getStartDate() { return startDate; }
+        public void setStartDate(LocalDateTime startDate) { this.startDate = startDate; }
+
+        public LocalDateTime getEndDate() { return endDate; }
+        public void setEndDate(LocalDateTime endDate) { this.endDate = endDate; }
+    }
+}
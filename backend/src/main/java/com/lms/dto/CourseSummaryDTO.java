@@ -0,0 +1,120 @@
+package com.lms.dto;
+
+import com.lms.entity.Course;
+import com.lms.entity.User;
+import com.lms.enums.CourseStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Card-sized view of a course used by listing and search endpoints
+ */
+public class CourseSummaryDTO {
+
+    private Long id;
+    private String title;
+    private String shortDescription;
+    private String category;
+    private String level;
+    private String language;
+    private Integer durationHours;
+    private String thumbnailUrl;
+    private BigDecimal price;
+    private Double rating;
+    private Integer enrollmentCount;
+    private CourseStatus status;
+    private Boolean featured;
+    private Long instructorId;
+    private String instructorName;
+
+    public CourseSummaryDTO() {}
+
+    public CourseSummaryDTO(Long id, String title, String shortDescription, String category, String level,
+                            String language, Integer durationHours, String thumbnailUrl, BigDecimal price, Double rating,
+                            Integer enrollmentCount, CourseStatus status, Boolean featured,
+                            Long instructorId, String instructorName) {
+        this.id = id;
+        this.title = title;
+        this.shortDescription = shortDescription;
+        this.category = category;
+        this.level = level;
+        this.language = language;
+        this.durationHours = durationHours;
+        this.thumbnailUrl = thumbnailUrl;
+        this.price = price;
+        this.rating = rating;
+        this.enrollmentCount = enrollmentCount;
+        this.status = status;
+        this.featured = featured;
+        this.instructorId = instructorId;
+        this.instructorName = instructorName;
+    }
+
+    /**
+     * Build a summary from a managed course; touches the instructor association
+     */
+    public static CourseSummaryDTO from(Course course) {
+        User instructor = course.getInstructor();
+        return new CourseSummaryDTO(
+                course.getId(),
+                course.getTitle(),
+                course.getShortDescription(),
+                course.getCategory(),
+                course.getLevel(),
+                course.getLanguage(),
+                course.getDurationHours(),
+                course.getThumbnailUrl(),
+                course.getPrice(),
+                course.getRating(),
+                course.getEnrollmentCount(),
+                course.getStatus(),
+                course.getIsFeatured(),
+                instructor != null ? instructor.getId() : null,
+                instructor != null ? instructor.getFullName() : null);
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getShortDescription() { return shortDescription; }
+    public void setShortDescription(String shortDescription) { this.shortDescription = shortDescription; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getLevel() { return level; }
+    public void setLevel(String level) { this.level = level; }
+
+    public String getLanguage() { return language; }
+    public void setLanguage(String language) { this.language = language; }
+
+    public Integer getDurationHours() { return durationHours; }
+    public void setDurationHours(Integer durationHours) { this.durationHours = durationHours; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public Double getRating() { return rating; }
+    public void setRating(Double rating) { this.rating = rating; }
+
+    public Integer getEnrollmentCount() { return enrollmentCount; }
+    public void setEnrollmentCount(Integer enrollmentCount) { this.enrollmentCount = enrollmentCount; }
+
+    public CourseStatus getStatus() { return status; }
+    public void setStatus(CourseStatus status) { this.status = status; }
+
+    public Boolean getFeatured() { return featured; }
+    public void setFeatured(Boolean featured) { this.featured = featured; }
+
+    public Long getInstructorId() { return instructorId; }
+    public void setInstructorId(Long instructorId) { this.instructorId = instructorId; }
+
+    public String getInstructorName() { return instructorName; }
+    public void setInstructorName(String instructorName) { this.instructorName = instructorName; }
+}
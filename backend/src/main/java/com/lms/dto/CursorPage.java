@@ -0,0 +1,121 @@
+package com.lms.dto;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One window of a keyset-paginated listing.
+ *
+ * Unlike Page, no total count is computed: the next window is requested with the
+ * opaque {@link #getNextCursor() cursor}, which encodes the sort keys of the last
+ * row, so deep windows cost the same as the first one. Listings paginated this way
+ * sort on numeric keys (the entity ID), which is all a cursor can carry.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 200;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Wrap a scroll window, encoding the position after its last row when there is more
+     */
+    public static <T> CursorPage<T> of(Window<T> window) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode(window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPage<>(window.getContent(), window.hasNext(), nextCursor);
+    }
+
+    /**
+     * Resolve a cursor from a previous response; a blank cursor starts at the beginning
+     *
+     * @param cursor Cursor as returned in nextCursor, or null
+     * @return Keyset position to continue from
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String pair : decoded.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                keys.put(pair.substring(0, separator), Long.valueOf(pair.substring(separator + 1)));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and Base64 errors included; do not echo the input back
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encode a keyset position as an opaque URL-safe cursor
+     */
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded as a cursor");
+        }
+        String pairs = keyset.getKeys().entrySet().stream()
+                .map(entry -> {
+                    if (!(entry.getValue() instanceof Number number)) {
+                        throw new IllegalArgumentException("Cursor keys must be numeric: " + entry.getKey());
+                    }
+                    return entry.getKey() + "=" + number.longValue();
+                })
+                .collect(Collectors.joining("&"));
+        return ENCODER.encodeToString(pairs.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Window size for a requested page size, clamped to 1..{@link #MAX_SIZE}
+     */
+    public static Limit limit(int size) {
+        return Limit.of(Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
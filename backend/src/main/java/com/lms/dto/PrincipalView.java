@@ -0,0 +1,44 @@
+package com.lms.dto;
+
+import com.lms.entity.User;
+import com.lms.enums.Role;
+
+/**
+ * Compact, immutable view of the signed-in user returned by /auth/me.
+ *
+ * Instances are shared through the principal cache, so they carry no entity
+ * references and expose no setters.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class PrincipalView {
+
+    private final Long id;
+    private final String email;
+    private final String firstName;
+    private final String lastName;
+    private final Role role;
+    private final Boolean active;
+
+    public PrincipalView(Long id, String email, String firstName, String lastName, Role role, Boolean active) {
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.active = active;
+    }
+
+    public static PrincipalView from(User user) {
+        return new PrincipalView(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getRole(), user.isActive());
+    }
+
+    public Long getId() { return id; }
+    public String getEmail() { return email; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public Role getRole() { return role; }
+    public Boolean getActive() { return active; }
+}
@@ -0,0 +1,69 @@
+package com.lms.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * AggregateCounter entity holding a maintained count used by statistics endpoints
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "aggregate_counters", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"counter_name"})
+})
+public class AggregateCounter extends BaseEntity {
+
+    @NotBlank(message = "Counter name is required")
+    @Column(name = "counter_name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    private Long value = 0L;
+
+    /**
+     * Default constructor
+     */
+    public AggregateCounter() {
+        super();
+    }
+
+    /**
+     * Constructor with essential fields
+     * 
+     * @param name Counter name
+     * @param value Initial value
+     */
+    public AggregateCounter(String name, Long value) {
+        this();
+        this.name = name;
+        this.value = value;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getValue() {
+        return value;
+    }
+
+    public void setValue(Long value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateCounter{" +
+                "id=" + getId() +
+                ", name='" + name + '\'' +
+                ", value=" + value +
+                "}";
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "assessments")
+@EntityListeners(AssessmentChangeListener.class)
 public class Assessment extends BaseEntity {
 
     @NotBlank(message = "Assessment title is required")
@@ -60,6 +61,9 @@ public class Assessment extends BaseEntity {
     @Column(name = "instructions", columnDefinition = "TEXT")
     private String instructions;
 
+    @Column(name = "instant_feedback", nullable = false)
+    private Boolean instantFeedback = false;
+
     @OneToMany(mappedBy = "assessment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Question> questions = new HashSet<>();
 
@@ -240,6 +244,14 @@ public class Assessment extends BaseEntity {
         this.instructions = instructions;
     }
 
+    public Boolean getInstantFeedback() {
+        return instantFeedback;
+    }
+
+    public void setInstantFeedback(Boolean instantFeedback) {
+        this.instantFeedback = instantFeedback;
+    }
+
     public Set<Question> getQuestions() {
         return questions;
     }
@@ -0,0 +1,104 @@
+package com.lms.entity;
+
+import com.lms.delivery.DeliverySnapshotCache;
+import com.lms.grading.AnswerKeyCache;
+import com.lms.support.TransactionHooks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener on Assessment, Question and QuestionOption that evicts everything
+ * cached per assessment, the compiled answer key and the delivery snapshot, once the
+ * change commits.
+ *
+ * Eviction only reaches this node, so a question or option edit also force-increments
+ * the owning assessment's version when the transaction commits; answer keys on every
+ * node are checked against that version.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class AssessmentChangeListener {
+
+    private final ObjectProvider<AnswerKeyCache> answerKeyCache;
+    private final ObjectProvider<DeliverySnapshotCache> snapshotCache;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    /**
+     * Resolved lazily: Hibernate creates the listener while the EntityManagerFactory is
+     * being built, and JPA test slices have neither cache
+     */
+    public AssessmentChangeListener(ObjectProvider<AnswerKeyCache> answerKeyCache,
+                                    ObjectProvider<DeliverySnapshotCache> snapshotCache,
+                                    ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.answerKeyCache = answerKeyCache;
+        this.snapshotCache = snapshotCache;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void onEdit(Object entity) {
+        Assessment assessment = owningAssessment(entity);
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (assessment == null || assessment.getId() == null || factory == null) {
+            return;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+        if (entityManager != null && entityManager.contains(assessment)) {
+            // Applied once per transaction, just before it commits
+            entityManager.lock(assessment, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long assessmentId = assessmentId(entity);
+        if (assessmentId == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> evict(assessmentId));
+    }
+
+    private void evict(long assessmentId) {
+        answerKeyCache.ifAvailable(cache -> cache.evict(assessmentId));
+        snapshotCache.ifAvailable(cache -> cache.evict(assessmentId));
+    }
+
+    private static Assessment owningAssessment(Object entity) {
+        if (entity instanceof Question question) {
+            return question.getAssessment();
+        }
+        if (entity instanceof QuestionOption option && option.getQuestion() != null) {
+            return option.getQuestion().getAssessment();
+        }
+        return null;
+    }
+
+    private static Long assessmentId(Object entity) {
+        if (entity instanceof Assessment assessment) {
+            return assessment.getId();
+        }
+        if (entity instanceof Question question) {
+            return question.getAssessment() != null ? question.getAssessment().getId() : null;
+        }
+        if (entity instanceof QuestionOption option && option.getQuestion() != null) {
+            return assessmentId(option.getQuestion());
+        }
+        return null;
+    }
+}
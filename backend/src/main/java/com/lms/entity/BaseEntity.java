@@ -18,8 +18,19 @@ import java.util.Objects;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    /**
+     * Number of ids reserved per generator round trip; keep it a multiple of the JDBC batch size
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Ids come from a pooled table generator rather than IDENTITY so Hibernate can
+     * batch inserts; each round trip to id_generator reserves ID_ALLOCATION_SIZE ids.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "lms_id")
+    @TableGenerator(name = "lms_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "lms_id", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @CreatedDate
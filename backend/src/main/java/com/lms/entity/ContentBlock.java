@@ -1,11 +1,16 @@
 package com.lms.entity;
 
+import com.lms.config.CacheRegions;
 import com.lms.enums.ContentType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "content_blocks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CONTENT_BLOCK)
 public class ContentBlock extends BaseEntity {
 
     @NotNull(message = "Learning section is required")
@@ -1,10 +1,14 @@
 package com.lms.entity;
 
+import com.lms.config.CacheRegions;
 import com.lms.enums.CourseStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -19,8 +23,19 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
+@NamedEntityGraph(name = Course.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode("instructor"),
+        @NamedAttributeNode("contents")
+})
 public class Course extends BaseEntity {
 
+    /**
+     * Fetch plan for the course detail page: instructor and contents in one select
+     */
+    public static final String DETAIL_GRAPH = "Course.detail";
+
     @NotBlank(message = "Course title is required")
     @Size(max = 200, message = "Course title must not exceed 200 characters")
     @Column(name = "title", nullable = false, length = 200)
@@ -81,9 +96,17 @@ public class Course extends BaseEntity {
     @Column(name = "is_featured", nullable = false)
     private Boolean isFeatured = false;
 
-    @Column(name = "enrollment_count", nullable = false)
+    // Maintained by the atomic deltas in CourseCounterRepository; Hibernate never writes
+    // it, so saving a loaded course cannot put a stale count back
+    @Column(name = "enrollment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
     private Integer enrollmentCount = 0;
 
+    // Seats held by non-dropped enrollments of a capped course. Written only by the
+    // conditional updates in CourseCounterRepository, never by Hibernate after insert.
+    @Column(name = "reserved_seats", nullable = false, updatable = false)
+    private Integer reservedSeats = 0;
+
     @Column(name = "rating")
     private Double rating;
 
@@ -91,6 +114,7 @@ public class Course extends BaseEntity {
     private Integer reviewCount = 0;
 
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OrderBy("orderIndex ASC")
     private Set<CourseContent> contents = new HashSet<>();
 
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -143,15 +167,21 @@ public class Course extends BaseEntity {
     }
 
     /**
-     * Increments the enrollment count
+     * Increments the enrollment count in memory only
+     * 
+     * @deprecated read-modify-write on a versioned row; use CounterService, which applies atomic deltas
      */
+    @Deprecated
     public void incrementEnrollmentCount() {
         this.enrollmentCount++;
     }
 
     /**
-     * Decrements the enrollment count
+     * Decrements the enrollment count in memory only
+     * 
+     * @deprecated read-modify-write on a versioned row; use CounterService, which applies atomic deltas
      */
+    @Deprecated
     public void decrementEnrollmentCount() {
         if (this.enrollmentCount > 0) {
             this.enrollmentCount--;
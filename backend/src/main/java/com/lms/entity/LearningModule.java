@@ -1,12 +1,17 @@
 package com.lms.entity;
 
+import com.lms.config.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Set;
 
 @Entity
 @Table(name = "learning_modules")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEARNING_MODULE)
 public class LearningModule extends BaseEntity {
 
     @NotBlank(message = "Module title is required")
@@ -42,6 +47,7 @@ public class LearningModule extends BaseEntity {
     private Set<LearningObjective> learningObjectives;
 
     @OneToMany(mappedBy = "module", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEARNING_MODULE_SECTIONS)
     private Set<LearningSection> sections;
 
     @OneToMany(mappedBy = "module", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
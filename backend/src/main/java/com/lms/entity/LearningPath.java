@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -47,10 +48,14 @@ public class LearningPath extends BaseEntity {
     @Column(name = "is_published", nullable = false)
     private Boolean isPublished = false;
 
-    @Column(name = "enrollment_count", nullable = false)
+    // Counters are maintained by the atomic deltas in LearningPathRepository; Hibernate
+    // never writes them, so saving a loaded path cannot put stale counts back
+    @Column(name = "enrollment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
     private Integer enrollmentCount = 0;
 
-    @Column(name = "completion_count", nullable = false)
+    @Column(name = "completion_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
     private Integer completionCount = 0;
 
     @ManyToMany(mappedBy = "learningPaths", fetch = FetchType.LAZY)
@@ -95,15 +100,21 @@ public class LearningPath extends BaseEntity {
     }
 
     /**
-     * Increments the enrollment count
+     * Increments the enrollment count in memory only
+     * 
+     * @deprecated read-modify-write on a versioned row; use CounterService, which applies atomic deltas
      */
+    @Deprecated
     public void incrementEnrollmentCount() {
         this.enrollmentCount++;
     }
 
     /**
-     * Decrements the enrollment count
+     * Decrements the enrollment count in memory only
+     * 
+     * @deprecated read-modify-write on a versioned row; use CounterService, which applies atomic deltas
      */
+    @Deprecated
     public void decrementEnrollmentCount() {
         if (this.enrollmentCount > 0) {
             this.enrollmentCount--;
@@ -111,8 +122,11 @@ public class LearningPath extends BaseEntity {
     }
 
     /**
-     * Increments the completion count
+     * Increments the completion count in memory only
+     * 
+     * @deprecated read-modify-write on a versioned row; use CounterService, which applies atomic deltas
      */
+    @Deprecated
     public void incrementCompletionCount() {
         this.completionCount++;
     }
@@ -0,0 +1,60 @@
+package com.lms.entity;
+
+import com.lms.service.CounterService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener on LearningPathEnrollment that records enrollment and completion
+ * deltas of the learning path as they are written. CounterService applies them once
+ * the transaction commits, so reconciliation only has to correct drift.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class LearningPathCounterListener {
+
+    private final ObjectProvider<CounterService> counterService;
+
+    /**
+     * Resolved lazily: Hibernate creates the listener while the EntityManagerFactory is
+     * being built, before the services that depend on it
+     */
+    public LearningPathCounterListener(ObjectProvider<CounterService> counterService) {
+        this.counterService = counterService;
+    }
+
+    @PostPersist
+    public void onEnroll(LearningPathEnrollment enrollment) {
+        Long pathId = enrollment.getLearningPath().getId();
+        counterService.ifAvailable(counters -> {
+            counters.addLearningPathEnrollments(pathId, 1);
+            if (enrollment.takeCompletion()) {
+                counters.addLearningPathCompletions(pathId, 1);
+            }
+        });
+    }
+
+    @PostUpdate
+    public void onUpdate(LearningPathEnrollment enrollment) {
+        if (enrollment.takeCompletion()) {
+            Long pathId = enrollment.getLearningPath().getId();
+            counterService.ifAvailable(counters -> counters.addLearningPathCompletions(pathId, 1));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(LearningPathEnrollment enrollment) {
+        Long pathId = enrollment.getLearningPath().getId();
+        counterService.ifAvailable(counters -> {
+            counters.addLearningPathEnrollments(pathId, -1);
+            if (enrollment.getCompletionDate() != null) {
+                counters.addLearningPathCompletions(pathId, -1);
+            }
+        });
+    }
+}
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "learning_path_enrollments")
+@EntityListeners(LearningPathCounterListener.class)
 public class LearningPathEnrollment extends BaseEntity {
 
     @NotNull(message = "User is required")
@@ -34,6 +35,9 @@ public class LearningPathEnrollment extends BaseEntity {
     @Column(name = "completion_date")
     private LocalDateTime completionDate;
 
+    @Transient
+    private boolean completionRecorded;
+
     /**
      * Default constructor
      */
@@ -55,12 +59,24 @@ public class LearningPathEnrollment extends BaseEntity {
     }
 
     /**
-     * Completes the learning path enrollment
+     * Completes the learning path enrollment; the first completion is counted towards
+     * the path by LearningPathCounterListener once it is written
      */
     public void complete() {
-        this.completionDate = LocalDateTime.now();
+        if (this.completionDate == null) {
+            this.completionDate = LocalDateTime.now();
+            this.completionRecorded = true;
+        }
         this.progressPercentage = 100.0;
-        this.learningPath.incrementCompletionCount();
+    }
+
+    /**
+     * Whether complete() took effect since the last call; clears the flag
+     */
+    boolean takeCompletion() {
+        boolean completed = completionRecorded;
+        completionRecorded = false;
+        return completed;
     }
 
     /**
@@ -1,12 +1,17 @@
 package com.lms.entity;
 
+import com.lms.config.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Set;
 
 @Entity
 @Table(name = "learning_sections")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEARNING_SECTION)
 public class LearningSection extends BaseEntity {
 
     @NotBlank(message = "Section title is required")
@@ -31,6 +36,7 @@ public class LearningSection extends BaseEntity {
     private Boolean isRequired = true;
 
     @OneToMany(mappedBy = "section", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEARNING_SECTION_CONTENT_BLOCKS)
     private Set<ContentBlock> contentBlocks;
 
     @OneToMany(mappedBy = "section", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -1,8 +1,11 @@
 package com.lms.entity;
 
+import com.lms.config.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -15,6 +18,9 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "questions")
+@EntityListeners(AssessmentChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION)
 public class Question extends BaseEntity {
 
     @NotNull(message = "Assessment is required")
@@ -39,6 +45,7 @@ public class Question extends BaseEntity {
     private String explanation;
 
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION_OPTIONS)
     private Set<QuestionOption> options = new HashSet<>();
 
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -1,8 +1,11 @@
 package com.lms.entity;
 
+import com.lms.config.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * QuestionOption entity representing answer options for questions
@@ -12,6 +15,9 @@ import jakarta.validation.constraints.NotNull;
  */
 @Entity
 @Table(name = "question_options")
+@EntityListeners(AssessmentChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION_OPTION)
 public class QuestionOption extends BaseEntity {
 
     @NotNull(message = "Question is required")
@@ -1,5 +1,6 @@
 package com.lms.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -13,11 +14,13 @@ public class StudentProgress extends BaseEntity {
     @NotNull(message = "Student is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
+    @JsonIgnoreProperties({"createdCourses", "enrollments", "progressRecords", "hibernateLazyInitializer"})
     private User student;
 
     @NotNull(message = "Learning module is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "module_id", nullable = false)
+    @JsonIgnoreProperties({"createdBy", "learningObjectives", "sections", "finalAssessment", "hibernateLazyInitializer"})
     private LearningModule module;
 
     @Column(name = "current_section")
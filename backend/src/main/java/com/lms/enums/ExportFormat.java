@@ -0,0 +1,29 @@
+package com.lms.enums;
+
+/**
+ * Enum representing streaming export formats
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public enum ExportFormat {
+    /**
+     * Newline-delimited JSON, one object per line
+     */
+    NDJSON("application/x-ndjson"),
+    
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
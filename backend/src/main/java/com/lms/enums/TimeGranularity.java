@@ -0,0 +1,45 @@
+package com.lms.enums;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * Enum representing bucket sizes for time-based analytics
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public enum TimeGranularity {
+    /**
+     * One bucket per calendar day, labelled yyyy-MM-dd
+     */
+    DAY,
+    
+    /**
+     * One bucket per ISO week, labelled yyyy-Www
+     */
+    WEEK,
+    
+    /**
+     * One bucket per calendar month, labelled yyyy-MM
+     */
+    MONTH;
+
+    /**
+     * Gets the bucket label a day falls into
+     * 
+     * @param day The day
+     * @return bucket label
+     */
+    public String bucketOf(LocalDate day) {
+        switch (this) {
+            case WEEK:
+                return String.format("%d-W%02d",
+                        day.get(IsoFields.WEEK_BASED_YEAR), day.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTH:
+                return String.format("%d-%02d", day.getYear(), day.getMonthValue());
+            default:
+                return day.toString();
+        }
+    }
+}
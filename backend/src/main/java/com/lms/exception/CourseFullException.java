@@ -0,0 +1,14 @@
+package com.lms.exception;
+
+/**
+ * Exception thrown when a course has no seats left
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public class CourseFullException extends RuntimeException {
+    
+    public CourseFullException(String message) {
+        super(message);
+    }
+}
@@ -80,6 +80,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handle course full exceptions
+     */
+    @ExceptionHandler(CourseFullException.class)
+    public ResponseEntity<ErrorResponse> handleCourseFullException(CourseFullException ex) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value(),
+                LocalDateTime.now()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle general exceptions
      */
@@ -0,0 +1,27 @@
+package com.lms.grading;
+
+/**
+ * Instant feedback on one answer, checked against the cached answer key
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class AnswerFeedback {
+
+    private final long questionId;
+    private final boolean autoGraded;
+    private final boolean correct;
+    private final double pointsEarned;
+
+    public AnswerFeedback(long questionId, boolean autoGraded, boolean correct, double pointsEarned) {
+        this.questionId = questionId;
+        this.autoGraded = autoGraded;
+        this.correct = correct;
+        this.pointsEarned = pointsEarned;
+    }
+
+    public long getQuestionId() { return questionId; }
+    public boolean isAutoGraded() { return autoGraded; }
+    public boolean isCorrect() { return correct; }
+    public double getPointsEarned() { return pointsEarned; }
+}
@@ -0,0 +1,295 @@
+package com.lms.grading;
+
+import com.lms.repository.projection.AnswerKeyRowView;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled, immutable answer key of one assessment version, backed by primitive arrays.
+ *
+ * Questions are held in ascending ID order and found by binary search. The options of
+ * question i are the sorted slice [optionOffsets[i], optionOffsets[i + 1]) of one
+ * array; a selection is a bitset over that slice and is correct when it equals the
+ * question's correct-option mask, so multi-select questions need every correct option
+ * and no other. Short answer questions are graded against the normalized texts of
+ * their correct options. Questions with no correct option are not auto-graded and
+ * keep the points a grader assigned by hand.
+ *
+ * At most {@link #MAX_OPTIONS} options per question can be auto-graded.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class AnswerKey {
+
+    public static final int MAX_OPTIONS = Long.SIZE;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String[] NO_ANSWERS = new String[0];
+
+    private final long assessmentId;
+    private final long version;
+    private final Double passingScore;
+    private final long[] questionIds;
+    private final double[] points;
+    private final boolean[] textAnswer;
+    private final int[] optionOffsets;
+    private final long[] optionIds;
+    private final long[] correctMasks;
+    private final String[][] acceptedAnswers;
+    private final double totalPoints;
+
+    private AnswerKey(long assessmentId, long version, Double passingScore, long[] questionIds, double[] points,
+                      boolean[] textAnswer, int[] optionOffsets, long[] optionIds, long[] correctMasks,
+                      String[][] acceptedAnswers) {
+        this.assessmentId = assessmentId;
+        this.version = version;
+        this.passingScore = passingScore;
+        this.questionIds = questionIds;
+        this.points = points;
+        this.textAnswer = textAnswer;
+        this.optionOffsets = optionOffsets;
+        this.optionIds = optionIds;
+        this.correctMasks = correctMasks;
+        this.acceptedAnswers = acceptedAnswers;
+        double total = 0;
+        for (double p : points) {
+            total += p;
+        }
+        this.totalPoints = total;
+    }
+
+    /**
+     * Build a key from answer key rows
+     *
+     * @param assessmentId The assessment ID
+     * @param version The assessment version the rows were read at
+     * @param passingScore Passing percentage, or null when every score passes
+     * @param rows Rows ordered by question ID then option ID
+     * @return The compiled key
+     */
+    public static AnswerKey compile(long assessmentId, long version, Double passingScore, List<AnswerKeyRowView> rows) {
+        int questionCount = 0;
+        int optionCount = 0;
+        long previous = Long.MIN_VALUE;
+        for (AnswerKeyRowView row : rows) {
+            if (row.getQuestionId() != previous) {
+                questionCount++;
+                previous = row.getQuestionId();
+            }
+            if (row.getOptionId() != null) {
+                optionCount++;
+            }
+        }
+
+        long[] questionIds = new long[questionCount];
+        double[] points = new double[questionCount];
+        boolean[] textAnswer = new boolean[questionCount];
+        int[] optionOffsets = new int[questionCount + 1];
+        long[] optionIds = new long[optionCount];
+        long[] correctMasks = new long[questionCount];
+        String[][] acceptedAnswers = new String[questionCount][];
+        List<String> accepted = new ArrayList<>();
+
+        int question = -1;
+        int option = 0;
+        previous = Long.MIN_VALUE;
+        for (AnswerKeyRowView row : rows) {
+            if (row.getQuestionId() != previous) {
+                if (question >= 0) {
+                    acceptedAnswers[question] = finish(accepted);
+                }
+                question++;
+                previous = row.getQuestionId();
+                questionIds[question] = previous;
+                points[question] = row.getPoints() != null ? row.getPoints() : 0.0;
+                textAnswer[question] = "SHORT_ANSWER".equals(row.getQuestionType());
+                optionOffsets[question] = option;
+            }
+            if (row.getOptionId() == null) {
+                continue;
+            }
+            int bit = option - optionOffsets[question];
+            optionIds[option++] = row.getOptionId();
+            if (Boolean.TRUE.equals(row.getCorrect())) {
+                if (textAnswer[question]) {
+                    String normalized = normalize(row.getOptionText());
+                    if (normalized != null && !normalized.isEmpty()) {
+                        accepted.add(normalized);
+                    }
+                } else if (bit < MAX_OPTIONS) {
+                    correctMasks[question] |= 1L << bit;
+                }
+            }
+        }
+        if (question >= 0) {
+            acceptedAnswers[question] = finish(accepted);
+        }
+        optionOffsets[questionCount] = option;
+        return new AnswerKey(assessmentId, version, passingScore, questionIds, points, textAnswer,
+                optionOffsets, optionIds, correctMasks, acceptedAnswers);
+    }
+
+    /**
+     * Canonical form used to compare short answers: Unicode NFKC, lower case, trimmed,
+     * with runs of whitespace collapsed to one space
+     *
+     * @param text The raw text
+     * @return Normalized text, or null for null input
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACE.matcher(folded).replaceAll(" ");
+    }
+
+    /**
+     * Position of a question in the key
+     *
+     * @param questionId The question ID
+     * @return Index, or a negative value if the question is not part of the key
+     */
+    public int indexOf(long questionId) {
+        return Arrays.binarySearch(questionIds, questionId);
+    }
+
+    /**
+     * Whether the question at an index can be graded from the key
+     */
+    public boolean isAutoGraded(int index) {
+        return textAnswer[index] ? acceptedAnswers[index].length > 0 : correctMasks[index] != 0;
+    }
+
+    /**
+     * Whether the question at an index is answered with text rather than options
+     */
+    public boolean isTextAnswer(int index) {
+        return textAnswer[index];
+    }
+
+    /**
+     * Bit of an option within the selection mask of its question
+     *
+     * @return The bit, or 0 if the option does not belong to the question
+     */
+    public long selectionBit(int index, long optionId) {
+        int position = Arrays.binarySearch(optionIds, optionOffsets[index], optionOffsets[index + 1], optionId);
+        if (position < 0) {
+            return 0;
+        }
+        int bit = position - optionOffsets[index];
+        return bit < MAX_OPTIONS ? 1L << bit : 0;
+    }
+
+    /**
+     * Position of an option among the options of its question, in option ID order
+     *
+     * @return The position, or a negative value if the option does not belong to the question
+     */
+    public int optionPosition(int index, long optionId) {
+        int position = Arrays.binarySearch(optionIds, optionOffsets[index], optionOffsets[index + 1], optionId);
+        return position < 0 ? -1 : position - optionOffsets[index];
+    }
+
+    /**
+     * Whether a selection of options answers the question at an index correctly
+     *
+     * @param selection Bitset built from {@link #selectionBit(int, long)}
+     */
+    public boolean isCorrectSelection(int index, long selection) {
+        return !textAnswer[index] && correctMasks[index] != 0 && selection == correctMasks[index];
+    }
+
+    /**
+     * Whether a text answers the question at an index correctly
+     */
+    public boolean isCorrectText(int index, String answerText) {
+        String normalized = normalize(answerText);
+        if (!textAnswer[index] || normalized == null) {
+            return false;
+        }
+        for (String accepted : acceptedAnswers[index]) {
+            if (accepted.equals(normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an option is one of the correct choices for the question at an index
+     */
+    public boolean isCorrectOption(int index, long optionId) {
+        return (correctMasks[index] & selectionBit(index, optionId)) != 0;
+    }
+
+    public double points(int index) {
+        return points[index];
+    }
+
+    public long questionId(int index) {
+        return questionIds[index];
+    }
+
+    public int optionCount(int index) {
+        return optionOffsets[index + 1] - optionOffsets[index];
+    }
+
+    public long optionId(int index, int position) {
+        return optionIds[optionOffsets[index] + position];
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    /**
+     * Whether another key grades exactly like this one: same questions, options and
+     * correct answers at the same positions. A key recompiled without edits does.
+     */
+    public boolean gradesLike(AnswerKey other) {
+        return other == this || other != null
+                && assessmentId == other.assessmentId
+                && Arrays.equals(questionIds, other.questionIds)
+                && Arrays.equals(textAnswer, other.textAnswer)
+                && Arrays.equals(optionOffsets, other.optionOffsets)
+                && Arrays.equals(optionIds, other.optionIds)
+                && Arrays.equals(correctMasks, other.correctMasks)
+                && Arrays.deepEquals(acceptedAnswers, other.acceptedAnswers);
+    }
+
+    public long getAssessmentId() {
+        return assessmentId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public double getTotalPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * Whether a percentage passes; every score passes when no passing score is set
+     */
+    public boolean passes(double percentage) {
+        return passingScore == null || percentage >= passingScore;
+    }
+
+    private static String[] finish(List<String> accepted) {
+        if (accepted.isEmpty()) {
+            return NO_ANSWERS;
+        }
+        String[] answers = accepted.toArray(NO_ANSWERS);
+        accepted.clear();
+        return answers;
+    }
+}
@@ -0,0 +1,113 @@
+package com.lms.grading;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded Caffeine cache of compiled answer keys, one per assessment.
+ *
+ * Each key records the assessment version it was compiled at and callers pass the
+ * version they read, so a key older than the assessment is recompiled. Edits to
+ * questions and options force-increment the assessment version, which makes the
+ * check hold on every node; locally they also evict the entry once they commit (see
+ * {@link com.lms.entity.AssessmentChangeListener}). A key compiled while an eviction
+ * happened is returned but not cached, so a compile that read pre-edit rows can never
+ * outlive the edit. Entries also expire after a time to live, which bounds how long
+ * writes that bypass versioning, such as bulk JPQL updates, stay unnoticed.
+ *
+ * Compilation is left to the caller's loader, so the cache itself has no repository
+ * dependencies.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class AnswerKeyCache {
+
+    private final Cache<Long, AnswerKey> entries;
+    private final AtomicLong evictions = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public AnswerKeyCache(MeterRegistry meterRegistry,
+                          @Value("${lms.grading.answer-key-cache.max-size:500}") int maxSize,
+                          @Value("${lms.grading.answer-key-cache.ttl:PT10M}") Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .build();
+        this.hits = Counter.builder("lms.cache.answer-key.requests")
+                .tag("result", "hit")
+                .description("Answer keys served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("lms.cache.answer-key.requests")
+                .tag("result", "miss")
+                .description("Answer keys compiled from the database")
+                .register(meterRegistry);
+        Gauge.builder("lms.cache.answer-key.size", this, AnswerKeyCache::size)
+                .description("Answer keys currently held in the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the key of an assessment, compiling it on a miss
+     *
+     * @param assessmentId The assessment ID
+     * @param minimumVersion Lowest acceptable assessment version, or null for any
+     * @param loader Compiles the key from the database
+     * @return The answer key
+     */
+    public AnswerKey get(long assessmentId, Long minimumVersion, LongFunction<AnswerKey> loader) {
+        AnswerKey cached = entries.getIfPresent(assessmentId);
+        if (cached != null && (minimumVersion == null || cached.getVersion() >= minimumVersion)) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long generation = evictions.get();
+        AnswerKey compiled = loader.apply(assessmentId);
+        // Evictions bump the generation before invalidating, and compute is atomic per key,
+        // so a key compiled across an eviction is never stored
+        entries.asMap().compute(assessmentId, (id, current) -> {
+            if (evictions.get() != generation) {
+                return current;
+            }
+            return current == null || current.getVersion() <= compiled.getVersion() ? compiled : current;
+        });
+        return compiled;
+    }
+
+    /**
+     * Drop the key of an assessment
+     *
+     * @param assessmentId The assessment ID
+     */
+    public void evict(long assessmentId) {
+        evictions.incrementAndGet();
+        entries.invalidate(assessmentId);
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+}
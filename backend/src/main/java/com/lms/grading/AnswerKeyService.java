@@ -0,0 +1,101 @@
+package com.lms.grading;
+
+import com.lms.entity.Assessment;
+import com.lms.exception.ResourceNotFoundException;
+import com.lms.repository.AssessmentRepository;
+import com.lms.repository.QuestionRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Single entry point to compiled answer keys for grading, instant feedback and analytics.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class AnswerKeyService {
+
+    private final AssessmentRepository assessmentRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerKeyCache answerKeyCache;
+
+    public AnswerKeyService(AssessmentRepository assessmentRepository,
+                            QuestionRepository questionRepository,
+                            AnswerKeyCache answerKeyCache) {
+        this.assessmentRepository = assessmentRepository;
+        this.questionRepository = questionRepository;
+        this.answerKeyCache = answerKeyCache;
+    }
+
+    /**
+     * Get the current answer key of an assessment
+     *
+     * @param assessmentId The assessment ID
+     * @return The compiled key
+     * @throws ResourceNotFoundException if the assessment does not exist
+     */
+    public AnswerKey getKey(Long assessmentId) {
+        // One indexed version read keeps the cached key honest against edits made on other nodes
+        Long version = assessmentRepository.findVersionById(assessmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + assessmentId));
+        return answerKeyCache.get(assessmentId, version, this::compile);
+    }
+
+    /**
+     * Get an answer key at least as new as the given assessment entity
+     *
+     * @param assessment A loaded assessment
+     * @return The compiled key
+     */
+    public AnswerKey getKey(Assessment assessment) {
+        return answerKeyCache.get(assessment.getId(), assessment.getVersion(), this::compile);
+    }
+
+    /**
+     * Check one answer against the current key without touching the attempt
+     *
+     * @param assessmentId The assessment ID
+     * @param questionId The question ID
+     * @param selectedOptionIds Selected options, may be empty
+     * @param answerText Free text answer, may be null
+     * @return Feedback; questions the key cannot grade report autoGraded false
+     * @throws ResourceNotFoundException if the question is not part of the assessment
+     */
+    public AnswerFeedback check(Long assessmentId, Long questionId, List<Long> selectedOptionIds, String answerText) {
+        AnswerKey key = getKey(assessmentId);
+        int index = key.indexOf(questionId);
+        if (index < 0) {
+            throw new ResourceNotFoundException("Question not found with id: " + questionId);
+        }
+        if (!key.isAutoGraded(index)) {
+            return new AnswerFeedback(questionId, false, false, 0.0);
+        }
+
+        boolean correct;
+        if (key.isTextAnswer(index)) {
+            correct = key.isCorrectText(index, answerText);
+        } else {
+            long selection = 0;
+            boolean foreign = false;
+            if (selectedOptionIds != null) {
+                for (Long optionId : selectedOptionIds) {
+                    long bit = optionId != null ? key.selectionBit(index, optionId) : 0;
+                    foreign |= bit == 0;
+                    selection |= bit;
+                }
+            }
+            correct = !foreign && key.isCorrectSelection(index, selection);
+        }
+        return new AnswerFeedback(questionId, true, correct, correct ? key.points(index) : 0.0);
+    }
+
+    private AnswerKey compile(long assessmentId) {
+        Assessment assessment = assessmentRepository.findById(assessmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + assessmentId));
+        long version = assessment.getVersion() != null ? assessment.getVersion() : 0L;
+        return AnswerKey.compile(assessmentId, version, assessment.getPassingScore(),
+                questionRepository.findAnswerKeyRows(assessmentId));
+    }
+}
@@ -0,0 +1,80 @@
+package com.lms.grading;
+
+import com.lms.repository.projection.AnswerRowView;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * What one attempt answered, evaluated against a compiled {@link AnswerKey}: per
+ * question whether it was answered, the selected options as a bitset and whether
+ * the answer is correct. Shared by grading and item analysis so both judge answers
+ * the same way.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+final class AttemptResponses {
+
+    private final AnswerKey key;
+    private final long[] selections;
+    private final BitSet answered;
+    private final BitSet correct;
+
+    AttemptResponses(AnswerKey key) {
+        this.key = key;
+        this.selections = new long[key.size()];
+        this.answered = new BitSet(key.size());
+        this.correct = new BitSet(key.size());
+    }
+
+    /**
+     * Evaluate all answer rows of one question. A selection with an option from
+     * another question is never correct.
+     *
+     * @param index Question index in the key
+     * @param group The attempt's answer rows for that question
+     * @return Whether the rows answer the question correctly
+     */
+    boolean add(int index, List<AnswerRowView> group) {
+        answered.set(index);
+        boolean isCorrect = false;
+        if (key.isTextAnswer(index)) {
+            for (AnswerRowView row : group) {
+                isCorrect |= key.isCorrectText(index, row.getAnswerText());
+            }
+        } else {
+            long selection = 0;
+            boolean foreign = false;
+            for (AnswerRowView row : group) {
+                if (row.getSelectedOptionId() != null) {
+                    long bit = key.selectionBit(index, row.getSelectedOptionId());
+                    foreign |= bit == 0;
+                    selection |= bit;
+                }
+            }
+            selections[index] = selection;
+            isCorrect = !foreign && key.isCorrectSelection(index, selection);
+        }
+        if (isCorrect) {
+            correct.set(index);
+        }
+        return isCorrect;
+    }
+
+    AnswerKey getKey() {
+        return key;
+    }
+
+    boolean isAnswered(int index) {
+        return answered.get(index);
+    }
+
+    boolean isCorrect(int index) {
+        return correct.get(index);
+    }
+
+    long selection(int index) {
+        return selections[index];
+    }
+}
@@ -0,0 +1,271 @@
+package com.lms.grading;
+
+import com.lms.exception.ResourceNotFoundException;
+import com.lms.repository.AnswerGrade;
+import com.lms.repository.AssessmentAttemptRepository;
+import com.lms.repository.AttemptGrade;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.repository.projection.AnswerRowView;
+import com.lms.support.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk grader for submitted assessment attempts.
+ *
+ * The compiled {@link AnswerKey} comes from the shared answer key cache. Attempts are split
+ * into chunks graded in parallel by a fixed worker pool; each chunk reads its answers
+ * as scalar rows in one query and writes all scores back as JDBC batches in its own
+ * transaction, so a 500-attempt exam costs a handful of statements rather than one
+ * query per answer. A failed chunk leaves the others committed and its attempts
+ * unscored, ready for the next run. Committed chunks feed the incremental
+ * {@link ItemAnalysis}.
+ *
+ * Submitting an attempt queues its assessment; a scheduled run grades the pending
+ * attempts of every queued assessment, so scores and statistics follow submissions
+ * without an instructor starting a grading run.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class GradingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradingEngine.class);
+
+    private final AnswerKeyService answerKeyService;
+    private final ItemAnalysis itemAnalysis;
+    private final AssessmentAttemptRepository attemptRepository;
+    private final StudentAnswerRepository answerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final int chunkSize;
+    private final Set<Long> submittedAssessments = ConcurrentHashMap.newKeySet();
+
+    public GradingEngine(AnswerKeyService answerKeyService,
+                         ItemAnalysis itemAnalysis,
+                         AssessmentAttemptRepository attemptRepository,
+                         StudentAnswerRepository answerRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${lms.grading.workers:4}") int workers,
+                         @Value("${lms.grading.chunk-size:200}") int chunkSize) {
+        this.answerKeyService = answerKeyService;
+        this.itemAnalysis = itemAnalysis;
+        this.attemptRepository = attemptRepository;
+        this.answerRepository = answerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "grading-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Grade submitted attempts of an assessment that have no score yet
+     *
+     * @param assessmentId The assessment ID
+     * @return Counts of what was graded
+     */
+    public GradingResult gradePendingAttempts(Long assessmentId) {
+        return gradeAttempts(assessmentId, attemptRepository.findUngradedSubmittedIds(assessmentId));
+    }
+
+    /**
+     * Queue an assessment for the next scheduled grading run once the surrounding
+     * transaction, which submitted one of its attempts, commits
+     *
+     * @param assessmentId The assessment ID
+     */
+    public void gradeAfterCommit(Long assessmentId) {
+        TransactionHooks.afterCommit(() -> submittedAssessments.add(assessmentId));
+    }
+
+    /**
+     * Grade pending attempts of the assessments queued since the last run
+     *
+     * @return Number of attempts graded
+     */
+    @Scheduled(fixedDelayString = "${lms.grading.submitted-interval:PT30S}")
+    public int gradeSubmittedAttempts() {
+        int graded = 0;
+        for (Long assessmentId : List.copyOf(submittedAssessments)) {
+            submittedAssessments.remove(assessmentId);
+            try {
+                graded += gradePendingAttempts(assessmentId).getAttemptsGraded();
+            } catch (ResourceNotFoundException e) {
+                logger.debug("Assessment {} was deleted before its attempts were graded", assessmentId);
+            } catch (RuntimeException e) {
+                // Committed chunks stay graded; the rest is picked up by the next run
+                submittedAssessments.add(assessmentId);
+                logger.warn("Could not grade submitted attempts of assessment {}", assessmentId, e);
+            }
+        }
+        return graded;
+    }
+
+    /**
+     * Grade every submitted attempt of an assessment again, e.g. after the key changed
+     *
+     * @param assessmentId The assessment ID
+     * @return Counts of what was graded
+     */
+    public GradingResult regradeAttempts(Long assessmentId) {
+        // Regrading replaces scores the item analysis has already counted, so it is
+        // rebuilt from the new scores on its next read
+        itemAnalysis.invalidate(assessmentId);
+        try {
+            return gradeAttempts(assessmentId, attemptRepository.findSubmittedIds(assessmentId));
+        } finally {
+            itemAnalysis.invalidate(assessmentId);
+        }
+    }
+
+    /**
+     * Grade the given attempts of an assessment
+     *
+     * @param assessmentId The assessment ID
+     * @param attemptIds IDs of attempts belonging to the assessment
+     * @return Counts of what was graded
+     * @throws com.lms.exception.ResourceNotFoundException if the assessment does not exist
+     * @throws IllegalStateException if a chunk failed; other chunks stay committed
+     */
+    public GradingResult gradeAttempts(Long assessmentId, List<Long> attemptIds) {
+        long start = System.nanoTime();
+        AnswerKey key = answerKeyService.getKey(assessmentId);
+
+        List<Future<int[]>> chunks = new ArrayList<>();
+        for (int from = 0; from < attemptIds.size(); from += chunkSize) {
+            List<Long> chunk = List.copyOf(attemptIds.subList(from, Math.min(from + chunkSize, attemptIds.size())));
+            chunks.add(workers.submit(() -> transactionTemplate.execute(status -> gradeChunk(key, chunk))));
+        }
+
+        int attempts = 0;
+        int answers = 0;
+        RuntimeException failure = null;
+        for (Future<int[]> chunk : chunks) {
+            try {
+                int[] counts = chunk.get();
+                attempts += counts[0];
+                answers += counts[1];
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Grading failed for assessment " + assessmentId, e.getCause());
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while grading assessment " + assessmentId, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Graded {} attempts ({} answers) of assessment {} in {} ms",
+                attempts, answers, assessmentId, elapsedMillis);
+        return new GradingResult(assessmentId, attempts, answers, elapsedMillis);
+    }
+
+    /**
+     * Grade one chunk of attempts. Answer rows arrive ordered by attempt and question;
+     * all rows of one question in one attempt are graded together, so a multi-select
+     * question scores only when the whole selection matches, and its points go to the
+     * first row of the group
+     */
+    int[] gradeChunk(AnswerKey key, List<Long> attemptIds) {
+        List<AnswerRowView> rows = answerRepository.findAnswerRowsByAttemptIds(attemptIds);
+        List<AnswerGrade> answerGrades = new ArrayList<>(rows.size());
+        double[] scores = new double[attemptIds.size()];
+        AttemptResponses[] responses = new AttemptResponses[attemptIds.size()];
+        Map<Long, Integer> positions = new HashMap<>(attemptIds.size() * 2);
+        for (int i = 0; i < attemptIds.size(); i++) {
+            positions.put(attemptIds.get(i), i);
+        }
+
+        int groupStart = 0;
+        while (groupStart < rows.size()) {
+            AnswerRowView first = rows.get(groupStart);
+            int groupEnd = groupStart + 1;
+            while (groupEnd < rows.size()
+                    && rows.get(groupEnd).getAttemptId().equals(first.getAttemptId())
+                    && rows.get(groupEnd).getQuestionId().equals(first.getQuestionId())) {
+                groupEnd++;
+            }
+            int index = key.indexOf(first.getQuestionId());
+            // Questions no longer part of the assessment are skipped
+            if (index >= 0) {
+                int position = positions.get(first.getAttemptId());
+                if (responses[position] == null) {
+                    responses[position] = new AttemptResponses(key);
+                }
+                scores[position] += grade(key, index, rows.subList(groupStart, groupEnd), responses[position], answerGrades);
+            }
+            groupStart = groupEnd;
+        }
+
+        double maxScore = key.getTotalPoints();
+        List<AttemptGrade> attemptGrades = new ArrayList<>(attemptIds.size());
+        for (int i = 0; i < attemptIds.size(); i++) {
+            double percentage = maxScore > 0 ? scores[i] / maxScore * 100.0 : 0.0;
+            attemptGrades.add(new AttemptGrade(attemptIds.get(i), scores[i], maxScore, percentage, key.passes(percentage)));
+        }
+        attemptRepository.saveGrades(attemptGrades, answerGrades);
+        itemAnalysis.recordAfterCommit(key, attemptIds, scores, responses);
+        return new int[] {attemptGrades.size(), answerGrades.size()};
+    }
+
+    private static double grade(AnswerKey key, int index, List<AnswerRowView> group, AttemptResponses responses,
+                                List<AnswerGrade> answerGrades) {
+        boolean correct = responses.add(index, group);
+        if (!key.isAutoGraded(index)) {
+            // Not gradable from the key; keep the points a grader assigned
+            double manual = 0.0;
+            for (AnswerRowView row : group) {
+                if (row.getPointsEarned() != null) {
+                    manual = Math.max(manual, row.getPointsEarned());
+                }
+            }
+            return manual;
+        }
+
+        double earned = correct ? key.points(index) : 0.0;
+        for (int i = 0; i < group.size(); i++) {
+            answerGrades.add(new AnswerGrade(group.get(i).getId(), correct, i == 0 ? earned : 0.0));
+        }
+        return earned;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
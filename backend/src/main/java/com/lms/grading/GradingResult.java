@@ -0,0 +1,27 @@
+package com.lms.grading;
+
+/**
+ * Outcome of a bulk grading run
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class GradingResult {
+
+    private final long assessmentId;
+    private final int attemptsGraded;
+    private final int answersGraded;
+    private final long elapsedMillis;
+
+    public GradingResult(long assessmentId, int attemptsGraded, int answersGraded, long elapsedMillis) {
+        this.assessmentId = assessmentId;
+        this.attemptsGraded = attemptsGraded;
+        this.answersGraded = answersGraded;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getAssessmentId() { return assessmentId; }
+    public int getAttemptsGraded() { return attemptsGraded; }
+    public int getAnswersGraded() { return answersGraded; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
@@ -0,0 +1,304 @@
+package com.lms.grading;
+
+import com.lms.repository.AssessmentAttemptRepository;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.repository.projection.AnswerRowView;
+import com.lms.repository.projection.AttemptScoreView;
+import com.lms.support.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Incremental item analysis of graded attempts.
+ *
+ * Each assessment keeps running sums in primitive arrays laid out like its compiled
+ * {@link AnswerKey}: attempts, sum and sum of squares of scores, and per question
+ * the answered and correct counts, the score sum of correct attempts and a count per
+ * option. The grading engine adds every attempt it commits, so a report is computed
+ * from the sums in O(questions + options) without reading answers.
+ *
+ * The sums are built from the database once per assessment on first read, after a
+ * restart, after a regrade, and whenever the answer key changed, since question and
+ * option positions may have moved. A key that was merely recompiled, e.g. after the
+ * cache dropped it, keeps the sums. Each attempt is counted once, tracked in a
+ * primitive set of attempt IDs.
+ * The point-biserial is computed against the total score including the item itself.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class ItemAnalysis {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemAnalysis.class);
+
+    private final Map<Long, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    private final AnswerKeyService answerKeyService;
+    private final AssessmentAttemptRepository attemptRepository;
+    private final StudentAnswerRepository answerRepository;
+    private final int chunkSize;
+
+    public ItemAnalysis(AnswerKeyService answerKeyService,
+                        AssessmentAttemptRepository attemptRepository,
+                        StudentAnswerRepository answerRepository,
+                        @Value("${lms.grading.chunk-size:200}") int chunkSize) {
+        this.answerKeyService = answerKeyService;
+        this.attemptRepository = attemptRepository;
+        this.answerRepository = answerRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Item analysis of an assessment over all its graded attempts
+     *
+     * @param assessmentId The assessment ID
+     * @return The report
+     * @throws com.lms.exception.ResourceNotFoundException if the assessment does not exist
+     */
+    public ItemAnalysisReport getReport(Long assessmentId) {
+        AnswerKey key = answerKeyService.getKey(assessmentId);
+        Accumulator accumulator = accumulators.compute(assessmentId, (id, current) ->
+                current != null && current.key.gradesLike(key) ? current : new Accumulator(key));
+        if (accumulator.loading.compareAndSet(false, true)) {
+            try {
+                load(assessmentId, accumulator);
+                accumulator.loaded.complete(null);
+            } catch (RuntimeException e) {
+                accumulators.remove(assessmentId, accumulator);
+                accumulator.loaded.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            try {
+                accumulator.loaded.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return accumulator.report();
+    }
+
+    /**
+     * Add graded attempts once the surrounding transaction commits
+     *
+     * @param key The key the attempts were graded with
+     * @param attemptIds The attempt IDs
+     * @param scores Score of each attempt
+     * @param responses Responses of each attempt, null for an attempt without answers
+     */
+    void recordAfterCommit(AnswerKey key, List<Long> attemptIds, double[] scores, AttemptResponses[] responses) {
+        TransactionHooks.afterCommit(() -> record(key, attemptIds, scores, responses));
+    }
+
+    /**
+     * Drop the statistics of an assessment; they are rebuilt on the next read
+     *
+     * @param assessmentId The assessment ID
+     */
+    public void invalidate(Long assessmentId) {
+        accumulators.remove(assessmentId);
+    }
+
+    private void record(AnswerKey key, List<Long> attemptIds, double[] scores, AttemptResponses[] responses) {
+        Accumulator accumulator = accumulators.get(key.getAssessmentId());
+        // Without matching statistics there is nothing to update; the next read builds them
+        if (accumulator == null || !accumulator.key.gradesLike(key)) {
+            return;
+        }
+        for (int i = 0; i < attemptIds.size(); i++) {
+            accumulator.add(attemptIds.get(i), scores[i], responses[i]);
+        }
+    }
+
+    private void load(Long assessmentId, Accumulator accumulator) {
+        AnswerKey key = accumulator.key;
+        List<AttemptScoreView> scored = attemptRepository.findScoredAttempts(assessmentId);
+        for (int from = 0; from < scored.size(); from += chunkSize) {
+            List<AttemptScoreView> chunk = scored.subList(from, Math.min(from + chunkSize, scored.size()));
+            List<Long> attemptIds = new ArrayList<>(chunk.size());
+            for (AttemptScoreView attempt : chunk) {
+                attemptIds.add(attempt.getId());
+            }
+
+            // Rows and attempts are both in attempt ID order
+            List<AnswerRowView> rows = answerRepository.findAnswerRowsByAttemptIds(attemptIds);
+            int row = 0;
+            for (AttemptScoreView attempt : chunk) {
+                AttemptResponses responses = new AttemptResponses(key);
+                while (row < rows.size() && rows.get(row).getAttemptId().equals(attempt.getId())) {
+                    AnswerRowView first = rows.get(row);
+                    int end = row + 1;
+                    while (end < rows.size()
+                            && rows.get(end).getAttemptId().equals(first.getAttemptId())
+                            && rows.get(end).getQuestionId().equals(first.getQuestionId())) {
+                        end++;
+                    }
+                    int index = key.indexOf(first.getQuestionId());
+                    if (index >= 0) {
+                        responses.add(index, rows.subList(row, end));
+                    }
+                    row = end;
+                }
+                accumulator.add(attempt.getId(), attempt.getScore(), responses);
+            }
+        }
+        logger.info("Built item analysis of assessment {} from {} graded attempts", assessmentId, scored.size());
+    }
+
+    private static final class Accumulator {
+        private final AnswerKey key;
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+        private final AttemptIdSet counted = new AttemptIdSet();
+
+        private long attempts;
+        private double scoreSum;
+        private double scoreSquareSum;
+        private final long[] answered;
+        private final long[] correct;
+        private final double[] correctScoreSum;
+        private final long[][] optionSelections;
+
+        private Accumulator(AnswerKey key) {
+            this.key = key;
+            this.answered = new long[key.size()];
+            this.correct = new long[key.size()];
+            this.correctScoreSum = new double[key.size()];
+            this.optionSelections = new long[key.size()][];
+            for (int i = 0; i < key.size(); i++) {
+                optionSelections[i] = new long[key.optionCount(i)];
+            }
+        }
+
+        private synchronized void add(long attemptId, Double score, AttemptResponses responses) {
+            if (!counted.add(attemptId)) {
+                return;
+            }
+            double x = score != null ? score : 0.0;
+            attempts++;
+            scoreSum += x;
+            scoreSquareSum += x * x;
+            if (responses == null) {
+                return;
+            }
+            for (int i = 0; i < answered.length; i++) {
+                if (!responses.isAnswered(i)) {
+                    continue;
+                }
+                answered[i]++;
+                if (responses.isCorrect(i)) {
+                    correct[i]++;
+                    correctScoreSum[i] += x;
+                }
+                for (long selection = responses.selection(i); selection != 0; selection &= selection - 1) {
+                    optionSelections[i][Long.numberOfTrailingZeros(selection)]++;
+                }
+            }
+        }
+
+        private synchronized ItemAnalysisReport report() {
+            double n = attempts;
+            double mean = attempts > 0 ? scoreSum / n : 0.0;
+            double standardDeviation = attempts > 0 ? Math.sqrt(Math.max(0.0, scoreSquareSum / n - mean * mean)) : 0.0;
+
+            List<ItemAnalysisReport.ItemStatistics> items = new ArrayList<>(key.size());
+            for (int i = 0; i < key.size(); i++) {
+                boolean autoGraded = key.isAutoGraded(i);
+                Double difficulty = null;
+                Double pointBiserial = null;
+                if (autoGraded && attempts > 0) {
+                    double p = correct[i] / n;
+                    difficulty = p;
+                    if (standardDeviation > 0 && correct[i] > 0 && correct[i] < attempts) {
+                        double meanCorrect = correctScoreSum[i] / correct[i];
+                        double meanIncorrect = (scoreSum - correctScoreSum[i]) / (n - correct[i]);
+                        pointBiserial = (meanCorrect - meanIncorrect) / standardDeviation * Math.sqrt(p * (1 - p));
+                    }
+                }
+
+                List<ItemAnalysisReport.OptionFrequency> options = new ArrayList<>();
+                if (!key.isTextAnswer(i)) {
+                    for (int position = 0; position < optionSelections[i].length; position++) {
+                        long optionId = key.optionId(i, position);
+                        long selected = optionSelections[i][position];
+                        options.add(new ItemAnalysisReport.OptionFrequency(optionId, key.isCorrectOption(i, optionId),
+                                selected, attempts > 0 ? selected / n : 0.0));
+                    }
+                }
+                items.add(new ItemAnalysisReport.ItemStatistics(key.questionId(i), autoGraded, answered[i],
+                        difficulty, pointBiserial, options));
+            }
+            return new ItemAnalysisReport(key.getAssessmentId(), attempts, mean, standardDeviation, items);
+        }
+    }
+
+    /**
+     * Open-addressing set of attempt IDs without boxing; IDs are positive, so 0 marks
+     * an empty slot
+     */
+    static final class AttemptIdSet {
+        private long[] slots = new long[64];
+        private int size;
+
+        /**
+         * @return true if the ID was not in the set yet
+         */
+        boolean add(long attemptId) {
+            if (attemptId <= 0) {
+                throw new IllegalArgumentException("Attempt ID must be positive: " + attemptId);
+            }
+            if ((size + 1) * 2 > slots.length) {
+                grow();
+            }
+            int mask = slots.length - 1;
+            for (int slot = mix(attemptId) & mask; ; slot = (slot + 1) & mask) {
+                if (slots[slot] == attemptId) {
+                    return false;
+                }
+                if (slots[slot] == 0) {
+                    slots[slot] = attemptId;
+                    size++;
+                    return true;
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void grow() {
+            long[] old = slots;
+            slots = new long[old.length * 2];
+            int mask = slots.length - 1;
+            for (long attemptId : old) {
+                if (attemptId != 0) {
+                    int slot = mix(attemptId) & mask;
+                    while (slots[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = attemptId;
+                }
+            }
+        }
+
+        private static int mix(long attemptId) {
+            long h = attemptId * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
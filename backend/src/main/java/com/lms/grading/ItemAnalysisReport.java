@@ -0,0 +1,89 @@
+package com.lms.grading;
+
+import java.util.List;
+
+/**
+ * Classical item analysis of an assessment: difficulty (p-value) and point-biserial
+ * discrimination per question, and how often each option was chosen
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class ItemAnalysisReport {
+
+    private final long assessmentId;
+    private final long attempts;
+    private final double meanScore;
+    private final double scoreStandardDeviation;
+    private final List<ItemStatistics> items;
+
+    public ItemAnalysisReport(long assessmentId, long attempts, double meanScore, double scoreStandardDeviation,
+                              List<ItemStatistics> items) {
+        this.assessmentId = assessmentId;
+        this.attempts = attempts;
+        this.meanScore = meanScore;
+        this.scoreStandardDeviation = scoreStandardDeviation;
+        this.items = items;
+    }
+
+    public long getAssessmentId() { return assessmentId; }
+    public long getAttempts() { return attempts; }
+    public double getMeanScore() { return meanScore; }
+    public double getScoreStandardDeviation() { return scoreStandardDeviation; }
+    public List<ItemStatistics> getItems() { return items; }
+
+    /**
+     * Statistics of one question. Difficulty and discrimination are null for questions
+     * the key cannot grade, and discrimination is null while it is undefined (no
+     * score variance, or everyone or no one answered correctly).
+     */
+    public static final class ItemStatistics {
+
+        private final long questionId;
+        private final boolean autoGraded;
+        private final long answered;
+        private final Double difficulty;
+        private final Double pointBiserial;
+        private final List<OptionFrequency> options;
+
+        public ItemStatistics(long questionId, boolean autoGraded, long answered, Double difficulty,
+                              Double pointBiserial, List<OptionFrequency> options) {
+            this.questionId = questionId;
+            this.autoGraded = autoGraded;
+            this.answered = answered;
+            this.difficulty = difficulty;
+            this.pointBiserial = pointBiserial;
+            this.options = options;
+        }
+
+        public long getQuestionId() { return questionId; }
+        public boolean isAutoGraded() { return autoGraded; }
+        public long getAnswered() { return answered; }
+        public Double getDifficulty() { return difficulty; }
+        public Double getPointBiserial() { return pointBiserial; }
+        public List<OptionFrequency> getOptions() { return options; }
+    }
+
+    /**
+     * How many attempts selected one option, and that count as a share of all attempts
+     */
+    public static final class OptionFrequency {
+
+        private final long optionId;
+        private final boolean correct;
+        private final long selected;
+        private final double rate;
+
+        public OptionFrequency(long optionId, boolean correct, long selected, double rate) {
+            this.optionId = optionId;
+            this.correct = correct;
+            this.selected = selected;
+            this.rate = rate;
+        }
+
+        public long getOptionId() { return optionId; }
+        public boolean isCorrect() { return correct; }
+        public long getSelected() { return selected; }
+        public double getRate() { return rate; }
+    }
+}
@@ -0,0 +1,40 @@
+package com.lms.repository;
+
+import com.lms.entity.AggregateCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AggregateCounterRepository extends JpaRepository<AggregateCounter, Long> {
+
+    /**
+     * Find a counter by name
+     */
+    Optional<AggregateCounter> findByName(String name);
+
+    /**
+     * Find the counters with the given names
+     */
+    List<AggregateCounter> findByNameIn(Collection<String> names);
+
+    /**
+     * Apply a delta in place so concurrent writers never read-modify-write the row
+     */
+    @Modifying
+    @Query("UPDATE AggregateCounter c SET c.value = c.value + :delta WHERE c.name = :name")
+    int addToValue(@Param("name") String name, @Param("delta") long delta);
+
+    /**
+     * Overwrite a counter with an absolute value
+     */
+    @Modifying
+    @Query("UPDATE AggregateCounter c SET c.value = :value WHERE c.name = :name")
+    int setValue(@Param("name") String name, @Param("value") long value);
+}
@@ -0,0 +1,21 @@
+package com.lms.repository;
+
+/**
+ * Correctness and points written to a StudentAnswer by the grading engine
+ */
+public final class AnswerGrade {
+
+    private final long answerId;
+    private final boolean correct;
+    private final double pointsEarned;
+
+    public AnswerGrade(long answerId, boolean correct, double pointsEarned) {
+        this.answerId = answerId;
+        this.correct = correct;
+        this.pointsEarned = pointsEarned;
+    }
+
+    public long getAnswerId() { return answerId; }
+    public boolean isCorrect() { return correct; }
+    public double getPointsEarned() { return pointsEarned; }
+}
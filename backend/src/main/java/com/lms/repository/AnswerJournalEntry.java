@@ -0,0 +1,38 @@
+package com.lms.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One autosaved answer of an in-progress attempt: the full current answer to one
+ * question, replacing any earlier entry for the same question
+ */
+public final class AnswerJournalEntry {
+
+    /**
+     * Most options one entry can select: 64 ids of up to 19 digits, comma separated, fit
+     * the 1400 characters of attempt_answer_journal.selected_option_ids
+     */
+    public static final int MAX_SELECTED_OPTIONS = 64;
+
+    private final long attemptId;
+    private final long questionId;
+    private final List<Long> selectedOptionIds;
+    private final String answerText;
+    private final LocalDateTime savedAt;
+
+    public AnswerJournalEntry(long attemptId, long questionId, List<Long> selectedOptionIds, String answerText,
+                              LocalDateTime savedAt) {
+        this.attemptId = attemptId;
+        this.questionId = questionId;
+        this.selectedOptionIds = selectedOptionIds != null ? List.copyOf(selectedOptionIds) : List.of();
+        this.answerText = answerText;
+        this.savedAt = savedAt;
+    }
+
+    public long getAttemptId() { return attemptId; }
+    public long getQuestionId() { return questionId; }
+    public List<Long> getSelectedOptionIds() { return selectedOptionIds; }
+    public String getAnswerText() { return answerText; }
+    public LocalDateTime getSavedAt() { return savedAt; }
+}
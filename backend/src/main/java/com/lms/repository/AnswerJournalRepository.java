@@ -0,0 +1,37 @@
+package com.lms.repository;
+
+import java.util.List;
+
+/**
+ * Append-only journal of autosaved answers.
+ * 
+ * Entries are only ever inserted; the latest entry per question wins. Entries are only
+ * accepted while their attempt is in progress. The journal of an attempt is read once
+ * when the attempt is submitted and then deleted.
+ */
+public interface AnswerJournalRepository {
+
+    /**
+     * Append entries as one JDBC batch, skipping entries of attempts that are not in progress
+     *
+     * @param entries The entries
+     * @return Number of entries appended
+     */
+    int appendJournal(List<AnswerJournalEntry> entries);
+
+    /**
+     * Latest journal entry of each question answered in an attempt
+     *
+     * @param attemptId The attempt ID
+     * @return Entries ordered by question ID
+     */
+    List<AnswerJournalEntry> findLatestJournalEntries(long attemptId);
+
+    /**
+     * Delete the journal of an attempt
+     *
+     * @param attemptId The attempt ID
+     * @return Number of entries deleted
+     */
+    int deleteJournal(long attemptId);
+}
@@ -0,0 +1,109 @@
+package com.lms.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of AnswerJournalRepository
+ */
+public class AnswerJournalRepositoryImpl implements AnswerJournalRepository {
+
+    // Checked against the attempt at write time, so entries buffered on any node before
+    // the attempt was submitted never reach the journal afterwards
+    static final String INSERT_ENTRY =
+            "INSERT INTO attempt_answer_journal (attempt_id, question_id, selected_option_ids, answer_text, saved_at) " +
+            "SELECT id, ?, ?, ?, ? FROM assessment_attempts WHERE id = ? AND status = 'IN_PROGRESS'";
+
+    static final String SELECT_ENTRIES =
+            "SELECT attempt_id, question_id, selected_option_ids, answer_text, saved_at FROM attempt_answer_journal " +
+            "WHERE attempt_id = ? ORDER BY question_id, id";
+
+    static final String DELETE_ENTRIES = "DELETE FROM attempt_answer_journal WHERE attempt_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AnswerJournalRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int appendJournal(List<AnswerJournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getQuestionId());
+            if (entry.getSelectedOptionIds().isEmpty()) {
+                ps.setNull(2, Types.VARCHAR);
+            } else {
+                ps.setString(2, joinIds(entry.getSelectedOptionIds()));
+            }
+            ps.setString(3, entry.getAnswerText());
+            ps.setTimestamp(4, Timestamp.valueOf(entry.getSavedAt()));
+            ps.setLong(5, entry.getAttemptId());
+        });
+        int appended = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Rewritten batches report no per-row count; treat those rows as appended
+                appended += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return appended;
+    }
+
+    @Override
+    public List<AnswerJournalEntry> findLatestJournalEntries(long attemptId) {
+        List<AnswerJournalEntry> latest = new ArrayList<>();
+        jdbcTemplate.query(SELECT_ENTRIES, rs -> {
+            AnswerJournalEntry entry = new AnswerJournalEntry(rs.getLong(1), rs.getLong(2),
+                    splitIds(rs.getString(3)), rs.getString(4), rs.getTimestamp(5).toLocalDateTime());
+            // Rows arrive in append order within each question, so the last one wins
+            int last = latest.size() - 1;
+            if (last >= 0 && latest.get(last).getQuestionId() == entry.getQuestionId()) {
+                latest.set(last, entry);
+            } else {
+                latest.add(entry);
+            }
+        }, attemptId);
+        return latest;
+    }
+
+    @Override
+    public int deleteJournal(long attemptId) {
+        return jdbcTemplate.update(DELETE_ENTRIES, attemptId);
+    }
+
+    static String joinIds(List<Long> ids) {
+        if (ids.size() > AnswerJournalEntry.MAX_SELECTED_OPTIONS) {
+            throw new IllegalArgumentException("At most " + AnswerJournalEntry.MAX_SELECTED_OPTIONS
+                    + " options can be journaled per question, got " + ids.size());
+        }
+        StringBuilder joined = new StringBuilder(ids.size() * 8);
+        for (Long id : ids) {
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+
+    static List<Long> splitIds(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String id : joined.split(",")) {
+            ids.add(Long.parseLong(id));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,53 @@
+package com.lms.repository;
+
+import com.lms.entity.AssessmentAttempt;
+import com.lms.repository.projection.AttemptScoreView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for AssessmentAttempt entity
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Repository
+public interface AssessmentAttemptRepository extends JpaRepository<AssessmentAttempt, Long>, AttemptGradeRepository {
+
+    /**
+     * Find submitted attempts of an assessment that have not been scored yet
+     * 
+     * @param assessmentId The assessment ID
+     * @return Attempt IDs in ascending order
+     */
+    @Query("SELECT a.id FROM AssessmentAttempt a " +
+           "WHERE a.assessment.id = :assessmentId AND a.status = 'SUBMITTED' AND a.score IS NULL " +
+           "ORDER BY a.id")
+    List<Long> findUngradedSubmittedIds(@Param("assessmentId") Long assessmentId);
+
+    /**
+     * Find all submitted attempts of an assessment
+     * 
+     * @param assessmentId The assessment ID
+     * @return Attempt IDs in ascending order
+     */
+    @Query("SELECT a.id FROM AssessmentAttempt a " +
+           "WHERE a.assessment.id = :assessmentId AND a.status = 'SUBMITTED' " +
+           "ORDER BY a.id")
+    List<Long> findSubmittedIds(@Param("assessmentId") Long assessmentId);
+
+    /**
+     * Find the scores of all graded, submitted attempts of an assessment
+     * 
+     * @param assessmentId The assessment ID
+     * @return Attempt IDs and scores in ascending ID order
+     */
+    @Query("SELECT a.id AS id, a.score AS score FROM AssessmentAttempt a " +
+           "WHERE a.assessment.id = :assessmentId AND a.status = 'SUBMITTED' AND a.score IS NOT NULL " +
+           "ORDER BY a.id")
+    List<AttemptScoreView> findScoredAttempts(@Param("assessmentId") Long assessmentId);
+}
@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
@@ -24,6 +26,35 @@ public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
     @Query("SELECT a FROM Assessment a WHERE a.course = :course AND a.isActive = true AND (a.startDate IS NULL OR a.startDate <= CURRENT_TIMESTAMP) AND (a.endDate IS NULL OR a.endDate >= CURRENT_TIMESTAMP)")
     List<Assessment> findActiveAssessmentsForCourse(@Param("course") Course course);
     
+    /**
+     * IDs of active assessments whose start date falls in a window
+     *
+     * @param from Start of the window, inclusive
+     * @param to End of the window, inclusive
+     * @return Assessment IDs
+     */
+    @Query("SELECT a.id FROM Assessment a WHERE a.isActive = true AND a.startDate BETWEEN :from AND :to")
+    List<Long> findActiveIdsStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * Current version of an assessment, without loading it
+     *
+     * @param id The assessment ID
+     * @return The version, empty if the assessment does not exist
+     */
+    @Query("SELECT COALESCE(a.version, 0) FROM Assessment a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    /**
+     * Load an assessment with its course, so the course and instructor IDs are
+     * available outside a transaction
+     *
+     * @param id The assessment ID
+     * @return The assessment
+     */
+    @Query("SELECT a FROM Assessment a JOIN FETCH a.course WHERE a.id = :id")
+    Optional<Assessment> findWithCourseById(@Param("id") Long id);
+    
     long countByCourse(Course course);
     
     long countByCourseAndIsActive(Course course, Boolean isActive);
@@ -0,0 +1,27 @@
+package com.lms.repository;
+
+/**
+ * Score written to an AssessmentAttempt by the grading engine
+ */
+public final class AttemptGrade {
+
+    private final long attemptId;
+    private final double score;
+    private final double maxScore;
+    private final double percentage;
+    private final boolean passed;
+
+    public AttemptGrade(long attemptId, double score, double maxScore, double percentage, boolean passed) {
+        this.attemptId = attemptId;
+        this.score = score;
+        this.maxScore = maxScore;
+        this.percentage = percentage;
+        this.passed = passed;
+    }
+
+    public long getAttemptId() { return attemptId; }
+    public double getScore() { return score; }
+    public double getMaxScore() { return maxScore; }
+    public double getPercentage() { return percentage; }
+    public boolean isPassed() { return passed; }
+}
@@ -0,0 +1,17 @@
+package com.lms.repository;
+
+import java.util.List;
+
+/**
+ * Batched score updates for graded attempts and their answers.
+ * 
+ * Rows are updated in place with JDBC batches; the version column is incremented so
+ * that optimistic locking still detects concurrent entity updates.
+ */
+public interface AttemptGradeRepository {
+
+    /**
+     * Write attempt scores and answer grades as two JDBC batches
+     */
+    void saveGrades(List<AttemptGrade> attempts, List<AnswerGrade> answers);
+}
@@ -0,0 +1,52 @@
+package com.lms.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of AttemptGradeRepository
+ */
+public class AttemptGradeRepositoryImpl implements AttemptGradeRepository {
+
+    static final String UPDATE_ATTEMPT =
+            "UPDATE assessment_attempts SET score = ?, max_score = ?, percentage = ?, is_passed = ?, " +
+            "updated_at = ?, version = version + 1 WHERE id = ?";
+
+    static final String UPDATE_ANSWER =
+            "UPDATE student_answers SET is_correct = ?, points_earned = ?, " +
+            "updated_at = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AttemptGradeRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void saveGrades(List<AttemptGrade> attempts, List<AnswerGrade> answers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!answers.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ANSWER, answers, answers.size(), (ps, answer) -> {
+                ps.setBoolean(1, answer.isCorrect());
+                ps.setDouble(2, answer.getPointsEarned());
+                ps.setTimestamp(3, now);
+                ps.setLong(4, answer.getAnswerId());
+            });
+        }
+        if (!attempts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ATTEMPT, attempts, attempts.size(), (ps, attempt) -> {
+                ps.setDouble(1, attempt.getScore());
+                ps.setDouble(2, attempt.getMaxScore());
+                ps.setDouble(3, attempt.getPercentage());
+                ps.setBoolean(4, attempt.isPassed());
+                ps.setTimestamp(5, now);
+                ps.setLong(6, attempt.getAttemptId());
+            });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.lms.repository;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Enrollment counter writes for Course rows that leave the second-level cache intact.
+ * 
+ * A JPQL bulk UPDATE on Course makes Hibernate drop the entire Course cache region;
+ * the counter flush runs every second, so these writes go straight to JDBC and evict
+ * only the affected course once the update commits.
+ * 
+ * Seat reservations live in the same row but are never read through the entity, so
+ * they need no eviction. CourseSeatAdmission writes them in the enrolling transaction,
+ * so the row lock taken by the update orders concurrent admissions on every node and
+ * a reservation never outlives a rolled-back enrollment.
+ */
+public interface CourseCounterRepository {
+
+    /**
+     * Apply a delta to a course's enrollment count in a single statement, never going
+     * below zero; does not touch the version column
+     * 
+     * @param courseId The course ID
+     * @param delta Amount to add, may be negative
+     * @return Number of rows updated
+     */
+    int addToEnrollmentCount(Long courseId, int delta);
+
+    /**
+     * Recompute enrollment counts from non-dropped enrollments, rewriting and evicting
+     * only the courses whose stored count is wrong. Committed deltas that are still
+     * buffered are already part of the recount, so they are subtracted from the value
+     * written; once flushed, the stored count matches the recount.
+     * 
+     * @param pendingDelta Buffered delta of a course ID
+     * @return Number of courses corrected
+     */
+    int reconcileEnrollmentCounts(LongUnaryOperator pendingDelta);
+
+    /**
+     * Reserve up to the requested number of seats of a capped course, never going
+     * above max_students
+     * 
+     * @param courseId The course ID
+     * @param seats Seats wanted
+     * @return Seats reserved, between zero and seats
+     */
+    int reserveSeats(Long courseId, int seats);
+
+    /**
+     * Give back seats of a capped course, never going below zero
+     * 
+     * @param courseId The course ID
+     * @param seats Seats freed
+     * @return Number of rows updated
+     */
+    int releaseSeats(Long courseId, int seats);
+
+    /**
+     * Recompute a course's reserved seats from its non-dropped enrollments, e.g. when
+     * it gets a seat limit
+     * 
+     * @param courseId The course ID
+     * @return Number of rows updated
+     */
+    int resetReservedSeats(Long courseId);
+
+    /**
+     * Recompute reserved seats of every capped course from its non-dropped
+     * enrollments, rewriting only the courses whose stored reservation is wrong
+     * 
+     * @return Number of courses corrected
+     */
+    int reconcileReservedSeats();
+
+    /**
+     * Seats still free in a capped course
+     * 
+     * @param courseId The course ID
+     * @return Free seats, or null if the course has no seat limit
+     */
+    Integer findFreeSeats(Long courseId);
+}
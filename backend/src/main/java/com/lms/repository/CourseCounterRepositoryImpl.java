@@ -0,0 +1,124 @@
+package com.lms.repository;
+
+import com.lms.entity.Course;
+import com.lms.support.TransactionHooks;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * JDBC implementation of CourseCounterRepository with per-course cache eviction
+ */
+public class CourseCounterRepositoryImpl implements CourseCounterRepository {
+
+    static final String ADD_TO_ENROLLMENT_COUNT =
+            "UPDATE courses SET enrollment_count = CASE WHEN enrollment_count + ? < 0 THEN 0 " +
+            "ELSE enrollment_count + ? END WHERE id = ?";
+
+    static final String FIND_ENROLLMENT_COUNTS =
+            "SELECT c.id, c.enrollment_count, COUNT(e.id) FROM courses c " +
+            "LEFT JOIN enrollments e ON e.course_id = c.id AND e.status <> 'DROPPED' " +
+            "GROUP BY c.id, c.enrollment_count";
+
+    static final String SET_ENROLLMENT_COUNT = "UPDATE courses SET enrollment_count = ? WHERE id = ?";
+
+    static final String RESERVE_SEATS =
+            "UPDATE courses SET reserved_seats = reserved_seats + ? " +
+            "WHERE id = ? AND reserved_seats + ? <= max_students";
+
+    static final String LOCK_FREE_SEATS = "SELECT max_students - reserved_seats FROM courses WHERE id = ? FOR UPDATE";
+
+    static final String FIND_FREE_SEATS = "SELECT max_students - reserved_seats FROM courses WHERE id = ?";
+
+    static final String RELEASE_SEATS =
+            "UPDATE courses SET reserved_seats = CASE WHEN reserved_seats - ? < 0 THEN 0 " +
+            "ELSE reserved_seats - ? END WHERE id = ?";
+
+    static final String RESET_RESERVED_SEATS =
+            "UPDATE courses SET reserved_seats = (SELECT COUNT(*) FROM enrollments e " +
+            "WHERE e.course_id = ? AND e.status <> 'DROPPED') WHERE id = ?";
+
+    static final String RECONCILE_RESERVED_SEATS =
+            "UPDATE courses SET reserved_seats = (SELECT COUNT(*) FROM enrollments e " +
+            "WHERE e.course_id = courses.id AND e.status <> 'DROPPED') " +
+            "WHERE max_students IS NOT NULL AND reserved_seats <> (SELECT COUNT(*) FROM enrollments e " +
+            "WHERE e.course_id = courses.id AND e.status <> 'DROPPED')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public CourseCounterRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public int addToEnrollmentCount(Long courseId, int delta) {
+        int updated = jdbcTemplate.update(ADD_TO_ENROLLMENT_COUNT, delta, delta, courseId);
+        if (updated > 0) {
+            evictAfterCommit(courseId);
+        }
+        return updated;
+    }
+
+    @Override
+    public int reconcileEnrollmentCounts(LongUnaryOperator pendingDelta) {
+        List<long[]> counts = jdbcTemplate.query(FIND_ENROLLMENT_COUNTS,
+                (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3)});
+        int corrected = 0;
+        for (long[] course : counts) {
+            long expected = course[2] - pendingDelta.applyAsLong(course[0]);
+            if (course[1] != expected && jdbcTemplate.update(SET_ENROLLMENT_COUNT, expected, course[0]) > 0) {
+                evictAfterCommit(course[0]);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    @Override
+    public int reserveSeats(Long courseId, int seats) {
+        if (seats <= 0) {
+            return 0;
+        }
+        if (jdbcTemplate.update(RESERVE_SEATS, seats, courseId, seats) > 0) {
+            return seats;
+        }
+        // Not enough seats for all: lock the row so the remainder cannot change under us
+        List<Integer> free = jdbcTemplate.queryForList(LOCK_FREE_SEATS, Integer.class, courseId);
+        if (free.isEmpty() || free.get(0) == null || free.get(0) <= 0) {
+            return 0;
+        }
+        int granted = Math.min(seats, free.get(0));
+        return jdbcTemplate.update(RESERVE_SEATS, granted, courseId, granted) > 0 ? granted : 0;
+    }
+
+    @Override
+    public int releaseSeats(Long courseId, int seats) {
+        return jdbcTemplate.update(RELEASE_SEATS, seats, seats, courseId);
+    }
+
+    @Override
+    public int resetReservedSeats(Long courseId) {
+        return jdbcTemplate.update(RESET_RESERVED_SEATS, courseId, courseId);
+    }
+
+    @Override
+    public int reconcileReservedSeats() {
+        return jdbcTemplate.update(RECONCILE_RESERVED_SEATS);
+    }
+
+    @Override
+    public Integer findFreeSeats(Long courseId) {
+        List<Integer> free = jdbcTemplate.queryForList(FIND_FREE_SEATS, Integer.class, courseId);
+        return free.isEmpty() ? null : free.get(0);
+    }
+
+    private void evictAfterCommit(Long courseId) {
+        TransactionHooks.afterCommit(() -> entityManagerFactory.getCache().evict(Course.class, courseId));
+    }
+}
@@ -1,10 +1,12 @@
 package com.lms.repository;
 
+import com.lms.dto.CourseSummaryDTO;
 import com.lms.entity.Course;
 import com.lms.entity.User;
 import com.lms.enums.CourseStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,7 +24,24 @@ import java.util.Optional;
  * @version 1.0
  */
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseCounterRepository {
+
+    /**
+     * Constructor expression for CourseSummaryDTO over Course c joined to instructor i
+     */
+    String SUMMARY_COLUMNS = "new com.lms.dto.CourseSummaryDTO(c.id, c.title, c.shortDescription, c.category, " +
+            "c.level, c.language, c.durationHours, c.thumbnailUrl, c.price, c.rating, c.enrollmentCount, c.status, c.isFeatured, " +
+            "i.id, CONCAT(i.firstName, ' ', i.lastName))";
+
+    /**
+     * Find a course with its instructor and contents (ordered by orderIndex) in a single select
+     * 
+     * @param id The course ID
+     * @return Optional course with the detail graph initialized
+     */
+    @EntityGraph(Course.DETAIL_GRAPH)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findDetailById(@Param("id") Long id);
 
     /**
      * Find courses by instructor
@@ -88,16 +107,7 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * 
      * @return List of featured courses
      */
-    List<Course> findByFeaturedTrue();
-
-    /**
-     * Find featured courses with status
-     * 
-     * @param status Course status
-     * @param pageable Pagination information
-     * @return Page of featured courses
-     */
-    Page<Course> findByFeaturedTrueAndStatus(CourseStatus status, Pageable pageable);
+    List<Course> findByIsFeaturedTrue();
 
     /**
      * Find courses by title containing text (case insensitive)
@@ -196,6 +206,47 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      */
     Page<Course> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description, Pageable pageable);
 
+    /**
+     * Find all courses with their instructor fetched in the same query
+     * 
+     * @return List of courses
+     */
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.instructor")
+    List<Course> findAllWithInstructor();
+
+    /**
+     * Page of course cards; selects only summary columns and the instructor name
+     * 
+     * @param pageable Pagination information
+     * @return Page of course summaries
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM Course c LEFT JOIN c.instructor i",
+           countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseSummaryDTO> findAllSummaries(Pageable pageable);
+
+    /**
+     * Page of course cards with a status
+     * 
+     * @param status Course status
+     * @param pageable Pagination information
+     * @return Page of course summaries
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM Course c LEFT JOIN c.instructor i WHERE c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Course c WHERE c.status = :status")
+    Page<CourseSummaryDTO> findSummariesByStatus(@Param("status") CourseStatus status, Pageable pageable);
+
+    /**
+     * Page of featured course cards with a status
+     * 
+     * @param status Course status
+     * @param pageable Pagination information
+     * @return Page of course summaries
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM Course c LEFT JOIN c.instructor i " +
+                   "WHERE c.isFeatured = true AND c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Course c WHERE c.isFeatured = true AND c.status = :status")
+    Page<CourseSummaryDTO> findFeaturedSummariesByStatus(@Param("status") CourseStatus status, Pageable pageable);
+
     /**
      * Search courses by title, description, or category
      * 
@@ -4,14 +4,18 @@ import com.lms.entity.Course;
 import com.lms.entity.Enrollment;
 import com.lms.entity.User;
 import com.lms.enums.EnrollmentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +71,16 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     Page<Enrollment> findByCourse(Course course, Pageable pageable);
 
+    /**
+     * Keyset-scroll a course's enrollments in ID order without counting them
+     * 
+     * @param course The course
+     * @param position Position after the last enrollment of the previous window
+     * @param limit Window size
+     * @return Window of enrollments
+     */
+    Window<Enrollment> findByCourseOrderByIdAsc(Course course, ScrollPosition position, Limit limit);
+
     /**
      * Find enrollments by status
      * 
@@ -154,7 +168,7 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      * @param endDate End date
      * @return List of enrollments
      */
-    List<Enrollment> findByEnrollmentDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    List<Enrollment> findByEnrolledAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     /**
      * Find enrollments by completion date range
@@ -163,7 +177,7 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      * @param endDate End date
      * @return List of enrollments
      */
-    List<Enrollment> findByCompletionDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    List<Enrollment> findByCompletedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     /**
      * Check if student is enrolled in course
@@ -174,6 +188,16 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     boolean existsByStudentAndCourse(User student, Course course);
 
+    /**
+     * Check if student holds an enrollment in one of the given statuses, by IDs only
+     * 
+     * @param studentId The student ID
+     * @param courseId The course ID
+     * @param statuses Statuses that count
+     * @return true if such an enrollment exists
+     */
+    boolean existsByStudentIdAndCourseIdAndStatusIn(Long studentId, Long courseId, Collection<EnrollmentStatus> statuses);
+
     /**
      * Count enrollments by course
      * 
@@ -182,6 +206,15 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     long countByCourse(Course course);
 
+    /**
+     * Count a course's enrollments excluding a status
+     * 
+     * @param course The course
+     * @param status The status to exclude
+     * @return Count of enrollments
+     */
+    long countByCourseAndStatusNot(Course course, EnrollmentStatus status);
+
     /**
      * Count enrollments by status
      * 
@@ -214,7 +247,7 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      * @param pageable Pagination information
      * @return Page of recent enrollments
      */
-    Page<Enrollment> findByEnrollmentDateAfter(LocalDateTime since, Pageable pageable);
+    Page<Enrollment> findByEnrolledAtAfter(LocalDateTime since, Pageable pageable);
 
     /**
      * Find enrollments with high progress
@@ -242,4 +275,14 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     @Query("SELECT e.status, COUNT(e) FROM Enrollment e WHERE e.course = :course GROUP BY e.status")
     List<Object[]> findEnrollmentStatisticsByCourse(@Param("course") Course course);
+
+    /**
+     * Find which of the given students are already enrolled in a course
+     * 
+     * @param course The course
+     * @param studentIds Candidate student IDs
+     * @return IDs of students with an existing enrollment
+     */
+    @Query("SELECT e.student.id FROM Enrollment e WHERE e.course = :course AND e.student.id IN :studentIds")
+    List<Long> findEnrolledStudentIds(@Param("course") Course course, @Param("studentIds") Collection<Long> studentIds);
 }
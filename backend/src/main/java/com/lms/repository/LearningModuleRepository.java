@@ -1,11 +1,15 @@
 package com.lms.repository;
 
+import com.lms.config.CacheRegions;
 import com.lms.entity.LearningModule;
 import com.lms.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -65,6 +69,10 @@ public interface LearningModuleRepository extends JpaRepository<LearningModule,
      */
     @Query("SELECT DISTINCT lm.subject FROM LearningModule lm WHERE " +
            "lm.isPublished = true AND lm.subject IS NOT NULL ORDER BY lm.subject")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.MODULE_FACETS)
+    })
     List<String> findDistinctSubjects();
 
     /**
@@ -72,6 +80,10 @@ public interface LearningModuleRepository extends JpaRepository<LearningModule,
      */
     @Query("SELECT DISTINCT lm.level FROM LearningModule lm WHERE " +
            "lm.isPublished = true AND lm.level IS NOT NULL ORDER BY lm.level")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.MODULE_FACETS)
+    })
     List<String> findDistinctLevels();
 
     /**
@@ -5,6 +5,9 @@ import com.lms.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,13 +15,50 @@ import java.util.List;
 @Repository
 public interface LearningPathRepository extends JpaRepository<LearningPath, Long> {
     
-    Page<LearningPath> findByInstructor(User instructor, Pageable pageable);
+    Page<LearningPath> findByCreator(User creator, Pageable pageable);
     
     Page<LearningPath> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description, Pageable pageable);
     
-    List<LearningPath> findByPublishedTrue();
+    List<LearningPath> findByIsPublishedTrue();
     
-    List<LearningPath> findByInstructor(User instructor);
+    List<LearningPath> findByCreator(User creator);
     
-    long countByInstructor(User instructor);
-}
\ No newline at end of file
+    long countByCreator(User creator);
+
+    /**
+     * Apply a delta to a learning path's enrollment count in a single statement
+     */
+    @Modifying
+    @Query("UPDATE LearningPath p SET p.enrollmentCount = CASE WHEN p.enrollmentCount + :delta < 0 THEN 0 " +
+           "ELSE p.enrollmentCount + :delta END WHERE p.id = :pathId")
+    int addToEnrollmentCount(@Param("pathId") Long pathId, @Param("delta") int delta);
+
+    /**
+     * Apply a delta to a learning path's completion count in a single statement
+     */
+    @Modifying
+    @Query("UPDATE LearningPath p SET p.completionCount = CASE WHEN p.completionCount + :delta < 0 THEN 0 " +
+           "ELSE p.completionCount + :delta END WHERE p.id = :pathId")
+    int addToCompletionCount(@Param("pathId") Long pathId, @Param("delta") int delta);
+
+    /**
+     * Stored and recounted enrollment and completion counts of every learning path, as
+     * [id, enrollmentCount, completionCount, enrollments, completions]
+     */
+    @Query("SELECT p.id, p.enrollmentCount, p.completionCount, " +
+           "(SELECT COUNT(e) FROM LearningPathEnrollment e WHERE e.learningPath = p), " +
+           "(SELECT COUNT(e) FROM LearningPathEnrollment e " +
+           "WHERE e.learningPath = p AND e.completionDate IS NOT NULL) " +
+           "FROM LearningPath p")
+    List<Object[]> findCounterTotals();
+
+    /**
+     * Overwrite a learning path's enrollment and completion counts
+     */
+    @Modifying
+    @Query("UPDATE LearningPath p SET p.enrollmentCount = :enrollments, p.completionCount = :completions " +
+           "WHERE p.id = :pathId")
+    int setCounts(@Param("pathId") Long pathId,
+                  @Param("enrollments") int enrollments,
+                  @Param("completions") int completions);
+}
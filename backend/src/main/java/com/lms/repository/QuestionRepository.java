@@ -0,0 +1,47 @@
+package com.lms.repository;
+
+import com.lms.entity.Question;
+import com.lms.repository.projection.AnswerKeyRowView;
+import com.lms.repository.projection.DeliveryRowView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for Question entity
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Repository
+public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    /**
+     * Load the answer key of an assessment as scalar rows in one query
+     * 
+     * @param assessmentId The assessment ID
+     * @return One row per question and option, ordered by question ID then option ID
+     */
+    @Query("SELECT q.id AS questionId, q.points AS points, q.questionType AS questionType, " +
+           "o.id AS optionId, o.isCorrect AS correct, o.optionText AS optionText " +
+           "FROM Question q LEFT JOIN q.options o " +
+           "WHERE q.assessment.id = :assessmentId " +
+           "ORDER BY q.id, o.id")
+    List<AnswerKeyRowView> findAnswerKeyRows(@Param("assessmentId") Long assessmentId);
+
+    /**
+     * Load what students see of an assessment's questions as scalar rows in one query
+     * 
+     * @param assessmentId The assessment ID
+     * @return One row per question and option, in delivery order
+     */
+    @Query("SELECT q.id AS questionId, q.questionText AS questionText, q.questionType AS questionType, " +
+           "q.points AS points, o.id AS optionId, o.optionText AS optionText " +
+           "FROM Question q LEFT JOIN q.options o " +
+           "WHERE q.assessment.id = :assessmentId " +
+           "ORDER BY q.orderIndex, q.id, o.orderIndex, o.id")
+    List<DeliveryRowView> findDeliveryRows(@Param("assessmentId") Long assessmentId);
+}
@@ -0,0 +1,47 @@
+package com.lms.repository;
+
+import com.lms.entity.StudentAnswer;
+import com.lms.repository.projection.AnswerRowView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for StudentAnswer entity
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Repository
+public interface StudentAnswerRepository extends JpaRepository<StudentAnswer, Long>, AnswerJournalRepository {
+
+    /**
+     * Load the answers of several attempts as scalar rows, without entities or lazy loads
+     * 
+     * @param attemptIds The attempt IDs
+     * @return Answer rows ordered by attempt ID then question ID
+     */
+    @Query("SELECT a.id AS id, a.attempt.id AS attemptId, a.question.id AS questionId, " +
+           "o.id AS selectedOptionId, a.answerText AS answerText, a.pointsEarned AS pointsEarned " +
+           "FROM StudentAnswer a LEFT JOIN a.selectedOption o " +
+           "WHERE a.attempt.id IN :attemptIds " +
+           "ORDER BY a.attempt.id, a.question.id")
+    List<AnswerRowView> findAnswerRowsByAttemptIds(@Param("attemptIds") Collection<Long> attemptIds);
+
+    /**
+     * Delete the answers of an attempt to the given questions
+     * 
+     * @param attemptId The attempt ID
+     * @param questionIds The question IDs
+     * @return Number of answers deleted
+     */
+    @Modifying
+    @Query("DELETE FROM StudentAnswer a WHERE a.attempt.id = :attemptId AND a.question.id IN :questionIds")
+    int deleteByAttemptIdAndQuestionIds(@Param("attemptId") Long attemptId,
+                                        @Param("questionIds") Collection<Long> questionIds);
+}
@@ -1,52 +1,124 @@
 package com.lms.repository;
 
-import com.lms.entity.Course;
+import com.lms.entity.LearningModule;
 import com.lms.entity.StudentProgress;
 import com.lms.entity.User;
+import com.lms.repository.projection.DailyCountView;
+import com.lms.repository.projection.ModuleProgressStatisticsView;
+import com.lms.repository.projection.ProgressStatisticsView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentProgressRepository extends JpaRepository<StudentProgress, Long> {
+public interface StudentProgressRepository extends JpaRepository<StudentProgress, Long>, StudentProgressUpsertRepository {
 
-    List<StudentProgress> findByStudentAndCourse(User student, Course course);
-    
-    Optional<StudentProgress> findByStudentAndCourseAndContentId(User student, Course course, String contentId);
+    Optional<StudentProgress> findByStudentAndModule(User student, LearningModule module);
+
+    @Query("SELECT sp FROM StudentProgress sp JOIN FETCH sp.student JOIN FETCH sp.module WHERE sp.id = :id")
+    Optional<StudentProgress> findWithStudentAndModuleById(@Param("id") Long id);
     
     List<StudentProgress> findByStudent(User student);
     
     Page<StudentProgress> findByStudent(User student, Pageable pageable);
     
-    List<StudentProgress> findByCourse(Course course);
+    List<StudentProgress> findByStudentAndIsCompletedTrue(User student);
+    
+    List<StudentProgress> findByStudentAndIsCompletedFalse(User student);
+    
+    List<StudentProgress> findByModule(LearningModule module);
+    
+    Page<StudentProgress> findByModule(LearningModule module, Pageable pageable);
+    
+    List<StudentProgress> findByModuleAndIsCompletedFalseAndLastAccessedAfter(LearningModule module, LocalDateTime since);
+    
+    Window<StudentProgress> findByModuleOrderByIdAsc(LearningModule module, ScrollPosition position, Limit limit);
     
-    Page<StudentProgress> findByCourse(Course course, Pageable pageable);
+    List<StudentProgress> findByLastAccessedBetween(LocalDateTime startDate, LocalDateTime endDate);
     
-    List<StudentProgress> findByLastAccessedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+    @Query("SELECT sp.student FROM StudentProgress sp WHERE sp.module = :module AND sp.isCompleted = true")
+    List<User> findStudentsWhoCompletedModule(@Param("module") LearningModule module);
     
-    @Query("SELECT sp FROM StudentProgress sp WHERE sp.course.instructor = :instructor")
+    @Query("SELECT sp.student, AVG(sp.completionPercentage) FROM StudentProgress sp " +
+           "GROUP BY sp.student ORDER BY AVG(sp.completionPercentage) DESC")
+    List<Object[]> findTopStudentsByAverageCompletion(Pageable pageable);
+    
+    @Query("SELECT sp FROM StudentProgress sp WHERE sp.module.createdBy = :instructor")
     List<StudentProgress> findByInstructor(@Param("instructor") User instructor);
     
+    @Query("SELECT COUNT(DISTINCT sp.student.id) AS totalStudents, " +
+           "COALESCE(SUM(CASE WHEN sp.isCompleted = true THEN 1 ELSE 0 END), 0) AS completedLessons, " +
+           "COALESCE(AVG(sp.completionPercentage), 0.0) AS averageProgress, " +
+           "COUNT(sp) AS totalProgressRecords " +
+           "FROM StudentProgress sp JOIN sp.module m WHERE m.createdBy = :instructor")
+    ProgressStatisticsView findStatisticsByInstructor(@Param("instructor") User instructor);
+    
+    @Query("SELECT m.id AS moduleId, m.title AS moduleTitle, " +
+           "COUNT(DISTINCT sp.student.id) AS totalStudents, " +
+           "COALESCE(SUM(CASE WHEN sp.isCompleted = true THEN 1 ELSE 0 END), 0) AS completedLessons, " +
+           "COALESCE(AVG(sp.completionPercentage), 0.0) AS averageProgress, " +
+           "COUNT(sp) AS totalProgressRecords " +
+           "FROM StudentProgress sp JOIN sp.module m WHERE m.createdBy = :instructor " +
+           "GROUP BY m.id, m.title ORDER BY m.title")
+    List<ModuleProgressStatisticsView> findModuleStatisticsByInstructor(@Param("instructor") User instructor);
+    
+    @Query("SELECT COUNT(DISTINCT sp.student.id) AS totalStudents, " +
+           "COALESCE(SUM(CASE WHEN sp.isCompleted = true THEN 1 ELSE 0 END), 0) AS completedLessons, " +
+           "COALESCE(AVG(sp.completionPercentage), 0.0) AS averageProgress, " +
+           "COUNT(sp) AS totalProgressRecords " +
+           "FROM StudentProgress sp WHERE sp.module = :module")
+    ProgressStatisticsView findStatisticsByModule(@Param("module") LearningModule module);
+    
     @Query("SELECT sp FROM StudentProgress sp WHERE sp.student.city = :city OR sp.student.country = :country")
     List<StudentProgress> findByStudentCityOrStudentCountry(@Param("city") String city, @Param("country") String country);
     
-    @Query("SELECT sp FROM StudentProgress sp WHERE YEAR(sp.lastAccessedAt) = :year")
-    List<StudentProgress> findByYear(@Param("year") int year);
+    @Query("SELECT CAST(sp.lastAccessed AS LocalDate) AS day, COUNT(sp) AS total FROM StudentProgress sp " +
+           "WHERE sp.lastAccessed >= :start AND sp.lastAccessed < :end " +
+           "AND (:moduleId IS NULL OR sp.module.id = :moduleId) " +
+           "GROUP BY CAST(sp.lastAccessed AS LocalDate)")
+    List<DailyCountView> countByDay(@Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end,
+                                    @Param("moduleId") Long moduleId);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sp FROM StudentProgress sp JOIN FETCH sp.student JOIN FETCH sp.module " +
+           "WHERE sp.lastAccessed BETWEEN :startDate AND :endDate")
+    Stream<StudentProgress> streamByLastAccessedBetween(@Param("startDate") LocalDateTime startDate,
+                                                       @Param("endDate") LocalDateTime endDate);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT sp FROM StudentProgress sp JOIN FETCH sp.student s JOIN FETCH sp.module " +
+           "WHERE s.city = :city OR s.country = :country")
+    Stream<StudentProgress> streamByStudentCityOrStudentCountry(@Param("city") String city,
+                                                                @Param("country") String country);
     
     long countByStudent(User student);
     
-    long countByCourse(Course course);
+    long countByStudentAndIsCompletedTrue(User student);
     
-    @Query("SELECT AVG(sp.progressPercentage) FROM StudentProgress sp WHERE sp.course = :course")
-    Double findAverageProgressByCourse(@Param("course") Course course);
+    @Query("SELECT AVG(sp.completionPercentage) FROM StudentProgress sp WHERE sp.student = :student")
+    Double findAverageCompletionByStudent(@Param("student") User student);
     
-    @Query("SELECT AVG(sp.progressPercentage) FROM StudentProgress sp WHERE sp.student = :student")
-    Double findAverageProgressByStudent(@Param("student") User student);
+    @Query("SELECT SUM(sp.timeSpent) FROM StudentProgress sp WHERE sp.student = :student")
+    Long sumTimeSpentByStudent(@Param("student") User student);
 }
@@ -0,0 +1,69 @@
+package com.lms.repository;
+
+import com.lms.entity.StudentProgress;
+
+import java.time.LocalDateTime;
+
+/**
+ * Values written by a StudentProgress upsert, keyed by (student, module).
+ * A null section, time spent, percentage or JSON column leaves the stored value
+ * unchanged.
+ */
+public final class StudentProgressUpsert {
+
+    private final Long studentId;
+    private final Long moduleId;
+    private final Integer currentSection;
+    private final Integer timeSpent;
+    private final Double completionPercentage;
+    private final boolean completed;
+    private final LocalDateTime accessedAt;
+    private final String completedObjectives;
+    private final String quizScores;
+    private final String notes;
+    private final String bookmarks;
+
+    public StudentProgressUpsert(Long studentId, Long moduleId, Integer currentSection, Integer timeSpent,
+                                 Double completionPercentage, boolean completed, LocalDateTime accessedAt) {
+        this(studentId, moduleId, currentSection, timeSpent, completionPercentage, completed, accessedAt,
+                null, null, null, null);
+    }
+
+    public StudentProgressUpsert(Long studentId, Long moduleId, Integer currentSection, Integer timeSpent,
+                                 Double completionPercentage, boolean completed, LocalDateTime accessedAt,
+                                 String completedObjectives, String quizScores, String notes, String bookmarks) {
+        this.studentId = studentId;
+        this.moduleId = moduleId;
+        this.currentSection = currentSection;
+        this.timeSpent = timeSpent;
+        this.completionPercentage = completionPercentage;
+        this.completed = completed;
+        this.accessedAt = accessedAt;
+        this.completedObjectives = completedObjectives;
+        this.quizScores = quizScores;
+        this.notes = notes;
+        this.bookmarks = bookmarks;
+    }
+
+    /**
+     * Upsert values reported by a progress entity, accessed at the given time
+     */
+    public static StudentProgressUpsert of(StudentProgress progress, LocalDateTime accessedAt) {
+        return new StudentProgressUpsert(progress.getStudent().getId(), progress.getModule().getId(),
+                progress.getCurrentSection(), progress.getTimeSpent(), progress.getCompletionPercentage(),
+                Boolean.TRUE.equals(progress.getIsCompleted()), accessedAt, progress.getCompletedObjectives(),
+                progress.getQuizScores(), progress.getNotes(), progress.getBookmarks());
+    }
+
+    public Long getStudentId() { return studentId; }
+    public Long getModuleId() { return moduleId; }
+    public Integer getCurrentSection() { return currentSection; }
+    public Integer getTimeSpent() { return timeSpent; }
+    public Double getCompletionPercentage() { return completionPercentage; }
+    public boolean isCompleted() { return completed; }
+    public LocalDateTime getAccessedAt() { return accessedAt; }
+    public String getCompletedObjectives() { return completedObjectives; }
+    public String getQuizScores() { return quizScores; }
+    public String getNotes() { return notes; }
+    public String getBookmarks() { return bookmarks; }
+}
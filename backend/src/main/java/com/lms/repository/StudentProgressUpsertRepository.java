@@ -0,0 +1,26 @@
+package com.lms.repository;
+
+import java.util.List;
+
+/**
+ * Single round-trip insert-or-update for StudentProgress rows.
+ * 
+ * Keyed on the unique (student_id, module_id) key: section, time spent, percentage
+ * and last access time are overwritten when reported, completion is never cleared
+ * once set and the completion date keeps its first value. JSON columns are
+ * overwritten when reported and kept otherwise.
+ */
+public interface StudentProgressUpsertRepository {
+
+    /**
+     * Insert or update one progress row
+     * 
+     * @return ID of the inserted or updated row
+     */
+    long upsertProgress(StudentProgressUpsert row);
+
+    /**
+     * Insert or update many progress rows as one JDBC batch
+     */
+    void upsertProgressBatch(List<StudentProgressUpsert> rows);
+}
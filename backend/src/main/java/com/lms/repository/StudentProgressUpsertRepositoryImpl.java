@@ -0,0 +1,203 @@
+package com.lms.repository;
+
+import com.lms.entity.StudentProgress;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Dialect-aware implementation of StudentProgressUpsertRepository:
+ * INSERT ... ON DUPLICATE KEY UPDATE on MySQL, MERGE ... USING on H2.
+ */
+public class StudentProgressUpsertRepositoryImpl implements StudentProgressUpsertRepository {
+
+    static final String MYSQL_UPSERT =
+            "INSERT INTO student_progress " +
+            "(id, student_id, module_id, current_section, time_spent, completion_percentage, is_completed, " +
+            "completion_date, last_accessed, created_at, updated_at, completed_objectives, quiz_scores, " +
+            "notes, bookmarks, version) " +
+            "VALUES (?, ?, ?, COALESCE(?, 0), COALESCE(?, 0), COALESCE(?, 0), ?, ?, ?, ?, ?, ?, ?, ?, ?, 0) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "id = LAST_INSERT_ID(id), " +
+            "current_section = COALESCE(?, current_section), " +
+            "time_spent = COALESCE(?, time_spent), " +
+            "completion_percentage = COALESCE(?, completion_percentage), " +
+            "completion_date = COALESCE(completion_date, VALUES(completion_date)), " +
+            "is_completed = COALESCE(is_completed, FALSE) OR VALUES(is_completed), " +
+            "last_accessed = VALUES(last_accessed), " +
+            "updated_at = VALUES(updated_at), " +
+            "completed_objectives = COALESCE(VALUES(completed_objectives), completed_objectives), " +
+            "quiz_scores = COALESCE(VALUES(quiz_scores), quiz_scores), " +
+            "notes = COALESCE(VALUES(notes), notes), " +
+            "bookmarks = COALESCE(VALUES(bookmarks), bookmarks), " +
+            "version = COALESCE(version, 0) + 1";
+
+    static final String H2_UPSERT =
+            "MERGE INTO student_progress t USING (VALUES (" +
+            "CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS INT), CAST(? AS INT), " +
+            "CAST(? AS DOUBLE PRECISION), CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), " +
+            "CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), " +
+            "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR))) " +
+            "s(id, student_id, module_id, current_section, time_spent, completion_percentage, is_completed, " +
+            "completion_date, last_accessed, created_at, updated_at, completed_objectives, quiz_scores, " +
+            "notes, bookmarks) " +
+            "ON t.student_id = s.student_id AND t.module_id = s.module_id " +
+            // A NULL bound FORMAT JSON becomes the JSON null literal, hence the CASEs
+            "WHEN MATCHED THEN UPDATE SET " +
+            "current_section = COALESCE(s.current_section, t.current_section), " +
+            "time_spent = COALESCE(s.time_spent, t.time_spent), " +
+            "completion_percentage = COALESCE(s.completion_percentage, t.completion_percentage), " +
+            "completion_date = COALESCE(t.completion_date, s.completion_date), " +
+            "is_completed = COALESCE(t.is_completed, FALSE) OR s.is_completed, " +
+            "last_accessed = s.last_accessed, " +
+            "updated_at = s.updated_at, " +
+            "completed_objectives = CASE WHEN s.completed_objectives IS NULL THEN t.completed_objectives " +
+            "ELSE s.completed_objectives FORMAT JSON END, " +
+            "quiz_scores = CASE WHEN s.quiz_scores IS NULL THEN t.quiz_scores " +
+            "ELSE s.quiz_scores FORMAT JSON END, " +
+            "notes = CASE WHEN s.notes IS NULL THEN t.notes " +
+            "ELSE s.notes FORMAT JSON END, " +
+            "bookmarks = CASE WHEN s.bookmarks IS NULL THEN t.bookmarks " +
+            "ELSE s.bookmarks FORMAT JSON END, " +
+            "version = COALESCE(t.version, 0) + 1 " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(id, student_id, module_id, current_section, time_spent, completion_percentage, is_completed, " +
+            "completion_date, last_accessed, created_at, updated_at, completed_objectives, quiz_scores, " +
+            "notes, bookmarks, version) " +
+            "VALUES (s.id, s.student_id, s.module_id, COALESCE(s.current_section, 0), COALESCE(s.time_spent, 0), " +
+            "COALESCE(s.completion_percentage, 0), s.is_completed, s.completion_date, s.last_accessed, " +
+            "s.created_at, s.updated_at, " +
+            "CASE WHEN s.completed_objectives IS NULL THEN NULL ELSE s.completed_objectives FORMAT JSON END, " +
+            "CASE WHEN s.quiz_scores IS NULL THEN NULL ELSE s.quiz_scores FORMAT JSON END, " +
+            "CASE WHEN s.notes IS NULL THEN NULL ELSE s.notes FORMAT JSON END, " +
+            "CASE WHEN s.bookmarks IS NULL THEN NULL ELSE s.bookmarks FORMAT JSON END, 0)";
+
+    /**
+     * H2 reports the merged row's id through a data change delta table
+     */
+    static final String H2_UPSERT_RETURNING_ID = "SELECT id FROM FINAL TABLE (" + H2_UPSERT + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LongSupplier idSource;
+    private volatile Boolean h2Database;
+
+    /**
+     * Ids are drawn from the entity's pooled generator so native inserts never collide
+     * with rows written through Hibernate. An id is consumed even when the row already
+     * exists; with pooled allocation that costs no extra round trip.
+     */
+    @Autowired
+    public StudentProgressUpsertRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this(jdbcTemplate, () -> nextId(entityManager));
+    }
+
+    StudentProgressUpsertRepositoryImpl(JdbcTemplate jdbcTemplate, LongSupplier idSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSource = idSource;
+    }
+
+    @Override
+    public long upsertProgress(StudentProgressUpsert row) {
+        long id = idSource.getAsLong();
+        if (isH2()) {
+            return jdbcTemplate.query(H2_UPSERT_RETURNING_ID, ps -> bind(ps, id, row, true), rs -> {
+                rs.next();
+                return rs.getLong(1);
+            });
+        }
+        // On a duplicate key, LAST_INSERT_ID(id) reports the existing row's id as the
+        // generated key; a fresh insert reports none and keeps the id bound here
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MYSQL_UPSERT, Statement.RETURN_GENERATED_KEYS);
+            bind(ps, id, row, false);
+            return ps;
+        }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        Object key = keys.isEmpty() ? null : keys.get(0).values().stream().findFirst().orElse(null);
+        return key instanceof Number number && number.longValue() != 0 ? number.longValue() : id;
+    }
+
+    @Override
+    public void upsertProgressBatch(List<StudentProgressUpsert> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long[] ids = new long[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idSource.getAsLong();
+        }
+        boolean h2 = isH2();
+        jdbcTemplate.batchUpdate(h2 ? H2_UPSERT : MYSQL_UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, ids[i], rows.get(i), h2);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private boolean isH2() {
+        Boolean result = h2Database;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = product != null && product.toLowerCase(Locale.ROOT).contains("h2");
+            h2Database = result;
+        }
+        return result;
+    }
+
+    private static long nextId(EntityManager entityManager) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel().getEntityDescriptor(StudentProgress.class).getGenerator();
+        return ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+    }
+
+    private static void bind(PreparedStatement ps, long id, StudentProgressUpsert row, boolean h2) throws SQLException {
+        Timestamp accessedAt = Timestamp.valueOf(row.getAccessedAt());
+        ps.setLong(1, id);
+        ps.setLong(2, row.getStudentId());
+        ps.setLong(3, row.getModuleId());
+        ps.setObject(4, row.getCurrentSection(), Types.INTEGER);
+        ps.setObject(5, row.getTimeSpent(), Types.INTEGER);
+        ps.setObject(6, row.getCompletionPercentage(), Types.DOUBLE);
+        ps.setBoolean(7, row.isCompleted());
+        ps.setTimestamp(8, row.isCompleted() ? accessedAt : null);
+        ps.setTimestamp(9, accessedAt);
+        ps.setTimestamp(10, accessedAt);
+        ps.setTimestamp(11, accessedAt);
+        ps.setString(12, row.getCompletedObjectives());
+        ps.setString(13, row.getQuizScores());
+        ps.setString(14, row.getNotes());
+        ps.setString(15, row.getBookmarks());
+        if (!h2) {
+            // ON DUPLICATE KEY UPDATE sees the COALESCEd insert values, so the nullable
+            // columns are bound a second time for the update clause
+            ps.setObject(16, row.getCurrentSection(), Types.INTEGER);
+            ps.setObject(17, row.getTimeSpent(), Types.INTEGER);
+            ps.setObject(18, row.getCompletionPercentage(), Types.DOUBLE);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.lms.repository;
 
 import com.lms.entity.User;
 import com.lms.enums.Role;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,12 +58,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Page<User> findByRole(Role role, Pageable pageable);
 
+    /**
+     * Keyset-scroll all users in ID order without counting them
+     * 
+     * @param position Position after the last user of the previous window
+     * @param limit Window size
+     * @return Window of users
+     */
+    Window<User> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+
     /**
      * Find active users
      * 
      * @return List of active users
      */
-    List<User> findByActiveTrue();
+    List<User> findByIsActiveTrue();
 
     /**
      * Find active users with pagination
@@ -67,7 +80,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param pageable Pagination information
      * @return Page of active users
      */
-    Page<User> findByActiveTrue(Pageable pageable);
+    Page<User> findByIsActiveTrue(Pageable pageable);
 
     /**
      * Find users by role and active status
@@ -131,7 +144,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 
      * @return Count of active users
      */
-    long countByActiveTrue();
+    long countByIsActiveTrue();
 
     /**
      * Find instructors with courses
@@ -148,4 +161,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT DISTINCT u FROM User u JOIN u.enrollments e WHERE u.role = :role")
     List<User> findStudentsWithEnrollments(@Param("role") Role role);
+
+    /**
+     * Find which of the given IDs belong to users with a role
+     * 
+     * @param ids Candidate user IDs
+     * @param role The role
+     * @return IDs of matching users
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.role = :role")
+    List<Long> findIdsByIdInAndRole(@Param("ids") Collection<Long> ids, @Param("role") Role role);
 }
@@ -0,0 +1,20 @@
+package com.lms.repository.projection;
+
+/**
+ * One question of an assessment joined with one of its options; the option columns
+ * are null for questions without options
+ */
+public interface AnswerKeyRowView {
+
+    Long getQuestionId();
+
+    Double getPoints();
+
+    String getQuestionType();
+
+    Long getOptionId();
+
+    Boolean getCorrect();
+
+    String getOptionText();
+}
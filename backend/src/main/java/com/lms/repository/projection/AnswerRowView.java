@@ -0,0 +1,19 @@
+package com.lms.repository.projection;
+
+/**
+ * Scalar columns of a StudentAnswer needed to grade it
+ */
+public interface AnswerRowView {
+
+    Long getId();
+
+    Long getAttemptId();
+
+    Long getQuestionId();
+
+    Long getSelectedOptionId();
+
+    String getAnswerText();
+
+    Double getPointsEarned();
+}
@@ -0,0 +1,11 @@
+package com.lms.repository.projection;
+
+/**
+ * ID and score of a graded attempt
+ */
+public interface AttemptScoreView {
+
+    Long getId();
+
+    Double getScore();
+}
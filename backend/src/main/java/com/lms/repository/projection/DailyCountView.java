@@ -0,0 +1,13 @@
+package com.lms.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Row count for a single calendar day
+ */
+public interface DailyCountView {
+
+    LocalDate getDay();
+
+    Long getTotal();
+}
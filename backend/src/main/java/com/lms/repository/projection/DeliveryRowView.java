@@ -0,0 +1,20 @@
+package com.lms.repository.projection;
+
+/**
+ * One question of an assessment joined with one of its options, limited to what a
+ * student may see while taking it; the option columns are null for questions without options
+ */
+public interface DeliveryRowView {
+
+    Long getQuestionId();
+
+    String getQuestionText();
+
+    String getQuestionType();
+
+    Double getPoints();
+
+    Long getOptionId();
+
+    String getOptionText();
+}
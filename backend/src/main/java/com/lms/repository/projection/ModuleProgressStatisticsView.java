@@ -0,0 +1,11 @@
+package com.lms.repository.projection;
+
+/**
+ * Aggregated progress figures for one learning module
+ */
+public interface ModuleProgressStatisticsView extends ProgressStatisticsView {
+
+    Long getModuleId();
+
+    String getModuleTitle();
+}
@@ -0,0 +1,15 @@
+package com.lms.repository.projection;
+
+/**
+ * Aggregated progress figures computed by the database in a single row
+ */
+public interface ProgressStatisticsView {
+
+    Long getTotalStudents();
+
+    Long getCompletedLessons();
+
+    Double getAverageProgress();
+
+    Long getTotalProgressRecords();
+}
@@ -0,0 +1,315 @@
+package com.lms.search;
+
+import com.lms.dto.CourseSummaryDTO;
+import com.lms.entity.Course;
+import com.lms.repository.CourseRepository;
+import com.lms.support.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over course title, description, category and tags.
+ *
+ * Built from the database once the application is ready and kept current by
+ * CourseServiceImpl. Queries are answered entirely from memory: every query term
+ * must match, the last term also matches as a prefix to support search-as-you-type,
+ * and hits are ranked by field-weighted TF-IDF.
+ *
+ * The enrollment count changes without the course being reindexed, so each entry
+ * keeps its own count, moved by the committed deltas CounterService reports and
+ * carried over when the course is reindexed. Searches never touch the database.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseSearchIndex.class);
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "it", "of", "on", "or", "the", "to", "with");
+
+    private final CourseRepository courseRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, IndexedCourse> documents = new HashMap<>();
+
+    public CourseSearchIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Rebuild the whole index from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Course> courses = courseRepository.findAllWithInstructor();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            for (Course course : courses) {
+                add(course.getId(), snapshot(course), terms(course), enrollmentCount(course));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Course search index built with {} courses and {} terms", courses.size(), postings.size());
+    }
+
+    /**
+     * Add or replace a course. When called inside a transaction the change is
+     * applied after commit so rolled-back writes never become searchable.
+     *
+     * @param course A managed course with its instructor reachable
+     */
+    public void index(Course course) {
+        Long id = course.getId();
+        CourseSummaryDTO summary = snapshot(course);
+        Map<String, Float> terms = terms(course);
+        int enrollments = enrollmentCount(course);
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                // The entity's count misses deltas not yet flushed; an indexed course keeps its live count
+                IndexedCourse existing = remove(id);
+                add(id, summary, terms, existing != null ? existing.enrollmentCount.get() : enrollments);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Remove a course from the index
+     *
+     * @param courseId The course ID
+     */
+    public void delete(Long courseId) {
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(courseId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Move a course's enrollment count by a committed delta
+     *
+     * @param courseId The course ID
+     * @param delta Enrollments added, negative for removals
+     */
+    public void addEnrollments(Long courseId, int delta) {
+        lock.readLock().lock();
+        try {
+            IndexedCourse indexed = documents.get(courseId);
+            if (indexed != null) {
+                indexed.enrollmentCount.addAndGet(delta);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked search with paging
+     *
+     * @param query Free-text query
+     * @param pageable Page number and size; sort is ignored in favour of relevance
+     * @return Page of matching course summaries
+     */
+    public Page<CourseSummaryDTO> search(String query, Pageable pageable) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<CourseSummaryDTO> content;
+        int total;
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (int i = 0; i < queryTerms.size(); i++) {
+                boolean prefix = i == queryTerms.size() - 1;
+                Map<Long, Float> termScores = match(queryTerms.get(i), prefix);
+                scores = scores == null ? termScores : intersect(scores, termScores);
+                if (scores.isEmpty()) {
+                    return new PageImpl<>(Collections.emptyList(), pageable, 0);
+                }
+            }
+
+            int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+            Comparator<Map.Entry<Long, Float>> ranking = Map.Entry.<Long, Float>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Float>comparingByKey().reversed());
+            PriorityQueue<Map.Entry<Long, Float>> topK = new PriorityQueue<>(ranking);
+            for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                topK.offer(entry);
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+
+            List<Map.Entry<Long, Float>> ranked = new ArrayList<>(topK);
+            ranked.sort(ranking.reversed());
+
+            content = new ArrayList<>(pageable.getPageSize());
+            for (int i = (int) pageable.getOffset(); i < ranked.size(); i++) {
+                content.add(documents.get(ranked.get(i).getKey()).toSummary());
+            }
+            total = scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> match(String term, boolean prefix) {
+        Map<String, Map<Long, Float>> matching = prefix
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                : postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of();
+
+        Map<Long, Float> scores = new HashMap<>();
+        for (Map<Long, Float> docs : matching.values()) {
+            float idf = (float) Math.log(1.0 + (double) documents.size() / docs.size());
+            for (Map.Entry<Long, Float> doc : docs.entrySet()) {
+                scores.merge(doc.getKey(), doc.getValue() * idf, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private static Map<Long, Float> intersect(Map<Long, Float> left, Map<Long, Float> right) {
+        Map<Long, Float> result = new HashMap<>();
+        for (Map.Entry<Long, Float> entry : left.entrySet()) {
+            Float other = right.get(entry.getKey());
+            if (other != null) {
+                result.put(entry.getKey(), entry.getValue() + other);
+            }
+        }
+        return result;
+    }
+
+    private void add(Long id, CourseSummaryDTO summary, Map<String, Float> terms, int enrollmentCount) {
+        documents.put(id, new IndexedCourse(summary, terms.keySet(), enrollmentCount));
+        for (Map.Entry<String, Float> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+        }
+    }
+
+    private IndexedCourse remove(Long id) {
+        IndexedCourse existing = documents.remove(id);
+        if (existing == null) {
+            return null;
+        }
+        for (String term : existing.terms) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return existing;
+    }
+
+    private static CourseSummaryDTO snapshot(Course course) {
+        CourseSummaryDTO summary = CourseSummaryDTO.from(course);
+        summary.setEnrollmentCount(null);
+        return summary;
+    }
+
+    private static int enrollmentCount(Course course) {
+        return course.getEnrollmentCount() != null ? course.getEnrollmentCount() : 0;
+    }
+
+    private static Map<String, Float> terms(Course course) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, course.getTitle(), TITLE_WEIGHT);
+        addField(weights, course.getCategory(), CATEGORY_WEIGHT);
+        addField(weights, course.getTags(), TAG_WEIGHT);
+        addField(weights, course.getDescription(), DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Float::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class IndexedCourse {
+        private final CourseSummaryDTO summary;
+        private final Set<String> terms;
+        private final AtomicInteger enrollmentCount;
+
+        private IndexedCourse(CourseSummaryDTO summary, Set<String> terms, int enrollmentCount) {
+            this.summary = summary;
+            this.terms = terms;
+            this.enrollmentCount = new AtomicInteger(enrollmentCount);
+        }
+
+        private CourseSummaryDTO toSummary() {
+            return new CourseSummaryDTO(summary.getId(), summary.getTitle(), summary.getShortDescription(),
+                    summary.getCategory(), summary.getLevel(), summary.getLanguage(), summary.getDurationHours(),
+                    summary.getThumbnailUrl(), summary.getPrice(), summary.getRating(),
+                    Math.max(enrollmentCount.get(), 0), summary.getStatus(), summary.getFeatured(),
+                    summary.getInstructorId(), summary.getInstructorName());
+        }
+    }
+}
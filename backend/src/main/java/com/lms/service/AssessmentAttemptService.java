@@ -0,0 +1,58 @@
+package com.lms.service;
+
+import com.lms.dto.AnswerDTO;
+import com.lms.dto.AttemptSubmissionResult;
+import com.lms.entity.User;
+import com.lms.repository.AnswerJournalEntry;
+
+import java.util.List;
+
+/**
+ * Service interface for taking assessments: autosaving answers and submitting attempts
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public interface AssessmentAttemptService {
+
+    /**
+     * Autosave the current answer to one question of an in-progress attempt
+     * 
+     * @param attemptId The attempt ID
+     * @param questionId The question ID
+     * @param answer Selected options and/or answer text
+     * @param student The student taking the attempt
+     * @return true if buffered, false if it was written to the journal directly
+     */
+    boolean autosave(Long attemptId, Long questionId, AnswerDTO answer, User student);
+
+    /**
+     * Latest autosaved answer to each question of an attempt, e.g. to resume after a reconnect
+     * 
+     * @param attemptId The attempt ID
+     * @param student The student taking the attempt
+     * @return Answers ordered by question ID
+     */
+    List<AnswerJournalEntry> getSavedAnswers(Long attemptId, User student);
+
+    /**
+     * Whether a student may check answers through one of their attempts: the attempt
+     * must belong to the student and the assessment, and the assessment must allow
+     * instant feedback
+     * 
+     * @param attemptId The attempt ID
+     * @param assessmentId The assessment ID
+     * @param student The student taking the attempt
+     * @return true if feedback may be given
+     */
+    boolean allowsFeedback(Long attemptId, Long assessmentId, User student);
+
+    /**
+     * Submit an attempt, compacting its autosave journal into student answers
+     * 
+     * @param attemptId The attempt ID
+     * @param student The student taking the attempt
+     * @return The submission outcome
+     */
+    AttemptSubmissionResult submit(Long attemptId, User student);
+}
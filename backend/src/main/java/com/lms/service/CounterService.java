@@ -0,0 +1,127 @@
+package com.lms.service;
+
+import com.lms.entity.Course;
+import com.lms.enums.CourseStatus;
+import com.lms.enums.EnrollmentStatus;
+import com.lms.enums.Role;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for maintained aggregate counters.
+ * 
+ * Deltas are applied after the state change they describe commits and written in
+ * the background with atomic increments, so hot counters never serialize writers.
+ * Reads include deltas that are not yet written. Counters are periodically
+ * reconciled against the real counts.
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public interface CounterService {
+
+    String COURSES_TOTAL = "courses.total";
+    String ENROLLMENTS_TOTAL = "enrollments.total";
+    String USERS_TOTAL = "users.total";
+    String USERS_ACTIVE = "users.active";
+
+    /**
+     * Counter name for courses in a status
+     * 
+     * @param status The course status
+     * @return Counter name
+     */
+    static String courseStatus(CourseStatus status) {
+        return "courses.status." + status.name();
+    }
+
+    /**
+     * Counter name for enrollments in a status
+     * 
+     * @param status The enrollment status
+     * @return Counter name
+     */
+    static String enrollmentStatus(EnrollmentStatus status) {
+        return "enrollments.status." + status.name();
+    }
+
+    /**
+     * Counter name for users with a role
+     * 
+     * @param role The user role
+     * @return Counter name
+     */
+    static String userRole(Role role) {
+        return "users.role." + role.name();
+    }
+
+    /**
+     * Apply a delta to a counter
+     * 
+     * @param name The counter name
+     * @param delta Amount to add, may be negative
+     */
+    void add(String name, long delta);
+
+    /**
+     * Move one unit from one counter to another; a no-op when both names are equal
+     * 
+     * @param from Counter to decrement, ignored when null
+     * @param to Counter to increment, ignored when null
+     */
+    void transfer(String from, String to);
+
+    /**
+     * Read a single counter
+     * 
+     * @param name The counter name
+     * @return Current value, zero if unknown
+     */
+    long get(String name);
+
+    /**
+     * Read several counters in one query
+     * 
+     * @param names The counter names
+     * @return Values keyed by name, zero for unknown counters
+     */
+    Map<String, Long> get(Collection<String> names);
+
+    /**
+     * Apply a delta to a course's enrollment count
+     * 
+     * @param courseId The course ID
+     * @param delta Amount to add, may be negative
+     */
+    void addCourseEnrollments(Long courseId, int delta);
+
+    /**
+     * Apply a delta to a learning path's enrollment count
+     * 
+     * @param learningPathId The learning path ID
+     * @param delta Amount to add, may be negative
+     */
+    void addLearningPathEnrollments(Long learningPathId, int delta);
+
+    /**
+     * Apply a delta to a learning path's completion count
+     * 
+     * @param learningPathId The learning path ID
+     * @param delta Amount to add, may be negative
+     */
+    void addLearningPathCompletions(Long learningPathId, int delta);
+
+    /**
+     * Current enrollment count of a course, including deltas not yet written
+     * 
+     * @param course The course as loaded
+     * @return Enrollment count
+     */
+    int getCourseEnrollmentCount(Course course);
+
+    /**
+     * Recompute every counter from the source tables and correct any drift
+     */
+    void reconcile();
+}
@@ -1,5 +1,7 @@
 package com.lms.service;
 
+import com.lms.dto.CourseDetailDTO;
+import com.lms.dto.CourseSummaryDTO;
 import com.lms.entity.Course;
 import com.lms.entity.User;
 import com.lms.enums.CourseStatus;
@@ -20,15 +22,17 @@ public interface CourseService {
     
     Optional<Course> findById(Long id);
     
-    Page<Course> getAllCourses(Pageable pageable);
+    Optional<CourseDetailDTO> getCourseDetail(Long id);
+    
+    Page<CourseSummaryDTO> getAllCourses(Pageable pageable);
     
     Page<Course> getCoursesByInstructor(User instructor, Pageable pageable);
     
-    Page<Course> getCoursesByStatus(CourseStatus status, Pageable pageable);
+    Page<CourseSummaryDTO> getCoursesByStatus(CourseStatus status, Pageable pageable);
     
-    Page<Course> searchCourses(String searchTerm, Pageable pageable);
+    Page<CourseSummaryDTO> searchCourses(String searchTerm, Pageable pageable);
     
-    Page<Course> getFeaturedCourses(Pageable pageable);
+    Page<CourseSummaryDTO> getFeaturedCourses(Pageable pageable);
     
     Course publishCourse(Long id);
     
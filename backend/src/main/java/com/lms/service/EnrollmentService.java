@@ -1,18 +1,46 @@
 package com.lms.service;
 
+import com.lms.dto.BulkEnrollmentResult;
 import com.lms.entity.Course;
 import com.lms.entity.Enrollment;
 import com.lms.entity.User;
 import com.lms.enums.EnrollmentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
 public interface EnrollmentService {
     
     Enrollment enrollStudent(User student, Course course);
+
+    /**
+     * Insert new enrollments in JDBC batches. Callers are responsible for excluding
+     * students who are already enrolled and for reserving seats in capped courses;
+     * status and enrollment date default to ACTIVE and now when unset.
+     */
+    List<Enrollment> createEnrollments(List<Enrollment> enrollments);
+
+    /**
+     * Enroll a cohort of students in a course. Existing enrollments are detected with
+     * one IN query per chunk, new rows are inserted in batches and the course's
+     * enrollment count is updated once. Students beyond a course's free seats are
+     * reported as COURSE_FULL.
+     *
+     * @return Per-row report in request order
+     */
+    BulkEnrollmentResult enrollStudents(Course course, List<Long> studentIds);
+
+    /**
+     * Enroll a cohort read from CSV: one student ID in the first column of each line,
+     * with an optional header line
+     */
+    BulkEnrollmentResult enrollStudentsFromCsv(Course course, InputStream csv) throws IOException;
     
     Enrollment updateEnrollmentStatus(Long enrollmentId, EnrollmentStatus status);
     
@@ -24,6 +52,11 @@ public interface EnrollmentService {
     
     Page<Enrollment> getEnrollmentsByCourse(Course course, Pageable pageable);
     
+    /**
+     * Keyset-scroll a course's enrollments in ID order, without a count query
+     */
+    Window<Enrollment> scrollEnrollmentsByCourse(Course course, ScrollPosition position, int size);
+    
     Page<Enrollment> getEnrollmentsByStatus(EnrollmentStatus status, Pageable pageable);
     
     List<Course> getEnrolledCourses(User student);
@@ -32,6 +65,11 @@ public interface EnrollmentService {
     
     boolean isStudentEnrolled(User student, Course course);
     
+    /**
+     * Whether the student is actively enrolled in, or has completed, the course
+     */
+    boolean isStudentEnrolled(Long studentId, Long courseId);
+    
     void unenrollStudent(User student, Course course);
     
     long getEnrollmentCount(Course course);
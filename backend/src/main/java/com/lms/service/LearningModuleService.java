@@ -15,6 +15,11 @@ public interface LearningModuleService {
      */
     LearningModule createModule(LearningModule module);
 
+    /**
+     * Create many learning modules as drafts using batched inserts
+     */
+    List<LearningModule> createModules(List<LearningModule> modules);
+
     /**
      * Update an existing learning module
      */
@@ -105,6 +110,11 @@ public interface LearningModuleService {
      */
     LearningModule cloneModule(Long moduleId, User newCreator);
 
+    /**
+     * Clone several learning modules using batched inserts
+     */
+    List<LearningModule> cloneModules(List<Long> moduleIds, User newCreator);
+
     /**
      * Check if user can access module
      */
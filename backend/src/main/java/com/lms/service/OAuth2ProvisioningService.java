@@ -0,0 +1,29 @@
+package com.lms.service;
+
+import com.lms.dto.PrincipalView;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for resolving OAuth2 principals to local users.
+ *
+ * The first login of a subject creates the user. Concurrent first logins of the same
+ * subject share one provisioning call, and later lookups are answered from the
+ * principal cache without touching the database.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public interface OAuth2ProvisioningService {
+
+    /**
+     * Resolve an OAuth2 principal, creating the user on first login
+     *
+     * @param oauth2User The authenticated OAuth2 principal
+     * @return View of the local user; already complete unless another request is
+     *         provisioning the same subject
+     * @throws IllegalArgumentException if the principal has neither a subject nor an email
+     */
+    CompletableFuture<PrincipalView> resolve(OAuth2User oauth2User);
+}
@@ -3,7 +3,19 @@ package com.lms.service;
 import com.lms.entity.LearningModule;
 import com.lms.entity.StudentProgress;
 import com.lms.entity.User;
-
+import com.lms.enums.ExportFormat;
+import com.lms.enums.TimeGranularity;
+import com.lms.repository.projection.ModuleProgressStatisticsView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.List;
 import java.util.Optional;
 
@@ -83,5 +95,72 @@ public interface StudentProgressService {
      * Check if student has access to a specific module
      */
     boolean hasAccessToModule(User student, LearningModule module);
-}
 
+    /**
+     * Retrieve a page of progress records for a module
+     */
+    Page<StudentProgress> getProgressByModule(LearningModule module, Pageable pageable);
+
+    /**
+     * Retrieve progress records last accessed within a date range
+     */
+    List<StudentProgress> getProgressByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Retrieve progress records of students in a city or country
+     */
+    List<StudentProgress> getProgressByLocation(String city, String country);
+
+    /**
+     * Get progress figures across an instructor's modules
+     */
+    Map<String, Object> getProgressStatistics(User instructor);
+
+    /**
+     * Count progress activity per month of a year, keyed by month name
+     */
+    Map<String, Long> getProgressByMonth(int year);
+
+    /**
+     * Delete a progress record
+     */
+    void deleteProgress(Long id);
+
+    /**
+     * Hand a progress heartbeat to the write-behind buffer
+     *
+     * @return true if buffered, false if write-behind is disabled or full and the caller must save it directly
+     */
+    boolean queueProgress(StudentProgress progress);
+
+    /**
+     * Count progress activity between two days (inclusive) in day, week or month buckets
+     */
+    Map<String, Long> getActivityHistogram(LocalDate from, LocalDate to, TimeGranularity granularity, Long moduleId);
+
+    /**
+     * Keyset-scroll a module's progress records in ID order, without a count query
+     */
+    Window<StudentProgress> scrollProgressByModule(LearningModule module, ScrollPosition position, int size);
+
+    /**
+     * Per-module progress figures for an instructor, aggregated by the database
+     */
+    List<ModuleProgressStatisticsView> getModuleProgressStatistics(User instructor);
+
+    /**
+     * Stream progress records last accessed within a date range, in constant memory
+     *
+     * @return number of rows written
+     */
+    long exportProgressByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+                                   ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Stream progress records of students in a city or country, in constant memory
+     *
+     * @return number of rows written
+     */
+    long exportProgressByLocation(String city, String country,
+                                  ExportFormat format, OutputStream out) throws IOException;
+}
@@ -4,6 +4,8 @@ import com.lms.entity.User;
 import com.lms.enums.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Optional;
@@ -65,6 +67,15 @@ public interface UserService {
      */
     Page<User> getAllUsers(Pageable pageable);
 
+    /**
+     * Keyset-scroll all users in ID order, without a count query
+     * 
+     * @param position Position after the last user of the previous window
+     * @param size Window size
+     * @return Window of users
+     */
+    Window<User> scrollAllUsers(ScrollPosition position, int size);
+
     /**
      * Get users by role
      * 
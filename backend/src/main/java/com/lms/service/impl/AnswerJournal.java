@@ -0,0 +1,299 @@
+package com.lms.service.impl;
+
+import com.lms.repository.AnswerJournalEntry;
+import com.lms.repository.StudentAnswerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for autosaved answers of in-progress attempts.
+ *
+ * Autosaves arrive at keystroke frequency, so they are coalesced in memory per
+ * (attempt, question) and only the latest answer is kept. Pending entries are
+ * appended to the attempt_answer_journal table in JDBC batches on a short schedule
+ * and on shutdown. The journal table, not memory, is the source of truth: after a
+ * crash at most one flush interval of keystrokes is lost. Submitting compacts the
+ * journal table together with the attempt's pending entries in its own transaction,
+ * so it never waits for a flush nor takes a second connection.
+ *
+ * All writes go through one lock so that an older entry can never be appended after
+ * a newer one for the same question. The buffer also remembers the owner of each
+ * open attempt, so autosaves need no database read to authorize. That cache can be
+ * stale, here or on another node, so the journal table itself only accepts entries of
+ * attempts that are still in progress, and the journal rows of submitted attempts,
+ * including any that slipped in while the submit was running, are deleted by the
+ * next scheduled flush.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class AnswerJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerJournal.class);
+
+    private final Map<JournalKey, AnswerJournalEntry> pending = new ConcurrentHashMap<>();
+    private final Map<Long, OpenAttempt> openAttempts = new ConcurrentHashMap<>();
+    private final Set<Long> purgedAttempts = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final StudentAnswerRepository answerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int capacity;
+    private final int batchSize;
+    private final long openAttemptTtlMillis;
+
+    private final Counter buffered;
+    private final Counter direct;
+    private final Counter appended;
+    private final Counter rejected;
+
+    public AnswerJournal(StudentAnswerRepository answerRepository,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${lms.attempts.journal.capacity:100000}") int capacity,
+                         @Value("${lms.attempts.journal.batch-size:500}") int batchSize,
+                         @Value("${lms.attempts.journal.open-attempt-ttl:PT6H}") Duration openAttemptTtl) {
+        this.answerRepository = answerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Flushes run on the scheduler and commit on their own, whatever the caller is doing
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.openAttemptTtlMillis = openAttemptTtl.toMillis();
+        this.buffered = Counter.builder("lms.attempts.journal.autosaves")
+                .tag("result", "buffered")
+                .register(meterRegistry);
+        this.direct = Counter.builder("lms.attempts.journal.autosaves")
+                .tag("result", "direct")
+                .register(meterRegistry);
+        this.appended = Counter.builder("lms.attempts.journal.rows-appended")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("lms.attempts.journal.rows-rejected")
+                .register(meterRegistry);
+        Gauge.builder("lms.attempts.journal.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record the current answer to a question
+     *
+     * @param entry The answer
+     * @return true if buffered, false if the buffer was full and the entry was appended directly
+     */
+    public boolean record(AnswerJournalEntry entry) {
+        JournalKey key = new JournalKey(entry.getAttemptId(), entry.getQuestionId());
+        if (pending.size() >= capacity && !pending.containsKey(key)) {
+            appendNow(entry);
+            direct.increment();
+            return false;
+        }
+        pending.put(key, entry);
+        buffered.increment();
+        return true;
+    }
+
+    /**
+     * Answers of an attempt that are not in the journal table yet
+     *
+     * @param attemptId The attempt ID
+     * @return Pending entries, at most one per question
+     */
+    public List<AnswerJournalEntry> pendingEntries(long attemptId) {
+        List<AnswerJournalEntry> entries = new ArrayList<>();
+        for (AnswerJournalEntry entry : pending.values()) {
+            if (entry.getAttemptId() == attemptId) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Append pending entries on the configured interval, delete the journal rows of
+     * purged attempts and forget stale open attempts
+     */
+    @Scheduled(fixedDelayString = "${lms.attempts.journal.flush-interval:PT1S}")
+    public void scheduledFlush() {
+        if (!pending.isEmpty()) {
+            flush();
+        }
+        if (!purgedAttempts.isEmpty()) {
+            deletePurged();
+        }
+        long cutoff = System.currentTimeMillis() - openAttemptTtlMillis;
+        openAttempts.values().removeIf(open -> open.registeredAt < cutoff);
+    }
+
+    /**
+     * Append every pending entry in batches
+     *
+     * @return number of rows appended; entries of attempts no longer in progress are dropped
+     */
+    public int flush() {
+        return write(new ArrayList<>(pending.entrySet()));
+    }
+
+    /**
+     * Remember the owner of an in-progress attempt
+     */
+    public void open(long attemptId, long studentId, long assessmentId) {
+        openAttempts.put(attemptId, new OpenAttempt(studentId, assessmentId, System.currentTimeMillis()));
+    }
+
+    /**
+     * Assessment of an open attempt, if the given student owns it
+     *
+     * @return The assessment ID, or null if the attempt is not known to be open for the student
+     */
+    public Long openAssessmentId(long attemptId, long studentId) {
+        OpenAttempt open = openAttempts.get(attemptId);
+        return open != null && open.studentId == studentId ? open.assessmentId : null;
+    }
+
+    /**
+     * Forget an attempt once it is no longer in progress
+     */
+    public void close(long attemptId) {
+        openAttempts.remove(attemptId);
+    }
+
+    /**
+     * Drop everything held in memory for a submitted attempt, its open-attempt entry and
+     * its pending entries, and queue its journal rows for deletion by the next flush.
+     * Takes neither the write lock nor a connection, so it is safe to call right after
+     * the submit commits
+     *
+     * @param attemptId The attempt ID
+     */
+    public void purge(long attemptId) {
+        close(attemptId);
+        pending.keySet().removeIf(key -> key.attemptId == attemptId);
+        purgedAttempts.add(attemptId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!pending.isEmpty()) {
+            logger.info("Flushing {} buffered autosaves before shutdown", pending.size());
+            flush();
+        }
+        if (!purgedAttempts.isEmpty()) {
+            deletePurged();
+        }
+    }
+
+    /**
+     * Delete the journal rows of purged attempts. Runs under the write lock, so rows a
+     * batch appended while the attempt was being submitted are gone as well
+     */
+    private void deletePurged() {
+        List<Long> attemptIds = new ArrayList<>(purgedAttempts);
+        writeLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Long attemptId : attemptIds) {
+                    answerRepository.deleteJournal(attemptId);
+                }
+            });
+            purgedAttempts.removeAll(attemptIds);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int write(List<Map.Entry<JournalKey, AnswerJournalEntry>> entries) {
+        writeLock.lock();
+        try {
+            int total = 0;
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                List<Map.Entry<JournalKey, AnswerJournalEntry>> batch =
+                        entries.subList(from, Math.min(from + batchSize, entries.size()));
+                List<AnswerJournalEntry> rows = new ArrayList<>(batch.size());
+                for (Map.Entry<JournalKey, AnswerJournalEntry> entry : batch) {
+                    rows.add(entry.getValue());
+                }
+                total += append(rows);
+                // Only drop entries that were not replaced while the batch was written
+                for (Map.Entry<JournalKey, AnswerJournalEntry> entry : batch) {
+                    pending.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            return total;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void appendNow(AnswerJournalEntry entry) {
+        writeLock.lock();
+        try {
+            append(List.of(entry));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int append(List<AnswerJournalEntry> rows) {
+        Integer count = transactionTemplate.execute(status -> answerRepository.appendJournal(rows));
+        int written = count != null ? count : 0;
+        appended.increment(written);
+        rejected.increment(rows.size() - written);
+        return written;
+    }
+
+    private static final class JournalKey {
+        private final long attemptId;
+        private final long questionId;
+
+        private JournalKey(long attemptId, long questionId) {
+            this.attemptId = attemptId;
+            this.questionId = questionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof JournalKey)) return false;
+            JournalKey that = (JournalKey) o;
+            return attemptId == that.attemptId && questionId == that.questionId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(attemptId, questionId);
+        }
+    }
+
+    private static final class OpenAttempt {
+        private final long studentId;
+        private final long assessmentId;
+        private final long registeredAt;
+
+        private OpenAttempt(long studentId, long assessmentId, long registeredAt) {
+            this.studentId = studentId;
+            this.assessmentId = assessmentId;
+            this.registeredAt = registeredAt;
+        }
+    }
+}
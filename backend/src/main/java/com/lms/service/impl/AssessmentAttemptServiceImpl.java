@@ -0,0 +1,187 @@
+package com.lms.service.impl;
+
+import com.lms.dto.AnswerDTO;
+import com.lms.dto.AttemptSubmissionResult;
+import com.lms.entity.AssessmentAttempt;
+import com.lms.entity.Question;
+import com.lms.entity.QuestionOption;
+import com.lms.entity.StudentAnswer;
+import com.lms.entity.User;
+import com.lms.exception.ResourceNotFoundException;
+import com.lms.grading.AnswerKey;
+import com.lms.grading.AnswerKeyService;
+import com.lms.grading.GradingEngine;
+import com.lms.repository.AnswerJournalEntry;
+import com.lms.repository.AssessmentAttemptRepository;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.service.AssessmentAttemptService;
+import com.lms.support.TransactionHooks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementation of AssessmentAttemptService
+ * 
+ * Autosaves are checked against the cached answer key and the owner of the open
+ * attempt held by the {@link AnswerJournal}, so the hot path reads nothing from the
+ * database. Submitting merges the journal table with the answers still buffered in
+ * memory and writes one StudentAnswer row per selected option, or one for
+ * a text answer, and leaves scoring to the grading engine, which picks the attempt up
+ * on its next scheduled run. Once the submit commits, the journal of the attempt is
+ * purged again, dropping autosaves that raced with it.
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Service
+@Transactional
+public class AssessmentAttemptServiceImpl implements AssessmentAttemptService {
+
+    @Autowired
+    private AssessmentAttemptRepository attemptRepository;
+
+    @Autowired
+    private StudentAnswerRepository answerRepository;
+
+    @Autowired
+    private AnswerJournal answerJournal;
+
+    @Autowired
+    private AnswerKeyService answerKeyService;
+
+    @Autowired
+    private GradingEngine gradingEngine;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean autosave(Long attemptId, Long questionId, AnswerDTO answer, User student) {
+        List<Long> optionIds = answer.getSelectedOptionIds() != null ? answer.getSelectedOptionIds() : List.of();
+        if (optionIds.size() > AnswerJournalEntry.MAX_SELECTED_OPTIONS) {
+            throw new IllegalArgumentException("At most " + AnswerJournalEntry.MAX_SELECTED_OPTIONS
+                    + " options can be selected per question");
+        }
+
+        Long assessmentId = answerJournal.openAssessmentId(attemptId, student.getId());
+        if (assessmentId == null) {
+            AssessmentAttempt attempt = findOpenAttempt(attemptId, student);
+            assessmentId = attempt.getAssessment().getId();
+            answerJournal.open(attemptId, student.getId(), assessmentId);
+        }
+
+        AnswerKey key = answerKeyService.getKey(assessmentId);
+        int index = key.indexOf(questionId);
+        if (index < 0) {
+            throw new ResourceNotFoundException("Question not found with id: " + questionId);
+        }
+        for (Long optionId : optionIds) {
+            if (optionId == null || key.optionPosition(index, optionId) < 0) {
+                throw new IllegalArgumentException("Option " + optionId + " does not belong to question " + questionId);
+            }
+        }
+
+        return answerJournal.record(new AnswerJournalEntry(attemptId, questionId,
+                new ArrayList<>(new LinkedHashSet<>(optionIds)), answer.getAnswerText(), LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AnswerJournalEntry> getSavedAnswers(Long attemptId, User student) {
+        findOwnedAttempt(attemptId, student);
+        Map<Long, AnswerJournalEntry> latest = new TreeMap<>();
+        for (AnswerJournalEntry entry : answerRepository.findLatestJournalEntries(attemptId)) {
+            latest.put(entry.getQuestionId(), entry);
+        }
+        // Buffered entries are newer than anything in the journal table
+        for (AnswerJournalEntry entry : answerJournal.pendingEntries(attemptId)) {
+            latest.put(entry.getQuestionId(), entry);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean allowsFeedback(Long attemptId, Long assessmentId, User student) {
+        return attemptRepository.findById(attemptId)
+                .filter(attempt -> attempt.getStudent().getId().equals(student.getId()))
+                .map(AssessmentAttempt::getAssessment)
+                .filter(assessment -> assessment.getId().equals(assessmentId))
+                .map(assessment -> Boolean.TRUE.equals(assessment.getInstantFeedback()))
+                .orElse(false);
+    }
+
+    @Override
+    public AttemptSubmissionResult submit(Long attemptId, User student) {
+        AssessmentAttempt attempt = findOpenAttempt(attemptId, student);
+
+        // Stop authorizing autosaves from the cache before reading the answers
+        answerJournal.close(attemptId);
+        // Buffered entries are taken before the journal table is read, so an entry a
+        // concurrent flush moves from one to the other is still found in one of them
+        List<AnswerJournalEntry> buffered = answerJournal.pendingEntries(attemptId);
+        Map<Long, AnswerJournalEntry> merged = new TreeMap<>();
+        for (AnswerJournalEntry entry : answerRepository.findLatestJournalEntries(attemptId)) {
+            merged.put(entry.getQuestionId(), entry);
+        }
+        for (AnswerJournalEntry entry : buffered) {
+            merged.merge(entry.getQuestionId(), entry, (journaled, pending) ->
+                    pending.getSavedAt().isBefore(journaled.getSavedAt()) ? journaled : pending);
+        }
+        List<AnswerJournalEntry> latest = new ArrayList<>(merged.values());
+        if (!latest.isEmpty()) {
+            List<Long> questionIds = new ArrayList<>(latest.size());
+            List<StudentAnswer> answers = new ArrayList<>(latest.size());
+            for (AnswerJournalEntry entry : latest) {
+                questionIds.add(entry.getQuestionId());
+                Question question = entityManager.getReference(Question.class, entry.getQuestionId());
+                for (Long optionId : entry.getSelectedOptionIds()) {
+                    StudentAnswer answer = new StudentAnswer(attempt, question);
+                    answer.setSelectedOption(entityManager.getReference(QuestionOption.class, optionId));
+                    answers.add(answer);
+                }
+                if (entry.getSelectedOptionIds().isEmpty() && entry.getAnswerText() != null
+                        && !entry.getAnswerText().isBlank()) {
+                    StudentAnswer answer = new StudentAnswer(attempt, question);
+                    answer.setAnswerText(entry.getAnswerText());
+                    answers.add(answer);
+                }
+            }
+            answerRepository.deleteByAttemptIdAndQuestionIds(attemptId, questionIds);
+            answerRepository.saveAll(answers);
+            answerRepository.deleteJournal(attemptId);
+        }
+
+        attempt.submit();
+        attemptRepository.save(attempt);
+        TransactionHooks.afterCommit(() -> answerJournal.purge(attemptId));
+        gradingEngine.gradeAfterCommit(attempt.getAssessment().getId());
+        return new AttemptSubmissionResult(attemptId, attempt.getStatus(), attempt.getSubmittedAt(), latest.size());
+    }
+
+    private AssessmentAttempt findOpenAttempt(Long attemptId, User student) {
+        AssessmentAttempt attempt = findOwnedAttempt(attemptId, student);
+        if (!attempt.isInProgress()) {
+            throw new IllegalArgumentException("Assessment attempt is not in progress: " + attemptId);
+        }
+        return attempt;
+    }
+
+    private AssessmentAttempt findOwnedAttempt(Long attemptId, User student) {
+        return attemptRepository.findById(attemptId)
+                .filter(attempt -> attempt.getStudent().getId().equals(student.getId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Assessment attempt not found with id: " + attemptId));
+    }
+}
@@ -0,0 +1,198 @@
+package com.lms.service.impl;
+
+import com.lms.entity.AggregateCounter;
+import com.lms.entity.Course;
+import com.lms.enums.CourseStatus;
+import com.lms.enums.EnrollmentStatus;
+import com.lms.enums.Role;
+import com.lms.repository.AggregateCounterRepository;
+import com.lms.repository.CourseRepository;
+import com.lms.repository.EnrollmentRepository;
+import com.lms.repository.LearningPathRepository;
+import com.lms.repository.UserRepository;
+import com.lms.search.CourseSearchIndex;
+import com.lms.service.CounterService;
+import com.lms.support.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@Transactional
+public class CounterServiceImpl implements CounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterServiceImpl.class);
+
+    @Autowired
+    private AggregateCounterRepository counterRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LearningPathRepository learningPathRepository;
+
+    @Autowired
+    private CounterDeltaBuffer deltaBuffer;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Override
+    public void add(String name, long delta) {
+        deltaBuffer.add(CounterDeltaBuffer.Target.AGGREGATE, name, delta);
+    }
+
+    @Override
+    public void transfer(String from, String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (from != null) {
+            add(from, -1);
+        }
+        if (to != null) {
+            add(to, 1);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long get(String name) {
+        return counterRepository.findByName(name)
+                .map(AggregateCounter::getValue)
+                .orElse(0L) + deltaBuffer.pending(CounterDeltaBuffer.Target.AGGREGATE, name);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> get(Collection<String> names) {
+        Map<String, Long> values = new HashMap<>();
+        for (String name : names) {
+            values.put(name, 0L);
+        }
+        for (AggregateCounter counter : counterRepository.findByNameIn(names)) {
+            values.put(counter.getName(), counter.getValue());
+        }
+        values.replaceAll((name, value) -> value + deltaBuffer.pending(CounterDeltaBuffer.Target.AGGREGATE, name));
+        return values;
+    }
+
+    @Override
+    public void addCourseEnrollments(Long courseId, int delta) {
+        deltaBuffer.add(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, courseId, delta);
+        if (delta != 0) {
+            TransactionHooks.afterCommit(() -> courseSearchIndex.addEnrollments(courseId, delta));
+        }
+    }
+
+    @Override
+    public void addLearningPathEnrollments(Long learningPathId, int delta) {
+        deltaBuffer.add(CounterDeltaBuffer.Target.LEARNING_PATH_ENROLLMENTS, learningPathId, delta);
+    }
+
+    @Override
+    public void addLearningPathCompletions(Long learningPathId, int delta) {
+        deltaBuffer.add(CounterDeltaBuffer.Target.LEARNING_PATH_COMPLETIONS, learningPathId, delta);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int getCourseEnrollmentCount(Course course) {
+        int stored = course.getEnrollmentCount() != null ? course.getEnrollmentCount() : 0;
+        return stored + (int) deltaBuffer.pending(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, course.getId());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lms.counters.reconcile-interval:PT10M}",
+               initialDelayString = "${lms.counters.reconcile-interval:PT10M}")
+    public void reconcile() {
+        deltaBuffer.flushAndRun(() -> {
+            reconcileAggregates();
+            int courses = courseRepository.reconcileEnrollmentCounts(
+                    courseId -> deltaBuffer.pending(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, courseId));
+            if (courses > 0) {
+                logger.warn("Corrected enrollment counts of {} courses", courses);
+                // Search entries carry their own counts and drifted along with the stored ones
+                courseSearchIndex.rebuild();
+            }
+            int capped = courseRepository.reconcileReservedSeats();
+            if (capped > 0) {
+                logger.warn("Corrected reserved seats of {} courses", capped);
+            }
+            reconcileLearningPaths();
+            return null;
+        });
+    }
+
+    private void reconcileLearningPaths() {
+        int corrected = 0;
+        for (Object[] row : learningPathRepository.findCounterTotals()) {
+            Long pathId = (Long) row[0];
+            int enrollments = (int) (((Number) row[3]).longValue()
+                    - deltaBuffer.pending(CounterDeltaBuffer.Target.LEARNING_PATH_ENROLLMENTS, pathId));
+            int completions = (int) (((Number) row[4]).longValue()
+                    - deltaBuffer.pending(CounterDeltaBuffer.Target.LEARNING_PATH_COMPLETIONS, pathId));
+            if (!Objects.equals(row[1], enrollments) || !Objects.equals(row[2], completions)) {
+                learningPathRepository.setCounts(pathId, enrollments, completions);
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            logger.warn("Corrected counts of {} learning paths", corrected);
+        }
+    }
+
+    private void reconcileAggregates() {
+        Map<String, Long> actual = new LinkedHashMap<>();
+        actual.put(COURSES_TOTAL, courseRepository.count());
+        for (CourseStatus status : CourseStatus.values()) {
+            actual.put(CounterService.courseStatus(status), courseRepository.countByStatus(status));
+        }
+        actual.put(ENROLLMENTS_TOTAL, enrollmentRepository.count());
+        for (EnrollmentStatus status : EnrollmentStatus.values()) {
+            actual.put(CounterService.enrollmentStatus(status), enrollmentRepository.countByStatus(status));
+        }
+        actual.put(USERS_TOTAL, userRepository.count());
+        actual.put(USERS_ACTIVE, userRepository.countByIsActiveTrue());
+        for (Role role : Role.values()) {
+            actual.put(CounterService.userRole(role), userRepository.countByRole(role));
+        }
+
+        Map<String, Long> stored = get(actual.keySet());
+        int corrected = 0;
+        for (Map.Entry<String, Long> entry : actual.entrySet()) {
+            // Buffered deltas are already part of the recount; write what remains once they are flushed
+            long value = entry.getValue() - deltaBuffer.pending(CounterDeltaBuffer.Target.AGGREGATE, entry.getKey());
+            if (counterRepository.setValue(entry.getKey(), value) == 0) {
+                counterRepository.save(new AggregateCounter(entry.getKey(), value));
+                corrected++;
+            } else if (!entry.getValue().equals(stored.get(entry.getKey()))) {
+                logger.warn("Counter {} drifted: stored {}, actual {}",
+                        entry.getKey(), stored.get(entry.getKey()), entry.getValue());
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            logger.info("Reconciled {} aggregate counters", corrected);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.lms.service.impl;
+
+import com.lms.entity.Course;
+import com.lms.repository.CourseRepository;
+import com.lms.support.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for courses with a seat limit.
+ *
+ * Each capped course gets an in-memory token pool sized from its free seats. A seat
+ * is first taken from the pool with a lock-free compare-and-set, so a full course is
+ * rejected without touching the database. Seats taken from the pool are then made
+ * durable in courses.reserved_seats by a conditional UPDATE in the enrolling
+ * transaction itself: the database still arbitrates between nodes so a seat is never
+ * sold twice, and the reservation commits or rolls back together with the enrollment
+ * that holds it, on the same connection. A rolled-back enrollment only has to return
+ * its tokens to the pool.
+ *
+ * A pool is only a hint of what the course row allows. It is resynchronised when the
+ * row grants fewer seats than the pool handed out, and an empty pool is re-read at
+ * most once per refresh interval, so seats freed on another node become available
+ * here within that interval.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class CourseSeatAdmission {
+
+    private final Map<Long, SeatPool> pools = new ConcurrentHashMap<>();
+    private final CourseRepository courseRepository;
+    private final long refreshNanos;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public CourseSeatAdmission(CourseRepository courseRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${lms.enrollment.seat-pool-refresh:PT1S}") Duration refreshInterval) {
+        this.courseRepository = courseRepository;
+        this.refreshNanos = refreshInterval.toNanos();
+        this.admitted = Counter.builder("lms.enrollment.admission")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("lms.enrollment.admission")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take up to the requested number of seats; they are given back if the current
+     * transaction does not commit
+     *
+     * @param course The course
+     * @param seats Seats wanted
+     * @return Seats granted, between zero and seats; always seats for uncapped courses
+     */
+    public int reserve(Course course, int seats) {
+        if (seats <= 0) {
+            return 0;
+        }
+        if (course.getMaxStudents() == null) {
+            return seats;
+        }
+
+        Long courseId = course.getId();
+        SeatPool pool = pool(courseId);
+        int taken = pool.take(seats);
+        if (taken == 0 && pool.isStale(refreshNanos)) {
+            pool.sync(freeSeats(courseId));
+            taken = pool.take(seats);
+        }
+
+        int granted = 0;
+        if (taken > 0) {
+            granted = courseRepository.reserveSeats(courseId, taken);
+            if (granted < taken) {
+                // Another node reserved seats this pool still counted as free
+                pool.sync(freeSeats(courseId));
+            }
+            if (granted > 0) {
+                int reserved = granted;
+                // The row update rolls back with the enrollment; only the tokens come back here
+                TransactionHooks.afterRollback(() -> pool.give(reserved));
+            }
+        }
+
+        admitted.increment(granted);
+        if (granted < seats) {
+            rejected.increment(seats - granted);
+        }
+        return granted;
+    }
+
+    /**
+     * Give back seats freed by dropped enrollments; the pool gets them once the change
+     * commits
+     *
+     * @param course The course
+     * @param seats Seats freed
+     */
+    public void release(Course course, int seats) {
+        if (seats <= 0 || course.getMaxStudents() == null) {
+            return;
+        }
+        Long courseId = course.getId();
+        courseRepository.releaseSeats(courseId, seats);
+        TransactionHooks.afterCommit(() -> {
+            SeatPool pool = pools.get(courseId);
+            if (pool != null) {
+                pool.give(seats);
+            }
+        });
+    }
+
+    /**
+     * Recount the seats taken in a course whose seat limit changed. Seats are not
+     * tracked while a course is uncapped, so a new limit starts from its enrollments.
+     *
+     * @param course The course with its new maxStudents
+     */
+    public void capacityChanged(Course course) {
+        Long courseId = course.getId();
+        if (course.getMaxStudents() != null) {
+            courseRepository.resetReservedSeats(courseId);
+        }
+        TransactionHooks.afterCommit(() -> pools.remove(courseId));
+    }
+
+    /**
+     * Seats currently free in a capped course, or -1 for uncapped courses
+     */
+    public int available(Course course) {
+        if (course.getMaxStudents() == null) {
+            return -1;
+        }
+        return Math.max(pool(course.getId()).free.get(), 0);
+    }
+
+    private SeatPool pool(Long courseId) {
+        return pools.computeIfAbsent(courseId, id -> new SeatPool(freeSeats(id)));
+    }
+
+    private int freeSeats(Long courseId) {
+        Integer free = courseRepository.findFreeSeats(courseId);
+        return free != null ? free : 0;
+    }
+
+    private static final class SeatPool {
+        private final AtomicInteger free;
+        private volatile long syncedAt = System.nanoTime();
+
+        private SeatPool(int free) {
+            this.free = new AtomicInteger(free);
+        }
+
+        private int take(int seats) {
+            while (true) {
+                int current = free.get();
+                if (current <= 0) {
+                    return 0;
+                }
+                int granted = Math.min(current, seats);
+                if (free.compareAndSet(current, current - granted)) {
+                    return granted;
+                }
+            }
+        }
+
+        private void give(int seats) {
+            free.addAndGet(seats);
+        }
+
+        private boolean isStale(long refreshNanos) {
+            return System.nanoTime() - syncedAt >= refreshNanos;
+        }
+
+        private void sync(int seats) {
+            free.set(seats);
+            syncedAt = System.nanoTime();
+        }
+    }
+}
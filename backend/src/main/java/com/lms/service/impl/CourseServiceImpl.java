@@ -1,20 +1,29 @@
 package com.lms.service.impl;
 
+import com.lms.dto.CourseDetailDTO;
+import com.lms.dto.CourseSummaryDTO;
 import com.lms.entity.Course;
 import com.lms.entity.User;
 import com.lms.enums.CourseStatus;
+import com.lms.enums.EnrollmentStatus;
 import com.lms.exception.ResourceNotFoundException;
+import com.lms.repository.AssessmentRepository;
 import com.lms.repository.CourseRepository;
 import com.lms.repository.EnrollmentRepository;
+import com.lms.search.CourseSearchIndex;
+import com.lms.service.CounterService;
 import com.lms.service.CourseService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -27,11 +36,27 @@ public class CourseServiceImpl implements CourseService {
     @Autowired
     private EnrollmentRepository enrollmentRepository;
 
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private CourseSearchIndex courseSearchIndex;
+
+    @Autowired
+    private CounterService counterService;
+
+    @Autowired
+    private CourseSeatAdmission seatAdmission;
+
     @Override
     public Course createCourse(Course course) {
         course.setStatus(CourseStatus.DRAFT);
         course.setCreatedAt(LocalDateTime.now());
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        counterService.add(CounterService.COURSES_TOTAL, 1);
+        counterService.add(CounterService.courseStatus(CourseStatus.DRAFT), 1);
+        courseSearchIndex.index(savedCourse);
+        return savedCourse;
     }
 
     @Override
@@ -42,10 +67,16 @@ public class CourseServiceImpl implements CourseService {
         existingCourse.setTitle(course.getTitle());
         existingCourse.setDescription(course.getDescription());
         existingCourse.setDuration(course.getDuration());
+        boolean capacityChanged = !Objects.equals(existingCourse.getMaxStudents(), course.getMaxStudents());
         existingCourse.setMaxStudents(course.getMaxStudents());
         existingCourse.setUpdatedAt(LocalDateTime.now());
         
-        return courseRepository.save(existingCourse);
+        Course savedCourse = courseRepository.save(existingCourse);
+        courseSearchIndex.index(savedCourse);
+        if (capacityChanged) {
+            seatAdmission.capacityChanged(savedCourse);
+        }
+        return savedCourse;
     }
 
     @Override
@@ -54,8 +85,16 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
-    public Page<Course> getAllCourses(Pageable pageable) {
-        return courseRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Optional<CourseDetailDTO> getCourseDetail(Long id) {
+        return courseRepository.findDetailById(id)
+                .map(course -> CourseDetailDTO.from(course, assessmentRepository.findActiveAssessmentsForCourse(course)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CourseSummaryDTO> getAllCourses(Pageable pageable) {
+        return courseRepository.findAllSummaries(pageable);
     }
 
     @Override
@@ -64,44 +103,63 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
-    public Page<Course> getCoursesByStatus(CourseStatus status, Pageable pageable) {
-        return courseRepository.findByStatus(status, pageable);
+    @Transactional(readOnly = true)
+    public Page<CourseSummaryDTO> getCoursesByStatus(CourseStatus status, Pageable pageable) {
+        return courseRepository.findSummariesByStatus(status, pageable);
     }
 
     @Override
-    public Page<Course> searchCourses(String searchTerm, Pageable pageable) {
-        return courseRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(searchTerm, searchTerm, pageable);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<CourseSummaryDTO> searchCourses(String searchTerm, Pageable pageable) {
+        return courseSearchIndex.search(searchTerm, pageable);
     }
 
     @Override
-    public Page<Course> getFeaturedCourses(Pageable pageable) {
-        return courseRepository.findByFeaturedTrueAndStatus(CourseStatus.PUBLISHED, pageable);
+    @Transactional(readOnly = true)
+    public Page<CourseSummaryDTO> getFeaturedCourses(Pageable pageable) {
+        return courseRepository.findFeaturedSummariesByStatus(CourseStatus.PUBLISHED, pageable);
     }
 
     @Override
     public Course publishCourse(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
+        counterService.transfer(CounterService.courseStatus(course.getStatus()),
+                CounterService.courseStatus(CourseStatus.PUBLISHED));
         course.setStatus(CourseStatus.PUBLISHED);
         course.setUpdatedAt(LocalDateTime.now());
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        courseSearchIndex.index(savedCourse);
+        return savedCourse;
     }
 
     @Override
     public Course unpublishCourse(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
+        counterService.transfer(CounterService.courseStatus(course.getStatus()),
+                CounterService.courseStatus(CourseStatus.DRAFT));
         course.setStatus(CourseStatus.DRAFT);
         course.setUpdatedAt(LocalDateTime.now());
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        courseSearchIndex.index(savedCourse);
+        return savedCourse;
     }
 
     @Override
     public void deleteCourse(Long id) {
-        if (!courseRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Course not found with id: " + id);
+        Course course = courseRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
+        counterService.add(CounterService.COURSES_TOTAL, -1);
+        counterService.add(CounterService.courseStatus(course.getStatus()), -1);
+        // Enrollments are removed with the course through the cascade
+        for (Object[] row : enrollmentRepository.findEnrollmentStatisticsByCourse(course)) {
+            long count = (Long) row[1];
+            counterService.add(CounterService.ENROLLMENTS_TOTAL, -count);
+            counterService.add(CounterService.enrollmentStatus((EnrollmentStatus) row[0]), -count);
         }
-        courseRepository.deleteById(id);
+        courseRepository.delete(course);
+        courseSearchIndex.delete(id);
     }
 
     @Override
@@ -110,12 +168,17 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CourseStatistics getCourseStatistics() {
-        long totalCourses = courseRepository.count();
-        long publishedCourses = courseRepository.countByStatus(CourseStatus.PUBLISHED);
-        long draftCourses = courseRepository.countByStatus(CourseStatus.DRAFT);
-        long totalEnrollments = enrollmentRepository.count();
+        String published = CounterService.courseStatus(CourseStatus.PUBLISHED);
+        String draft = CounterService.courseStatus(CourseStatus.DRAFT);
+        Map<String, Long> counters = counterService.get(List.of(
+                CounterService.COURSES_TOTAL, published, draft, CounterService.ENROLLMENTS_TOTAL));
         
-        return new CourseStatistics(totalCourses, publishedCourses, draftCourses, totalEnrollments);
+        return new CourseStatistics(
+                counters.get(CounterService.COURSES_TOTAL),
+                counters.get(published),
+                counters.get(draft),
+                counters.get(CounterService.ENROLLMENTS_TOTAL));
     }
 }
\ No newline at end of file
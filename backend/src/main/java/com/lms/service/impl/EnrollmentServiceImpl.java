@@ -1,43 +1,250 @@
 package com.lms.service.impl;
 
+import com.lms.dto.BulkEnrollmentResult;
+import com.lms.dto.CursorPage;
 import com.lms.entity.Course;
 import com.lms.entity.Enrollment;
 import com.lms.entity.User;
 import com.lms.enums.EnrollmentStatus;
+import com.lms.enums.Role;
+import com.lms.exception.CourseFullException;
 import com.lms.exception.ResourceNotFoundException;
 import com.lms.repository.EnrollmentRepository;
+import com.lms.repository.UserRepository;
+import com.lms.service.CounterService;
 import com.lms.service.EnrollmentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class EnrollmentServiceImpl implements EnrollmentService {
 
+    private static final int ID_QUERY_CHUNK = 5000;
+
     @Autowired
     private EnrollmentRepository enrollmentRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CounterService counterService;
+
+    @Autowired
+    private CourseSeatAdmission seatAdmission;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${lms.bulk.batch-size:50}")
+    private int bulkBatchSize;
+
     @Override
     public Enrollment enrollStudent(User student, Course course) {
         Optional<Enrollment> existingEnrollment = enrollmentRepository.findByStudentAndCourse(student, course);
         if (existingEnrollment.isPresent()) {
             throw new RuntimeException("Student is already enrolled in this course");
         }
+        if (seatAdmission.reserve(course, 1) == 0) {
+            throw new CourseFullException("Course is full: " + course.getId());
+        }
         
         Enrollment enrollment = new Enrollment();
         enrollment.setStudent(student);
         enrollment.setCourse(course);
         enrollment.setStatus(EnrollmentStatus.ACTIVE);
-        enrollment.setEnrollmentDate(LocalDateTime.now());
+        enrollment.setEnrolledAt(LocalDateTime.now());
         
-        return enrollmentRepository.save(enrollment);
+        Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        counterService.add(CounterService.ENROLLMENTS_TOTAL, 1);
+        counterService.add(CounterService.enrollmentStatus(EnrollmentStatus.ACTIVE), 1);
+        counterService.addCourseEnrollments(course.getId(), 1);
+        return savedEnrollment;
+    }
+
+    @Override
+    public List<Enrollment> createEnrollments(List<Enrollment> enrollments) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<EnrollmentStatus, Long> byStatus = new EnumMap<>(EnrollmentStatus.class);
+        Map<Long, Integer> byCourse = new HashMap<>();
+        List<Enrollment> batch = new ArrayList<>(bulkBatchSize);
+        for (Enrollment enrollment : enrollments) {
+            if (enrollment.getStatus() == null) {
+                enrollment.setStatus(EnrollmentStatus.ACTIVE);
+            }
+            if (enrollment.getEnrolledAt() == null) {
+                enrollment.setEnrolledAt(now);
+            }
+            entityManager.persist(enrollment);
+            batch.add(enrollment);
+            byStatus.merge(enrollment.getStatus(), 1L, Long::sum);
+            if (enrollment.getStatus() != EnrollmentStatus.DROPPED) {
+                byCourse.merge(enrollment.getCourse().getId(), 1, Integer::sum);
+            }
+            if (batch.size() == bulkBatchSize) {
+                flushAndDetach(batch);
+            }
+        }
+        flushAndDetach(batch);
+
+        counterService.add(CounterService.ENROLLMENTS_TOTAL, enrollments.size());
+        byStatus.forEach((status, count) -> counterService.add(CounterService.enrollmentStatus(status), count));
+        byCourse.forEach(counterService::addCourseEnrollments);
+        return enrollments;
+    }
+
+    @Override
+    public BulkEnrollmentResult enrollStudents(Course course, List<Long> studentIds) {
+        List<Integer> rows = new ArrayList<>(studentIds.size());
+        List<String> values = new ArrayList<>(studentIds.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            rows.add(i + 1);
+            values.add(String.valueOf(studentIds.get(i)));
+        }
+        return enroll(course, rows, values, studentIds);
+    }
+
+    @Override
+    public BulkEnrollmentResult enrollStudentsFromCsv(Course course, InputStream csv) throws IOException {
+        List<Integer> rows = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<Long> studentIds = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                String value = (comma >= 0 ? line.substring(0, comma) : line).replace("\"", "").trim();
+                Long studentId = parseId(value);
+                if (lineNumber == 1 && studentId == null) {
+                    continue; // header line
+                }
+                rows.add(lineNumber);
+                values.add(value);
+                studentIds.add(studentId);
+            }
+        }
+        return enroll(course, rows, values, studentIds);
+    }
+
+    private BulkEnrollmentResult enroll(Course course, List<Integer> rows, List<String> values, List<Long> studentIds) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Long studentId : studentIds) {
+            if (studentId != null) {
+                candidates.add(studentId);
+            }
+        }
+
+        Set<Long> students = new HashSet<>();
+        Set<Long> enrolled = new HashSet<>();
+        List<Long> candidateList = new ArrayList<>(candidates);
+        for (int from = 0; from < candidateList.size(); from += ID_QUERY_CHUNK) {
+            List<Long> chunk = candidateList.subList(from, Math.min(from + ID_QUERY_CHUNK, candidateList.size()));
+            students.addAll(userRepository.findIdsByIdInAndRole(chunk, Role.STUDENT));
+            enrolled.addAll(enrollmentRepository.findEnrolledStudentIds(course, chunk));
+        }
+
+        BulkEnrollmentResult.RowStatus[] statuses = new BulkEnrollmentResult.RowStatus[studentIds.size()];
+        Set<Long> seen = new HashSet<>();
+        List<Integer> eligible = new ArrayList<>();
+        for (int i = 0; i < studentIds.size(); i++) {
+            Long studentId = studentIds.get(i);
+            if (studentId == null) {
+                statuses[i] = BulkEnrollmentResult.RowStatus.INVALID;
+            } else if (!seen.add(studentId)) {
+                statuses[i] = BulkEnrollmentResult.RowStatus.DUPLICATE;
+            } else if (!students.contains(studentId)) {
+                statuses[i] = BulkEnrollmentResult.RowStatus.NOT_FOUND;
+            } else if (enrolled.contains(studentId)) {
+                statuses[i] = BulkEnrollmentResult.RowStatus.ALREADY_ENROLLED;
+            } else {
+                eligible.add(i);
+            }
+        }
+
+        // Seats go to eligible rows in request order; the rest are reported as full
+        int seats = seatAdmission.reserve(course, eligible.size());
+        List<Enrollment> enrollments = new ArrayList<>(seats);
+        for (int n = 0; n < eligible.size(); n++) {
+            int i = eligible.get(n);
+            if (n < seats) {
+                Enrollment enrollment = new Enrollment();
+                enrollment.setStudent(entityManager.getReference(User.class, studentIds.get(i)));
+                enrollment.setCourse(course);
+                enrollments.add(enrollment);
+                statuses[i] = BulkEnrollmentResult.RowStatus.ENROLLED;
+            } else {
+                statuses[i] = BulkEnrollmentResult.RowStatus.COURSE_FULL;
+            }
+        }
+
+        BulkEnrollmentResult result = new BulkEnrollmentResult(course.getId());
+        for (int i = 0; i < studentIds.size(); i++) {
+            result.addRow(rows.get(i), values.get(i), studentIds.get(i), statuses[i]);
+        }
+
+        if (!enrollments.isEmpty()) {
+            createEnrollments(enrollments);
+        }
+        return result;
+    }
+
+    /**
+     * Flush a full JDBC batch and detach only its rows, so the persistence context stays
+     * small without detaching entities the caller still has managed
+     */
+    private void flushAndDetach(List<Enrollment> batch) {
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
+
+    /**
+     * Change in a course's enrollment count when an enrollment moves between statuses;
+     * dropped enrollments do not count
+     */
+    private static int seatDelta(EnrollmentStatus from, EnrollmentStatus to) {
+        boolean counted = from != EnrollmentStatus.DROPPED;
+        boolean counts = to != EnrollmentStatus.DROPPED;
+        return counted == counts ? 0 : counts ? 1 : -1;
+    }
+
+    private static Long parseId(String value) {
+        try {
+            long id = Long.parseLong(value);
+            return id > 0 ? id : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     @Override
@@ -45,9 +252,17 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found with id: " + enrollmentId));
         
+        counterService.transfer(CounterService.enrollmentStatus(enrollment.getStatus()),
+                CounterService.enrollmentStatus(status));
+        int seatDelta = seatDelta(enrollment.getStatus(), status);
+        if (seatDelta > 0 && seatAdmission.reserve(enrollment.getCourse(), 1) == 0) {
+            throw new CourseFullException("Course is full: " + enrollment.getCourse().getId());
+        }
+        seatAdmission.release(enrollment.getCourse(), -seatDelta);
+        counterService.addCourseEnrollments(enrollment.getCourse().getId(), seatDelta);
         enrollment.setStatus(status);
         if (status == EnrollmentStatus.COMPLETED) {
-            enrollment.setCompletionDate(LocalDateTime.now());
+            enrollment.setCompletedAt(LocalDateTime.now());
         }
         
         return enrollmentRepository.save(enrollment);
@@ -73,6 +288,12 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         return enrollmentRepository.findByCourse(course, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Enrollment> scrollEnrollmentsByCourse(Course course, ScrollPosition position, int size) {
+        return enrollmentRepository.findByCourseOrderByIdAsc(course, position, CursorPage.limit(size));
+    }
+
     @Override
     public Page<Enrollment> getEnrollmentsByStatus(EnrollmentStatus status, Pageable pageable) {
         return enrollmentRepository.findByStatus(status, pageable);
@@ -93,10 +314,21 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         return enrollmentRepository.findByStudentAndCourse(student, course).isPresent();
     }
 
+    @Override
+    public boolean isStudentEnrolled(Long studentId, Long courseId) {
+        return enrollmentRepository.existsByStudentIdAndCourseIdAndStatusIn(studentId, courseId,
+                List.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED));
+    }
+
     @Override
     public void unenrollStudent(User student, Course course) {
         Optional<Enrollment> enrollment = enrollmentRepository.findByStudentAndCourse(student, course);
         if (enrollment.isPresent()) {
+            counterService.transfer(CounterService.enrollmentStatus(enrollment.get().getStatus()),
+                    CounterService.enrollmentStatus(EnrollmentStatus.DROPPED));
+            int seatDelta = seatDelta(enrollment.get().getStatus(), EnrollmentStatus.DROPPED);
+            seatAdmission.release(course, -seatDelta);
+            counterService.addCourseEnrollments(course.getId(), seatDelta);
             enrollment.get().setStatus(EnrollmentStatus.DROPPED);
             enrollmentRepository.save(enrollment.get());
         }
@@ -108,12 +340,18 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public EnrollmentStatistics getEnrollmentStatistics() {
-        long totalEnrollments = enrollmentRepository.count();
-        long activeEnrollments = enrollmentRepository.countByStatus(EnrollmentStatus.ACTIVE);
-        long completedEnrollments = enrollmentRepository.countByStatus(EnrollmentStatus.COMPLETED);
-        long droppedEnrollments = enrollmentRepository.countByStatus(EnrollmentStatus.DROPPED);
+        String active = CounterService.enrollmentStatus(EnrollmentStatus.ACTIVE);
+        String completed = CounterService.enrollmentStatus(EnrollmentStatus.COMPLETED);
+        String dropped = CounterService.enrollmentStatus(EnrollmentStatus.DROPPED);
+        Map<String, Long> counters = counterService.get(List.of(
+                CounterService.ENROLLMENTS_TOTAL, active, completed, dropped));
         
-        return new EnrollmentStatistics(totalEnrollments, activeEnrollments, completedEnrollments, droppedEnrollments);
+        return new EnrollmentStatistics(
+                counters.get(CounterService.ENROLLMENTS_TOTAL),
+                counters.get(active),
+                counters.get(completed),
+                counters.get(dropped));
     }
 }
\ No newline at end of file
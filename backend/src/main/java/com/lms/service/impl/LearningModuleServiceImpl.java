@@ -5,14 +5,20 @@ import com.lms.entity.User;
 import com.lms.exception.ResourceNotFoundException;
 import com.lms.repository.LearningModuleRepository;
 import com.lms.service.LearningModuleService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -21,6 +27,12 @@ public class LearningModuleServiceImpl implements LearningModuleService {
 
     private final LearningModuleRepository learningModuleRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${lms.bulk.batch-size:50}")
+    private int bulkBatchSize;
+
     @Autowired
     public LearningModuleServiceImpl(LearningModuleRepository learningModuleRepository) {
         this.learningModuleRepository = learningModuleRepository;
@@ -32,6 +44,14 @@ public class LearningModuleServiceImpl implements LearningModuleService {
         return learningModuleRepository.save(module);
     }
 
+    @Override
+    public List<LearningModule> createModules(List<LearningModule> modules) {
+        for (LearningModule module : modules) {
+            module.setIsPublished(false);
+        }
+        return persistInBatches(modules);
+    }
+
     @Override
     public LearningModule updateModule(Long moduleId, LearningModule module) {
         LearningModule existingModule = learningModuleRepository.findById(moduleId)
@@ -157,17 +177,25 @@ public class LearningModuleServiceImpl implements LearningModuleService {
         LearningModule originalModule = learningModuleRepository.findById(moduleId)
                 .orElseThrow(() -> new ResourceNotFoundException("Learning module not found with id: " + moduleId));
 
-        LearningModule clonedModule = new LearningModule();
-        clonedModule.setTitle(originalModule.getTitle() + " (Copy)");
-        clonedModule.setDescription(originalModule.getDescription());
-        clonedModule.setSubject(originalModule.getSubject());
-        clonedModule.setLevel(originalModule.getLevel());
-        clonedModule.setEstimatedDuration(originalModule.getEstimatedDuration());
-        clonedModule.setTags(originalModule.getTags());
-        clonedModule.setCreatedBy(newCreator);
-        clonedModule.setIsPublished(false); // Cloned modules start as drafts
+        return learningModuleRepository.save(copyOf(originalModule, newCreator));
+    }
+
+    @Override
+    public List<LearningModule> cloneModules(List<Long> moduleIds, User newCreator) {
+        Map<Long, LearningModule> originals = new HashMap<>();
+        for (LearningModule module : learningModuleRepository.findAllById(moduleIds)) {
+            originals.put(module.getId(), module);
+        }
 
-        return learningModuleRepository.save(clonedModule);
+        List<LearningModule> clones = new ArrayList<>(moduleIds.size());
+        for (Long moduleId : moduleIds) {
+            LearningModule original = originals.get(moduleId);
+            if (original == null) {
+                throw new ResourceNotFoundException("Learning module not found with id: " + moduleId);
+            }
+            clones.add(copyOf(original, newCreator));
+        }
+        return persistInBatches(clones);
     }
 
     @Override
@@ -189,4 +217,42 @@ public class LearningModuleServiceImpl implements LearningModuleService {
         // Others can only access published modules
         return learningModule.getIsPublished();
     }
+
+    private LearningModule copyOf(LearningModule originalModule, User newCreator) {
+        LearningModule clonedModule = new LearningModule();
+        clonedModule.setTitle(originalModule.getTitle() + " (Copy)");
+        clonedModule.setDescription(originalModule.getDescription());
+        clonedModule.setSubject(originalModule.getSubject());
+        clonedModule.setLevel(originalModule.getLevel());
+        clonedModule.setEstimatedDuration(originalModule.getEstimatedDuration());
+        clonedModule.setTags(originalModule.getTags());
+        clonedModule.setCreatedBy(newCreator);
+        clonedModule.setIsPublished(false); // Cloned modules start as drafts
+
+        return clonedModule;
+    }
+
+    /**
+     * Persist new modules, flushing every JDBC batch and detaching the modules it
+     * wrote, so the persistence context does not grow with the input while entities
+     * the caller still has managed stay attached
+     */
+    private List<LearningModule> persistInBatches(List<LearningModule> modules) {
+        List<LearningModule> batch = new ArrayList<>(bulkBatchSize);
+        for (LearningModule module : modules) {
+            entityManager.persist(module);
+            batch.add(module);
+            if (batch.size() == bulkBatchSize) {
+                flushAndDetach(batch);
+            }
+        }
+        flushAndDetach(batch);
+        return modules;
+    }
+
+    private void flushAndDetach(List<LearningModule> batch) {
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
 }
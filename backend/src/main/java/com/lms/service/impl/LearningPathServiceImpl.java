@@ -57,7 +57,7 @@ public class LearningPathServiceImpl implements LearningPathService {
 
     @Override
     public Page<LearningPath> getLearningPathsByInstructor(User instructor, Pageable pageable) {
-        return learningPathRepository.findByInstructor(instructor, pageable);
+        return learningPathRepository.findByCreator(instructor, pageable);
     }
 
     @Override
@@ -103,6 +103,6 @@ public class LearningPathServiceImpl implements LearningPathService {
 
     @Override
     public List<LearningPath> getPublishedLearningPaths() {
-        return learningPathRepository.findByPublishedTrue();
+        return learningPathRepository.findByIsPublishedTrue();
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.lms.service.impl;
+
+import com.lms.cache.PrincipalCache;
+import com.lms.dto.PrincipalView;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.service.OAuth2ProvisioningService;
+import com.lms.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Not transactional: the provisioning call commits through UserService before its
+ * result is published to the requests waiting on the same subject.
+ */
+@Service
+public class OAuth2ProvisioningServiceImpl implements OAuth2ProvisioningService {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    private final ConcurrentMap<String, CompletableFuture<PrincipalView>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<PrincipalView> resolve(OAuth2User oauth2User) {
+        String email = oauth2User.getAttribute("email");
+        String googleId = oauth2User.getAttribute("sub");
+        String subject = googleId != null ? googleId : email;
+        if (subject == null) {
+            throw new IllegalArgumentException("OAuth2 principal has neither a subject nor an email");
+        }
+
+        Optional<PrincipalView> cached = principalCache.getBySubject(subject);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        CompletableFuture<PrincipalView> flight = new CompletableFuture<>();
+        CompletableFuture<PrincipalView> existing = inFlight.putIfAbsent(subject, flight);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            // A flight that finished between the cache check and putIfAbsent left its result behind
+            PrincipalView view = principalCache.getBySubject(subject)
+                    .orElseGet(() -> PrincipalView.from(provision(subject, email, googleId, oauth2User.getAttribute("name"))));
+            principalCache.put(subject, view);
+            flight.complete(view);
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+        } finally {
+            inFlight.remove(subject, flight);
+        }
+        return flight;
+    }
+
+    private User provision(String subject, String email, String googleId, String name) {
+        Long knownId = principalCache.getUserId(subject);
+        if (knownId != null) {
+            Optional<User> known = userService.findById(knownId);
+            if (known.isPresent()) {
+                return known.get();
+            }
+        }
+
+        Optional<User> existing = userService.findByEmail(email);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        User user = new User();
+        user.setEmail(email);
+        user.setFirstName(name != null ? name.split(" ")[0] : "");
+        user.setLastName(name != null && name.split(" ").length > 1 ? name.split(" ")[1] : "");
+        user.setGoogleId(googleId);
+        user.setRole(Role.STUDENT);
+        try {
+            return userService.createUser(user);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance provisioned the same email first
+            return userService.findByEmail(email).orElseThrow(() -> e);
+        }
+    }
+}
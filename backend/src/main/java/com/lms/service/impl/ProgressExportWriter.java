@@ -0,0 +1,147 @@
+package com.lms.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.lms.entity.LearningModule;
+import com.lms.entity.StudentProgress;
+import com.lms.entity.User;
+import com.lms.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes flat StudentProgress rows to an output stream without building an object graph
+ */
+abstract class ProgressExportWriter implements AutoCloseable {
+
+    static final String[] COLUMNS = {
+        "id", "studentId", "studentEmail", "city", "country", "moduleId", "moduleTitle",
+        "currentSection", "timeSpent", "completionPercentage", "completed", "lastAccessed"
+    };
+
+    static ProgressExportWriter create(ExportFormat format, OutputStream out, JsonFactory jsonFactory) throws IOException {
+        return format == ExportFormat.CSV ? new Csv(out) : new NdJson(out, jsonFactory);
+    }
+
+    abstract void write(StudentProgress progress) throws IOException;
+
+    abstract void flush() throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    private static final class NdJson extends ProgressExportWriter {
+        private final JsonGenerator generator;
+
+        private NdJson(OutputStream out, JsonFactory jsonFactory) throws IOException {
+            this.generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Records are separated by the newline written after each one, not the default space
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(StudentProgress progress) throws IOException {
+            User student = progress.getStudent();
+            LearningModule module = progress.getModule();
+            generator.writeStartObject();
+            generator.writeNumberField("id", progress.getId());
+            generator.writeNumberField("studentId", student.getId());
+            generator.writeStringField("studentEmail", student.getEmail());
+            generator.writeStringField("city", student.getCity());
+            generator.writeStringField("country", student.getCountry());
+            generator.writeNumberField("moduleId", module.getId());
+            generator.writeStringField("moduleTitle", module.getTitle());
+            writeNumberField("currentSection", progress.getCurrentSection());
+            writeNumberField("timeSpent", progress.getTimeSpent());
+            if (progress.getCompletionPercentage() != null) {
+                generator.writeNumberField("completionPercentage", progress.getCompletionPercentage());
+            } else {
+                generator.writeNullField("completionPercentage");
+            }
+            generator.writeBooleanField("completed", Boolean.TRUE.equals(progress.getIsCompleted()));
+            generator.writeStringField("lastAccessed",
+                    progress.getLastAccessed() != null ? progress.getLastAccessed().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeNumberField(String name, Integer value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(name, value);
+            } else {
+                generator.writeNullField(name);
+            }
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class Csv extends ProgressExportWriter {
+        private final Writer writer;
+
+        private Csv(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write(String.join(",", COLUMNS));
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        void write(StudentProgress progress) throws IOException {
+            User student = progress.getStudent();
+            LearningModule module = progress.getModule();
+            writer.write(String.valueOf(progress.getId()));
+            cell(student.getId());
+            cell(student.getEmail());
+            cell(student.getCity());
+            cell(student.getCountry());
+            cell(module.getId());
+            cell(module.getTitle());
+            cell(progress.getCurrentSection());
+            cell(progress.getTimeSpent());
+            cell(progress.getCompletionPercentage());
+            cell(Boolean.TRUE.equals(progress.getIsCompleted()));
+            cell(progress.getLastAccessed());
+            writer.write("\r\n");
+        }
+
+        private void cell(Object value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.lms.service.impl;
+
+import com.lms.entity.StudentProgress;
+import com.lms.repository.StudentProgressRepository;
+import com.lms.repository.StudentProgressUpsert;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for progress heartbeats.
+ *
+ * Updates are coalesced per (student, module): the latest reported section, time
+ * spent, percentage and JSON columns are kept, a value left null keeps the previous
+ * one, and completion is sticky once reported. Pending entries are written in
+ * batches of native upserts on a schedule, when the size threshold is reached, and
+ * on shutdown. A batch that fails stays pending and is retried by the next flush,
+ * except when a row breaks a constraint: the batch is then written row by row and
+ * rows that still fail are dropped and counted, so one bad row cannot hold back the
+ * rest. When the buffer is full the caller is told to write synchronously instead.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Component
+public class ProgressWriteBehindBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressWriteBehindBuffer.class);
+
+    private final Map<ProgressKey, PendingProgress> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "progress-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final StudentProgressRepository studentProgressRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int flushThreshold;
+    private final int batchSize;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter dropped;
+
+    public ProgressWriteBehindBuffer(StudentProgressRepository studentProgressRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${lms.progress.write-behind.enabled:false}") boolean enabled,
+                                     @Value("${lms.progress.write-behind.capacity:50000}") int capacity,
+                                     @Value("${lms.progress.write-behind.flush-threshold:5000}") int flushThreshold,
+                                     @Value("${lms.progress.write-behind.batch-size:500}") int batchSize) {
+        this.studentProgressRepository = studentProgressRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.flushThreshold = flushThreshold;
+        this.batchSize = batchSize;
+        this.accepted = Counter.builder("lms.progress.write-behind.updates")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("lms.progress.write-behind.updates")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.written = Counter.builder("lms.progress.write-behind.rows-written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("lms.progress.write-behind.rows-dropped")
+                .register(meterRegistry);
+        Gauge.builder("lms.progress.write-behind.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Buffer a progress update
+     *
+     * @param progress Progress with student and module set
+     * @return true if buffered, false if the caller must write it synchronously
+     */
+    public boolean offer(StudentProgress progress) {
+        if (!enabled || progress.getStudent() == null || progress.getModule() == null) {
+            return false;
+        }
+
+        ProgressKey key = new ProgressKey(progress.getStudent().getId(), progress.getModule().getId());
+        if (pending.size() >= capacity && !pending.containsKey(key)) {
+            rejected.increment();
+            requestFlush();
+            return false;
+        }
+
+        PendingProgress update = new PendingProgress(progress.getCurrentSection(), progress.getTimeSpent(),
+                progress.getCompletionPercentage(), Boolean.TRUE.equals(progress.getIsCompleted()), LocalDateTime.now(),
+                progress.getCompletedObjectives(), progress.getQuizScores(), progress.getNotes(),
+                progress.getBookmarks());
+        pending.merge(key, update, PendingProgress::merge);
+        accepted.increment();
+
+        if (pending.size() >= flushThreshold) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * Write pending updates on the configured interval
+     */
+    @Scheduled(fixedDelayString = "${lms.progress.write-behind.flush-interval:PT2S}")
+    public void scheduledFlush() {
+        if (enabled && !pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    /**
+     * Write every pending update in batches
+     *
+     * @return number of rows written
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<ProgressKey, PendingProgress>> snapshot = new ArrayList<>(pending.entrySet());
+            int total = 0;
+            for (int from = 0; from < snapshot.size(); from += batchSize) {
+                List<Map.Entry<ProgressKey, PendingProgress>> batch =
+                        snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+                try {
+                    total += write(batch);
+                } catch (DataIntegrityViolationException e) {
+                    total += writeOneByOne(batch);
+                }
+            }
+            written.increment(total);
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!pending.isEmpty()) {
+            logger.info("Flushing {} buffered progress updates before shutdown", pending.size());
+            flush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } catch (RuntimeException e) {
+                        logger.error("Write-behind progress flush failed", e);
+                    } finally {
+                        flushScheduled.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                flushScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private int write(List<Map.Entry<ProgressKey, PendingProgress>> batch) {
+        Integer count = transactionTemplate.execute(status -> writeBatch(batch));
+        // Only drop entries that were not updated again while the batch was written
+        for (Map.Entry<ProgressKey, PendingProgress> entry : batch) {
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+        return count != null ? count : 0;
+    }
+
+    private int writeOneByOne(List<Map.Entry<ProgressKey, PendingProgress>> batch) {
+        int count = 0;
+        for (Map.Entry<ProgressKey, PendingProgress> entry : batch) {
+            try {
+                count += write(Collections.singletonList(entry));
+            } catch (DataIntegrityViolationException e) {
+                // Retrying cannot fix a constraint violation, e.g. a module deleted meanwhile
+                pending.remove(entry.getKey(), entry.getValue());
+                dropped.increment();
+                logger.warn("Dropped buffered progress of student {} in module {}: {}",
+                        entry.getKey().studentId, entry.getKey().moduleId, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return count;
+    }
+
+    private int writeBatch(List<Map.Entry<ProgressKey, PendingProgress>> batch) {
+        List<StudentProgressUpsert> rows = new ArrayList<>(batch.size());
+        for (Map.Entry<ProgressKey, PendingProgress> entry : batch) {
+            ProgressKey key = entry.getKey();
+            PendingProgress update = entry.getValue();
+            rows.add(new StudentProgressUpsert(key.studentId, key.moduleId, update.currentSection,
+                    update.timeSpent, update.completionPercentage, update.completed, update.lastAccessed,
+                    update.completedObjectives, update.quizScores, update.notes, update.bookmarks));
+        }
+        studentProgressRepository.upsertProgressBatch(rows);
+        return rows.size();
+    }
+
+    private static final class ProgressKey {
+        private final Long studentId;
+        private final Long moduleId;
+
+        private ProgressKey(Long studentId, Long moduleId) {
+            this.studentId = studentId;
+            this.moduleId = moduleId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ProgressKey)) return false;
+            ProgressKey that = (ProgressKey) o;
+            return Objects.equals(studentId, that.studentId)
+                    && Objects.equals(moduleId, that.moduleId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentId, moduleId);
+        }
+    }
+
+    private static final class PendingProgress {
+        private final Integer currentSection;
+        private final Integer timeSpent;
+        private final Double completionPercentage;
+        private final boolean completed;
+        private final LocalDateTime lastAccessed;
+        private final String completedObjectives;
+        private final String quizScores;
+        private final String notes;
+        private final String bookmarks;
+
+        private PendingProgress(Integer currentSection, Integer timeSpent, Double completionPercentage,
+                                boolean completed, LocalDateTime lastAccessed, String completedObjectives,
+                                String quizScores, String notes, String bookmarks) {
+            this.currentSection = currentSection;
+            this.timeSpent = timeSpent;
+            this.completionPercentage = completionPercentage;
+            this.completed = completed;
+            this.lastAccessed = lastAccessed;
+            this.completedObjectives = completedObjectives;
+            this.quizScores = quizScores;
+            this.notes = notes;
+            this.bookmarks = bookmarks;
+        }
+
+        private static PendingProgress merge(PendingProgress previous, PendingProgress next) {
+            return new PendingProgress(
+                    next.currentSection != null ? next.currentSection : previous.currentSection,
+                    next.timeSpent != null ? next.timeSpent : previous.timeSpent,
+                    next.completionPercentage != null ? next.completionPercentage : previous.completionPercentage,
+                    previous.completed || next.completed,
+                    next.lastAccessed,
+                    next.completedObjectives != null ? next.completedObjectives : previous.completedObjectives,
+                    next.quizScores != null ? next.quizScores : previous.quizScores,
+                    next.notes != null ? next.notes : previous.notes,
+                    next.bookmarks != null ? next.bookmarks : previous.bookmarks);
+        }
+    }
+}
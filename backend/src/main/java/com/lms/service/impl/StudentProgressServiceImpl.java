@@ -1,128 +1,257 @@
 package com.lms.service.impl;
 
-import com.lms.entity.Course;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.dto.CursorPage;
+import com.lms.entity.LearningModule;
 import com.lms.entity.StudentProgress;
 import com.lms.entity.User;
+import com.lms.enums.ExportFormat;
+import com.lms.enums.TimeGranularity;
 import com.lms.exception.ResourceNotFoundException;
 import com.lms.repository.StudentProgressRepository;
+import com.lms.repository.StudentProgressUpsert;
+import com.lms.repository.projection.ModuleProgressStatisticsView;
+import com.lms.repository.projection.DailyCountView;
+import com.lms.repository.projection.ProgressStatisticsView;
+import com.lms.service.LearningModuleService;
 import com.lms.service.StudentProgressService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class StudentProgressServiceImpl implements StudentProgressService {
 
+    private static final int TOP_STUDENTS_LIMIT = 10;
+    private static final int ACTIVE_WINDOW_DAYS = 7;
+
     @Autowired
     private StudentProgressRepository studentProgressRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProgressWriteBehindBuffer writeBehindBuffer;
+
+    @Autowired
+    private LearningModuleService learningModuleService;
+
+    @Value("${lms.export.clear-interval:500}")
+    private int exportClearInterval;
+
     @Override
-    public StudentProgress saveProgress(StudentProgress progress) {
-        Optional<StudentProgress> existingProgress = studentProgressRepository
-                .findByStudentAndCourseAndContentId(progress.getStudent(), progress.getCourse(), progress.getContentId());
+    public StudentProgress recordProgress(StudentProgress progress) {
+        // One INSERT ... ON DUPLICATE KEY UPDATE instead of select-then-save; concurrent
+        // heartbeats for the same key can no longer race into duplicate rows
+        long id = studentProgressRepository.upsertProgress(StudentProgressUpsert.of(progress, LocalDateTime.now()));
         
-        if (existingProgress.isPresent()) {
-            StudentProgress existing = existingProgress.get();
-            existing.setProgressPercentage(progress.getProgressPercentage());
-            existing.setLastAccessedAt(LocalDateTime.now());
-            existing.setCompleted(progress.isCompleted());
-            return studentProgressRepository.save(existing);
-        } else {
-            progress.setLastAccessedAt(LocalDateTime.now());
-            return studentProgressRepository.save(progress);
-        }
+        // Read the merged row back by its id: values left null in the request, sticky
+        // completion, version and createdAt all come from the database
+        return studentProgressRepository.findWithStudentAndModuleById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Progress not found with id: " + id));
     }
 
     @Override
-    public Optional<StudentProgress> getProgress(User student, Course course, String contentId) {
-        return studentProgressRepository.findByStudentAndCourseAndContentId(student, course, contentId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean queueProgress(StudentProgress progress) {
+        return writeBehindBuffer.offer(progress);
     }
 
     @Override
-    public List<StudentProgress> getStudentProgress(User student, Course course) {
-        return studentProgressRepository.findByStudentAndCourse(student, course);
+    @Transactional(readOnly = true)
+    public Optional<StudentProgress> getProgress(User student, LearningModule module) {
+        return studentProgressRepository.findByStudentAndModule(student, module);
     }
 
     @Override
-    public Page<StudentProgress> getProgressByStudent(User student, Pageable pageable) {
-        return studentProgressRepository.findByStudent(student, pageable);
+    @Transactional(readOnly = true)
+    public List<StudentProgress> getProgressByStudent(User student) {
+        return studentProgressRepository.findByStudent(student);
     }
 
     @Override
-    public Page<StudentProgress> getProgressByCourse(Course course, Pageable pageable) {
-        return studentProgressRepository.findByCourse(course, pageable);
+    @Transactional(readOnly = true)
+    public List<StudentProgress> getProgressByModule(LearningModule module) {
+        return studentProgressRepository.findByModule(module);
     }
 
     @Override
-    public Double calculateCourseProgress(User student, Course course) {
-        List<StudentProgress> progressList = studentProgressRepository.findByStudentAndCourse(student, course);
-        if (progressList.isEmpty()) {
-            return 0.0;
-        }
-        
-        double totalProgress = progressList.stream()
-                .mapToDouble(StudentProgress::getProgressPercentage)
-                .sum();
-        
-        return totalProgress / progressList.size();
+    @Transactional(readOnly = true)
+    public Page<StudentProgress> getProgressByModule(LearningModule module, Pageable pageable) {
+        return studentProgressRepository.findByModule(module, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentProgress> getCompletedModules(User student) {
+        return studentProgressRepository.findByStudentAndIsCompletedTrue(student);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentProgress> getInProgressModules(User student) {
+        return studentProgressRepository.findByStudentAndIsCompletedFalse(student);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Double getStudentAverageCompletionPercentage(User student) {
+        Double average = studentProgressRepository.findAverageCompletionByStudent(student);
+        return average != null ? average : 0.0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getTotalTimeSpentByStudent(User student) {
+        Long total = studentProgressRepository.sumTimeSpentByStudent(student);
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countCompletedModulesByStudent(User student) {
+        return studentProgressRepository.countByStudentAndIsCompletedTrue(student);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countTotalModulesByStudent(User student) {
+        return studentProgressRepository.countByStudent(student);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Object[] getModuleStatistics(LearningModule module) {
+        ProgressStatisticsView statistics = studentProgressRepository.findStatisticsByModule(module);
+        return new Object[] {
+                statistics.getTotalStudents(),
+                statistics.getCompletedLessons(),
+                statistics.getAverageProgress(),
+                statistics.getTotalProgressRecords()
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> getStudentsWhoCompletedModule(LearningModule module) {
+        return studentProgressRepository.findStudentsWhoCompletedModule(module);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Object[]> getTopPerformingStudents() {
+        return studentProgressRepository.findTopStudentsByAverageCompletion(PageRequest.of(0, TOP_STUDENTS_LIMIT));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentProgress> getActiveStudentsInModule(LearningModule module) {
+        return studentProgressRepository.findByModuleAndIsCompletedFalseAndLastAccessedAfter(
+                module, LocalDateTime.now().minusDays(ACTIVE_WINDOW_DAYS));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasAccessToModule(User student, LearningModule module) {
+        return learningModuleService.canUserAccessModule(student, module.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<StudentProgress> scrollProgressByModule(LearningModule module, ScrollPosition position, int size) {
+        return studentProgressRepository.findByModuleOrderByIdAsc(module, position, CursorPage.limit(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<StudentProgress> getProgressByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return studentProgressRepository.findByLastAccessedAtBetween(startDate, endDate);
+        return studentProgressRepository.findByLastAccessedBetween(startDate, endDate);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getProgressStatistics(User instructor) {
-        List<StudentProgress> allProgress = studentProgressRepository.findByInstructor(instructor);
-        
-        long totalStudents = allProgress.stream()
-                .map(p -> p.getStudent().getId())
-                .distinct()
-                .count();
-        
-        long completedLessons = allProgress.stream()
-                .mapToLong(p -> p.isCompleted() ? 1 : 0)
-                .sum();
-        
-        double averageProgress = allProgress.stream()
-                .mapToDouble(StudentProgress::getProgressPercentage)
-                .average()
-                .orElse(0.0);
+        ProgressStatisticsView statistics = studentProgressRepository.findStatisticsByInstructor(instructor);
         
         return Map.of(
-                "totalStudents", totalStudents,
-                "completedLessons", completedLessons,
-                "averageProgress", averageProgress,
-                "totalProgressRecords", allProgress.size()
+                "totalStudents", statistics.getTotalStudents(),
+                "completedLessons", statistics.getCompletedLessons(),
+                "averageProgress", statistics.getAverageProgress(),
+                "totalProgressRecords", statistics.getTotalProgressRecords()
         );
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ModuleProgressStatisticsView> getModuleProgressStatistics(User instructor) {
+        return studentProgressRepository.findModuleStatisticsByInstructor(instructor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<StudentProgress> getProgressByLocation(String city, String country) {
         return studentProgressRepository.findByStudentCityOrStudentCountry(city, country);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Long> getProgressByMonth(int year) {
-        List<StudentProgress> yearProgress = studentProgressRepository.findByYear(year);
+        LocalDate start = LocalDate.of(year, 1, 1);
         
-        return yearProgress.stream()
+        return countByDay(start, start.plusYears(1), null).entrySet().stream()
                 .collect(Collectors.groupingBy(
-                        p -> p.getLastAccessedAt().getMonth().toString(),
-                        Collectors.counting()
+                        entry -> entry.getKey().getMonth().toString(),
+                        Collectors.summingLong(Map.Entry::getValue)
                 ));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getActivityHistogram(LocalDate from, LocalDate to, TimeGranularity granularity, Long moduleId) {
+        NavigableMap<LocalDate, Long> daily = new TreeMap<>(countByDay(from, to.plusDays(1), moduleId));
+        
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        daily.forEach((day, count) -> histogram.merge(granularity.bucketOf(day), count, Long::sum));
+        return histogram;
+    }
+
+    private Map<LocalDate, Long> countByDay(LocalDate from, LocalDate to, Long moduleId) {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (DailyCountView row : studentProgressRepository.countByDay(from.atStartOfDay(), to.atStartOfDay(), moduleId)) {
+            counts.put(row.getDay(), row.getTotal());
+        }
+        return counts;
+    }
+
     @Override
     public void deleteProgress(Long id) {
         if (!studentProgressRepository.existsById(id)) {
@@ -130,4 +259,39 @@ public class StudentProgressServiceImpl implements StudentProgressService {
         }
         studentProgressRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProgressByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+                                          ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<StudentProgress> rows = studentProgressRepository.streamByLastAccessedBetween(startDate, endDate)) {
+            return export(rows, format, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProgressByLocation(String city, String country,
+                                         ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<StudentProgress> rows = studentProgressRepository.streamByStudentCityOrStudentCountry(city, country)) {
+            return export(rows, format, out);
+        }
+    }
+
+    private long export(Stream<StudentProgress> rows, ExportFormat format, OutputStream out) throws IOException {
+        long written = 0;
+        try (ProgressExportWriter writer = ProgressExportWriter.create(format, out, objectMapper.getFactory())) {
+            Iterator<StudentProgress> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                written++;
+                if (written % exportClearInterval == 0) {
+                    // Release the rows already written so memory stays flat for any result size
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        return written;
+    }
+}
@@ -1,18 +1,27 @@
 package com.lms.service.impl;
 
+import com.lms.cache.PrincipalCache;
+import com.lms.cache.UserCache;
+import com.lms.dto.CursorPage;
 import com.lms.entity.User;
 import com.lms.enums.Role;
 import com.lms.exception.ResourceNotFoundException;
 import com.lms.repository.UserRepository;
+import com.lms.service.CounterService;
 import com.lms.service.UserService;
+import com.lms.support.TransactionHooks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -25,6 +34,15 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private CounterService counterService;
+
     @Override
     public User createUser(User user) {
         if (user.getPassword() != null) {
@@ -32,7 +50,11 @@ public class UserServiceImpl implements UserService {
         }
         user.setActive(true);
         user.setCreatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        counterService.add(CounterService.USERS_TOTAL, 1);
+        counterService.add(CounterService.USERS_ACTIVE, 1);
+        counterService.add(CounterService.userRole(savedUser.getRole()), 1);
+        return savedUser;
     }
 
     @Override
@@ -40,16 +62,26 @@ public class UserServiceImpl implements UserService {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         
+        String previousEmail = existingUser.getEmail();
         existingUser.setFirstName(user.getFirstName());
         existingUser.setLastName(user.getLastName());
         existingUser.setEmail(user.getEmail());
         if (user.getPassword() != null && !user.getPassword().isEmpty()) {
             existingUser.setPassword(passwordEncoder.encode(user.getPassword()));
         }
+        counterService.transfer(CounterService.userRole(existingUser.getRole()),
+                CounterService.userRole(user.getRole()));
         existingUser.setRole(user.getRole());
         existingUser.setUpdatedAt(LocalDateTime.now());
         
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        String email = savedUser.getEmail();
+        TransactionHooks.afterCommit(() -> {
+            userCache.evict(previousEmail);
+            userCache.evict(email);
+            principalCache.evict(id);
+        });
+        return savedUser;
     }
 
     @Override
@@ -59,7 +91,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userCache.get(email, userRepository::findByEmail);
     }
 
     @Override
@@ -72,6 +104,12 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Window<User> scrollAllUsers(ScrollPosition position, int size) {
+        return userRepository.findAllByOrderByIdAsc(position, CursorPage.limit(size));
+    }
+
     @Override
     public Page<User> getUsersByRole(Role role, Pageable pageable) {
         return userRepository.findByRole(role, pageable);
@@ -79,7 +117,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Page<User> getActiveUsers(Pageable pageable) {
-        return userRepository.findByActiveTrue(pageable);
+        return userRepository.findByIsActiveTrue(pageable);
     }
 
     @Override
@@ -91,8 +129,16 @@ public class UserServiceImpl implements UserService {
     public User activateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        if (!Boolean.TRUE.equals(user.isActive())) {
+            counterService.add(CounterService.USERS_ACTIVE, 1);
+        }
         user.setActive(true);
         user.setUpdatedAt(LocalDateTime.now());
+        String email = user.getEmail();
+        TransactionHooks.afterCommit(() -> {
+            userCache.evict(email);
+            principalCache.evict(id);
+        });
         return userRepository.save(user);
     }
 
@@ -100,8 +146,16 @@ public class UserServiceImpl implements UserService {
     public User deactivateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        if (Boolean.TRUE.equals(user.isActive())) {
+            counterService.add(CounterService.USERS_ACTIVE, -1);
+        }
         user.setActive(false);
         user.setUpdatedAt(LocalDateTime.now());
+        String email = user.getEmail();
+        TransactionHooks.afterCommit(() -> {
+            userCache.evict(email);
+            principalCache.evict(id);
+        });
         return userRepository.save(user);
     }
 
@@ -110,7 +164,18 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            counterService.add(CounterService.USERS_TOTAL, -1);
+            if (Boolean.TRUE.equals(user.isActive())) {
+                counterService.add(CounterService.USERS_ACTIVE, -1);
+            }
+            counterService.add(CounterService.userRole(user.getRole()), -1);
+            userRepository.delete(user);
+        });
+        TransactionHooks.afterCommit(() -> {
+            userCache.evictById(id);
+            principalCache.evict(id);
+        });
     }
 
     @Override
@@ -119,12 +184,17 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserStatistics getUserStatistics() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countByActiveTrue();
-        long instructors = userRepository.countByRole(Role.INSTRUCTOR);
-        long students = userRepository.countByRole(Role.STUDENT);
+        String instructors = CounterService.userRole(Role.INSTRUCTOR);
+        String students = CounterService.userRole(Role.STUDENT);
+        Map<String, Long> counters = counterService.get(List.of(
+                CounterService.USERS_TOTAL, CounterService.USERS_ACTIVE, instructors, students));
         
-        return new UserStatistics(totalUsers, activeUsers, instructors, students);
+        return new UserStatistics(
+                counters.get(CounterService.USERS_TOTAL),
+                counters.get(CounterService.USERS_ACTIVE),
+                counters.get(instructors),
+                counters.get(students));
     }
-}
\ No newline at end of file
+}
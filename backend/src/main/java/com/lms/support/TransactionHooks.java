@@ -0,0 +1,58 @@
+package com.lms.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Callbacks tied to the outcome of the current Spring-managed transaction.
+ *
+ * Cache evictions and in-memory bookkeeping run after commit, so a concurrent reader
+ * cannot load the old row and cache it again before the change is visible, and a
+ * rolled-back change never reaches memory. Outside a transaction the action runs
+ * immediately.
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * Run an action once the current transaction commits, or now if there is none
+     *
+     * @param action The action
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run an action if the current transaction does not commit; does nothing outside a
+     * transaction
+     *
+     * @param action The action
+     */
+    public static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
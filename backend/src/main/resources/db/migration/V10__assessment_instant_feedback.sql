@@ -0,0 +1,3 @@
+-- Practice assessments opt in to instant feedback on answers during an attempt;
+-- everything else keeps its answer key hidden until grading.
+ALTER TABLE assessments ADD COLUMN instant_feedback BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,374 @@
+-- Baseline LMS schema: the tables hibernate.ddl-auto=update created from the
+-- entity model before migrations took over. Existing databases are baselined at
+-- this version (spring.flyway.baseline-on-migrate) and only receive later
+-- migrations, so tables added since then belong in V2 onwards, never here.
+--
+-- Kept to SQL accepted by both MySQL 8 and H2 so tests run the same scripts.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
+    role ENUM('INSTRUCTOR','STUDENT','ADMIN') NOT NULL,
+    profile_picture VARCHAR(255),
+    bio TEXT,
+    phone_number VARCHAR(20),
+    address TEXT,
+    city VARCHAR(100),
+    country VARCHAR(100),
+    is_active BOOLEAN NOT NULL,
+    google_id VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE courses (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    short_description VARCHAR(500),
+    instructor_id BIGINT NOT NULL,
+    status ENUM('DRAFT','PUBLISHED','SUSPENDED','ARCHIVED') NOT NULL,
+    thumbnail_url VARCHAR(255),
+    category VARCHAR(100),
+    level VARCHAR(50),
+    language VARCHAR(50),
+    duration_hours INT,
+    price DECIMAL(10, 2),
+    max_students INT,
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    prerequisites TEXT,
+    learning_objectives TEXT,
+    tags VARCHAR(255),
+    is_featured BOOLEAN NOT NULL,
+    enrollment_count INT NOT NULL,
+    rating DOUBLE,
+    review_count INT NOT NULL,
+    CONSTRAINT pk_courses PRIMARY KEY (id),
+    CONSTRAINT fk_courses_instructor FOREIGN KEY (instructor_id) REFERENCES users (id)
+);
+
+CREATE TABLE course_content (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    course_id BIGINT NOT NULL,
+    content_type ENUM('VIDEO','AUDIO','DOCUMENT','IMAGE','TEXT','QUIZ','ASSIGNMENT','INTERACTIVE') NOT NULL,
+    content_url VARCHAR(255),
+    content_data LONGTEXT,
+    duration_minutes INT,
+    order_index INT NOT NULL,
+    is_free BOOLEAN NOT NULL,
+    is_downloadable BOOLEAN NOT NULL,
+    file_size BIGINT,
+    file_type VARCHAR(255),
+    thumbnail_url VARCHAR(255),
+    transcript LONGTEXT,
+    CONSTRAINT pk_course_content PRIMARY KEY (id),
+    CONSTRAINT fk_course_content_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
+
+CREATE TABLE enrollments (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    student_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    status ENUM('ACTIVE','COMPLETED','DROPPED','SUSPENDED') NOT NULL,
+    enrolled_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    progress_percentage DOUBLE NOT NULL,
+    last_accessed DATETIME(6),
+    certificate_url VARCHAR(255),
+    CONSTRAINT pk_enrollments PRIMARY KEY (id),
+    CONSTRAINT fk_enrollments_student FOREIGN KEY (student_id) REFERENCES users (id),
+    CONSTRAINT fk_enrollments_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
+
+CREATE TABLE progress (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    user_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    content_id BIGINT NOT NULL,
+    is_completed BOOLEAN NOT NULL,
+    completion_percentage DOUBLE NOT NULL,
+    time_spent_minutes INT,
+    last_accessed DATETIME(6),
+    completed_at DATETIME(6),
+    notes TEXT,
+    CONSTRAINT pk_progress PRIMARY KEY (id),
+    CONSTRAINT fk_progress_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_progress_course FOREIGN KEY (course_id) REFERENCES courses (id),
+    CONSTRAINT fk_progress_content FOREIGN KEY (content_id) REFERENCES course_content (id)
+);
+
+CREATE TABLE assessments (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    course_id BIGINT NOT NULL,
+    content_id BIGINT,
+    time_limit_minutes INT,
+    max_attempts INT,
+    passing_score DOUBLE,
+    total_points DOUBLE,
+    is_active BOOLEAN NOT NULL,
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    instructions TEXT,
+    CONSTRAINT pk_assessments PRIMARY KEY (id),
+    CONSTRAINT fk_assessments_course FOREIGN KEY (course_id) REFERENCES courses (id),
+    CONSTRAINT fk_assessments_content FOREIGN KEY (content_id) REFERENCES course_content (id)
+);
+
+CREATE TABLE questions (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    assessment_id BIGINT NOT NULL,
+    question_text TEXT,
+    question_type VARCHAR(255) NOT NULL,
+    points DOUBLE,
+    order_index INT,
+    explanation TEXT,
+    CONSTRAINT pk_questions PRIMARY KEY (id),
+    CONSTRAINT fk_questions_assessment FOREIGN KEY (assessment_id) REFERENCES assessments (id)
+);
+
+CREATE TABLE question_options (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    question_id BIGINT NOT NULL,
+    option_text TEXT,
+    is_correct BOOLEAN NOT NULL,
+    order_index INT,
+    explanation TEXT,
+    CONSTRAINT pk_question_options PRIMARY KEY (id),
+    CONSTRAINT fk_question_options_question FOREIGN KEY (question_id) REFERENCES questions (id)
+);
+
+CREATE TABLE assessment_attempts (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    assessment_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    attempt_number INT NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    submitted_at DATETIME(6),
+    score DOUBLE,
+    max_score DOUBLE,
+    percentage DOUBLE,
+    is_passed BOOLEAN,
+    time_taken_minutes INT,
+    status VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_assessment_attempts PRIMARY KEY (id),
+    CONSTRAINT fk_assessment_attempts_assessment FOREIGN KEY (assessment_id) REFERENCES assessments (id),
+    CONSTRAINT fk_assessment_attempts_student FOREIGN KEY (student_id) REFERENCES users (id)
+);
+
+CREATE TABLE student_answers (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    attempt_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    selected_option_id BIGINT,
+    answer_text TEXT,
+    is_correct BOOLEAN,
+    points_earned DOUBLE,
+    CONSTRAINT pk_student_answers PRIMARY KEY (id),
+    CONSTRAINT fk_student_answers_attempt FOREIGN KEY (attempt_id) REFERENCES assessment_attempts (id),
+    CONSTRAINT fk_student_answers_question FOREIGN KEY (question_id) REFERENCES questions (id),
+    CONSTRAINT fk_student_answers_option FOREIGN KEY (selected_option_id) REFERENCES question_options (id)
+);
+
+CREATE TABLE learning_paths (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    creator_id BIGINT NOT NULL,
+    thumbnail_url VARCHAR(255),
+    estimated_duration_hours INT,
+    difficulty_level VARCHAR(50),
+    tags VARCHAR(255),
+    is_published BOOLEAN NOT NULL,
+    enrollment_count INT NOT NULL,
+    completion_count INT NOT NULL,
+    CONSTRAINT pk_learning_paths PRIMARY KEY (id),
+    CONSTRAINT fk_learning_paths_creator FOREIGN KEY (creator_id) REFERENCES users (id)
+);
+
+CREATE TABLE learning_path_courses (
+    course_id BIGINT NOT NULL,
+    learning_path_id BIGINT NOT NULL,
+    CONSTRAINT pk_learning_path_courses PRIMARY KEY (course_id, learning_path_id),
+    CONSTRAINT fk_learning_path_courses_course FOREIGN KEY (course_id) REFERENCES courses (id),
+    CONSTRAINT fk_learning_path_courses_path FOREIGN KEY (learning_path_id) REFERENCES learning_paths (id)
+);
+
+CREATE TABLE learning_path_enrollments (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    user_id BIGINT NOT NULL,
+    learning_path_id BIGINT NOT NULL,
+    enrollment_date DATETIME(6) NOT NULL,
+    progress_percentage DOUBLE NOT NULL,
+    completion_date DATETIME(6),
+    CONSTRAINT pk_learning_path_enrollments PRIMARY KEY (id),
+    CONSTRAINT fk_learning_path_enrollments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_learning_path_enrollments_path FOREIGN KEY (learning_path_id) REFERENCES learning_paths (id)
+);
+
+CREATE TABLE learning_modules (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    subject VARCHAR(100),
+    level VARCHAR(25),
+    estimated_duration INT,
+    tags VARCHAR(255),
+    created_by BIGINT NOT NULL,
+    is_published BOOLEAN NOT NULL,
+    CONSTRAINT pk_learning_modules PRIMARY KEY (id),
+    CONSTRAINT fk_learning_modules_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+);
+
+CREATE TABLE learning_objectives (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    module_id BIGINT NOT NULL,
+    order_index INT NOT NULL,
+    CONSTRAINT pk_learning_objectives PRIMARY KEY (id),
+    CONSTRAINT fk_learning_objectives_module FOREIGN KEY (module_id) REFERENCES learning_modules (id)
+);
+
+CREATE TABLE learning_resources (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    module_id BIGINT NOT NULL,
+    resource_type VARCHAR(50),
+    url VARCHAR(255),
+    file_size VARCHAR(255),
+    download_count INT,
+    is_downloadable BOOLEAN,
+    CONSTRAINT pk_learning_resources PRIMARY KEY (id),
+    CONSTRAINT fk_learning_resources_module FOREIGN KEY (module_id) REFERENCES learning_modules (id)
+);
+
+CREATE TABLE learning_sections (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    module_id BIGINT NOT NULL,
+    order_index INT NOT NULL,
+    estimated_time INT,
+    is_required BOOLEAN NOT NULL,
+    CONSTRAINT pk_learning_sections PRIMARY KEY (id),
+    CONSTRAINT fk_learning_sections_module FOREIGN KEY (module_id) REFERENCES learning_modules (id)
+);
+
+CREATE TABLE content_blocks (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    section_id BIGINT NOT NULL,
+    content_type ENUM('VIDEO','AUDIO','DOCUMENT','IMAGE','TEXT','QUIZ','ASSIGNMENT','INTERACTIVE') NOT NULL,
+    content LONGTEXT,
+    content_url VARCHAR(255),
+    order_index INT NOT NULL,
+    estimated_time INT,
+    difficulty VARCHAR(20),
+    tags VARCHAR(255),
+    metadata JSON,
+    CONSTRAINT pk_content_blocks PRIMARY KEY (id),
+    CONSTRAINT fk_content_blocks_section FOREIGN KEY (section_id) REFERENCES learning_sections (id)
+);
+
+CREATE TABLE quiz_questions (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    question TEXT NOT NULL,
+    question_type VARCHAR(255) NOT NULL,
+    options JSON,
+    correct_answer TEXT,
+    explanation TEXT,
+    points INT,
+    difficulty VARCHAR(20),
+    hints JSON,
+    order_index INT,
+    module_id BIGINT,
+    section_id BIGINT,
+    CONSTRAINT pk_quiz_questions PRIMARY KEY (id),
+    CONSTRAINT fk_quiz_questions_module FOREIGN KEY (module_id) REFERENCES learning_modules (id),
+    CONSTRAINT fk_quiz_questions_section FOREIGN KEY (section_id) REFERENCES learning_sections (id)
+);
+
+CREATE TABLE student_progress (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    student_id BIGINT NOT NULL,
+    module_id BIGINT NOT NULL,
+    current_section INT,
+    completed_objectives JSON,
+    quiz_scores JSON,
+    time_spent INT,
+    last_accessed DATETIME(6),
+    notes JSON,
+    bookmarks JSON,
+    completion_percentage DOUBLE,
+    is_completed BOOLEAN,
+    completion_date DATETIME(6),
+    CONSTRAINT pk_student_progress PRIMARY KEY (id),
+    CONSTRAINT uk_student_progress_student_module UNIQUE (student_id, module_id),
+    CONSTRAINT fk_student_progress_student FOREIGN KEY (student_id) REFERENCES users (id),
+    CONSTRAINT fk_student_progress_module FOREIGN KEY (module_id) REFERENCES learning_modules (id)
+);
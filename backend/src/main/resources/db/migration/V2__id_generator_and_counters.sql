@@ -0,0 +1,54 @@
+-- Tables introduced after the V1 baseline. Databases that kept running with
+-- hibernate.ddl-auto=update after these entities were added already have them,
+-- hence IF NOT EXISTS; databases baselined before that get them here.
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    CONSTRAINT pk_id_generator PRIMARY KEY (sequence_name)
+);
+
+CREATE TABLE IF NOT EXISTS aggregate_counters (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    counter_name VARCHAR(100) NOT NULL,
+    counter_value BIGINT NOT NULL,
+    CONSTRAINT pk_aggregate_counters PRIMARY KEY (id),
+    CONSTRAINT uk_aggregate_counters_name UNIQUE (counter_name)
+);
+
+-- Ids come from the pooled id_generator table. Databases created while ids were
+-- IDENTITY columns have rows above the generator's value. The pooled optimizer
+-- hands out (next_val - 49) .. next_val, so move next_val at least one
+-- allocation (50) past the highest existing id.
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'lms_id', 0 FROM (SELECT 1 AS seed) seed_row
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'lms_id');
+
+UPDATE id_generator SET next_val = GREATEST(next_val, (
+    SELECT COALESCE(MAX(max_id), 0) + 51 FROM (
+        SELECT MAX(id) AS max_id FROM users
+        UNION ALL SELECT MAX(id) FROM courses
+        UNION ALL SELECT MAX(id) FROM course_content
+        UNION ALL SELECT MAX(id) FROM enrollments
+        UNION ALL SELECT MAX(id) FROM progress
+        UNION ALL SELECT MAX(id) FROM student_progress
+        UNION ALL SELECT MAX(id) FROM assessments
+        UNION ALL SELECT MAX(id) FROM questions
+        UNION ALL SELECT MAX(id) FROM question_options
+        UNION ALL SELECT MAX(id) FROM assessment_attempts
+        UNION ALL SELECT MAX(id) FROM student_answers
+        UNION ALL SELECT MAX(id) FROM learning_paths
+        UNION ALL SELECT MAX(id) FROM learning_path_enrollments
+        UNION ALL SELECT MAX(id) FROM learning_modules
+        UNION ALL SELECT MAX(id) FROM learning_objectives
+        UNION ALL SELECT MAX(id) FROM learning_resources
+        UNION ALL SELECT MAX(id) FROM learning_sections
+        UNION ALL SELECT MAX(id) FROM content_blocks
+        UNION ALL SELECT MAX(id) FROM quiz_questions
+        UNION ALL SELECT MAX(id) FROM aggregate_counters
+    ) existing_ids
+))
+WHERE sequence_name = 'lms_id';
@@ -0,0 +1,61 @@
+-- Composite indexes for the repository methods on hot paths. Each index leads
+-- with the equality predicates and ends with the sort column, so lookups are
+-- range scans that return rows already in order. Index names are unique
+-- schema-wide because H2 requires it.
+-- SchemaIndexPlanTest runs EXPLAIN on each query listed here and fails on a
+-- full table scan.
+
+-- users: findByEmail uses uk_users_email; findByGoogleId, findByRole
+CREATE INDEX idx_users_google_id ON users (google_id);
+CREATE INDEX idx_users_role ON users (role);
+
+-- courses: findSummariesByStatus/countByStatus, findFeaturedSummariesByStatus,
+-- findByInstructor/findByInstructorAndStatus, findByCategory
+CREATE INDEX idx_courses_status_featured ON courses (status, is_featured);
+CREATE INDEX idx_courses_instructor_status ON courses (instructor_id, status);
+CREATE INDEX idx_courses_category ON courses (category);
+
+-- course_content: findByCourseOrderByOrderIndex and the Course.contents order
+CREATE INDEX idx_course_content_course_order ON course_content (course_id, order_index);
+
+-- enrollments: findByStudentAndCourse/existsByStudentAndCourse/findByStudent,
+-- findByCourseAndStatus/countByCourseAndStatusNot/statistics by course,
+-- findByCourseOrderByIdAsc (keyset scroll), findByStatus/countByStatus
+CREATE INDEX idx_enrollments_student_course ON enrollments (student_id, course_id);
+CREATE INDEX idx_enrollments_course_status ON enrollments (course_id, status);
+CREATE INDEX idx_enrollments_course_id ON enrollments (course_id, id);
+CREATE INDEX idx_enrollments_status ON enrollments (status);
+
+-- student_progress: the (student_id, module_id) unique key from V1 serves the
+-- upsert, findByStudentAndModule and findByStudent; findByModuleOrderByIdAsc;
+-- findByLastAccessedBetween, the daily histogram and the date-range export
+CREATE INDEX idx_student_progress_module_id ON student_progress (module_id, id);
+CREATE INDEX idx_student_progress_last_accessed ON student_progress (last_accessed);
+
+-- progress: findByUserAndCourseAndContent, findByUserAndCourse, findByUser
+CREATE INDEX idx_progress_user_course_content ON progress (user_id, course_id, content_id);
+
+-- assessments: findActiveAssessmentsForCourse, findByCourseAndIsActive
+CREATE INDEX idx_assessments_course_active ON assessments (course_id, is_active);
+
+-- questions / options in display order
+CREATE INDEX idx_questions_assessment_order ON questions (assessment_id, order_index);
+CREATE INDEX idx_question_options_question_order ON question_options (question_id, order_index);
+
+-- attempts per student and assessment
+CREATE INDEX idx_assessment_attempts_student_assessment ON assessment_attempts (student_id, assessment_id);
+
+-- learning_modules: findDistinctSubjects/findDistinctLevels read the index only;
+-- findByCreatedBy and its published variant
+CREATE INDEX idx_learning_modules_published_subject ON learning_modules (is_published, subject);
+CREATE INDEX idx_learning_modules_published_level ON learning_modules (is_published, level);
+CREATE INDEX idx_learning_modules_creator_published ON learning_modules (created_by, is_published);
+
+-- module outline in display order: findByModuleOrderByOrderIndex,
+-- findBySectionOrderByOrderIndex
+CREATE INDEX idx_learning_sections_module_order ON learning_sections (module_id, order_index);
+CREATE INDEX idx_learning_objectives_module_order ON learning_objectives (module_id, order_index);
+CREATE INDEX idx_content_blocks_section_order ON content_blocks (section_id, order_index);
+
+-- learning path enrollments per user and path
+CREATE INDEX idx_learning_path_enrollments_user_path ON learning_path_enrollments (user_id, learning_path_id);
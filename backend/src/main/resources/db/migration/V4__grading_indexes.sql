@@ -0,0 +1,7 @@
+-- Indexes for bulk grading.
+
+-- assessment_attempts: findUngradedSubmittedIds and findSubmittedIds
+CREATE INDEX idx_assessment_attempts_assessment_status ON assessment_attempts (assessment_id, status, id);
+
+-- student_answers: findAnswerRowsByAttemptIds
+CREATE INDEX idx_student_answers_attempt_question ON student_answers (attempt_id, question_id);
@@ -0,0 +1,4 @@
+-- Indexes for assessment delivery snapshots.
+
+-- assessments: findActiveIdsStartingBetween, polled by the snapshot prewarm job
+CREATE INDEX idx_assessments_active_start ON assessments (is_active, start_date);
@@ -0,0 +1,15 @@
+-- Append-only journal of autosaved answers for in-progress attempts. Rows are
+-- compacted into student_answers when the attempt is submitted and then deleted.
+CREATE TABLE attempt_answer_journal (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    attempt_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    selected_option_ids VARCHAR(1400),
+    answer_text TEXT,
+    saved_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_attempt_answer_journal PRIMARY KEY (id),
+    CONSTRAINT fk_attempt_answer_journal_attempt FOREIGN KEY (attempt_id) REFERENCES assessment_attempts (id)
+);
+
+-- findLatestJournalEntries and deleteJournal
+CREATE INDEX idx_attempt_answer_journal_attempt_question ON attempt_answer_journal (attempt_id, question_id, id);
@@ -0,0 +1,8 @@
+-- Durable seat reservations for courses with a seat limit. Admission increments
+-- reserved_seats with a conditional UPDATE in a short transaction of its own, so
+-- every node sees the same count; a rolled-back enrollment releases its seat again.
+ALTER TABLE courses ADD COLUMN reserved_seats INT DEFAULT 0 NOT NULL;
+
+UPDATE courses SET reserved_seats = (
+    SELECT COUNT(*) FROM enrollments e WHERE e.course_id = courses.id AND e.status <> 'DROPPED'
+);
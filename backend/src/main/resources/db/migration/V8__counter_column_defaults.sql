@@ -0,0 +1,5 @@
+-- Enrollment and completion counters are only written by atomic UPDATE deltas; the
+-- entities no longer insert them, so new rows take their starting value from here.
+ALTER TABLE courses ALTER COLUMN enrollment_count SET DEFAULT 0;
+ALTER TABLE learning_paths ALTER COLUMN enrollment_count SET DEFAULT 0;
+ALTER TABLE learning_paths ALTER COLUMN completion_count SET DEFAULT 0;
@@ -0,0 +1,7 @@
+-- assessment_attempts: findUngradedSubmittedIds filters on score IS NULL, which
+-- idx_assessment_attempts_assessment_status (assessment_id, status, id) cannot
+-- answer, so every submitted attempt was read from the table to check its score.
+-- This index serves the query without touching the table rows, and also covers
+-- findScoredAttempts. The older index stays because it returns findSubmittedIds
+-- already in id order.
+CREATE INDEX idx_assessment_attempts_assessment_status_score ON assessment_attempts (assessment_id, status, score, id);
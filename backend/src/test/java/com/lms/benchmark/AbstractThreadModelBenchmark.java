@@ -0,0 +1,222 @@
+package com.lms.benchmark;
+
+import com.lms.entity.Course;
+import com.lms.entity.LearningModule;
+import com.lms.entity.StudentProgress;
+import com.lms.entity.User;
+import com.lms.enums.CourseStatus;
+import com.lms.enums.Role;
+import com.lms.repository.CourseRepository;
+import com.lms.repository.LearningModuleRepository;
+import com.lms.repository.StudentProgressRepository;
+import com.lms.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput and p99 latency of /courses and /progress reads under concurrent load,
+ * run once per thread model by the concrete subclasses. Every pooled connection is
+ * held for {@link #JDBC_LATENCY_MILLIS} to stand in for MySQL round trips, so the
+ * numbers reflect blocking JDBC waits rather than H2 speed.
+ *
+ * Run with: mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=none
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(AbstractThreadModelBenchmark.BenchmarkConfig.class)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:thread-model-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "lms.datasource.pool.maximum-size=10",
+    // Queueing for a connection shows up as latency instead of timed-out requests
+    "lms.datasource.pool.connection-timeout=PT60S",
+    "lms.threads.db-admission.timeout=PT60S",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=false",
+    "logging.level.com.lms=INFO",
+    "logging.level.org.springframework.security=INFO",
+    "logging.level.org.springframework.web=INFO"
+})
+abstract class AbstractThreadModelBenchmark {
+
+    static final String STUDENT_EMAIL = "bench.student@test.com";
+    static final long JDBC_LATENCY_MILLIS = 5;
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class BenchmarkConfig {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        SecurityFilterChain benchmarkSecurityFilterChain(HttpSecurity http) throws Exception {
+            // Every request runs as the seeded student; authentication is not what is measured.
+            // An anonymous principal would not do: controllers get a null Authentication for it.
+            Authentication student = UsernamePasswordAuthenticationToken.authenticated(
+                    STUDENT_EMAIL, null, List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+            return http
+                    .csrf(csrf -> csrf.disable())
+                    .authorizeHttpRequests(authz -> authz.anyRequest().permitAll())
+                    .addFilterBefore((request, response, chain) -> {
+                        SecurityContextHolder.getContext().setAuthentication(student);
+                        chain.doFilter(request, response);
+                    }, AuthorizationFilter.class)
+                    .build();
+        }
+
+        @Bean
+        static BeanPostProcessor jdbcLatency() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            Connection connection = super.getConnection();
+                            try {
+                                Thread.sleep(JDBC_LATENCY_MILLIS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return connection;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LearningModuleRepository learningModuleRepository;
+
+    @Autowired
+    private StudentProgressRepository studentProgressRepository;
+
+    /**
+     * Thread model label used in the report
+     */
+    abstract String mode();
+
+    @Test
+    void courseAndProgressReads() throws Exception {
+        User student = userRepository.save(new User("Bench", "Student", STUDENT_EMAIL, Role.STUDENT));
+        User instructor = userRepository.save(new User("Bench", "Instructor", "bench.instructor@test.com", Role.INSTRUCTOR));
+        for (int i = 0; i < 20; i++) {
+            Course course = new Course("Benchmark course " + i, "Description", instructor);
+            course.setStatus(CourseStatus.PUBLISHED);
+            courseRepository.save(course);
+        }
+        LearningModule module = new LearningModule("Benchmark module", "Description", instructor);
+        module.setEstimatedDuration(60);
+        module.setIsPublished(true);
+        module = learningModuleRepository.save(module);
+        studentProgressRepository.save(new StudentProgress(student, module));
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String[] paths = {"/api/courses/published", "/api/progress/module/" + module.getId()};
+        for (String path : paths) {
+            load(client, path, WARMUP_REQUESTS_PER_CLIENT);
+        }
+        for (String path : paths) {
+            Result result = load(client, path, REQUESTS_PER_CLIENT);
+            System.out.printf("Thread model %s: GET %s %.0f req/s, p99 %.1f ms, %d non-2xx of %d%n",
+                    mode(), path, result.throughput, result.p99Millis, result.failures, result.requests);
+            // Error responses are cheap and would flatter the numbers
+            assertEquals(0, result.failures, "non-2xx responses from " + path);
+        }
+    }
+
+    private Result load(HttpClient client, String path, int requestsPerClient) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+            long start = System.nanoTime();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[i] = System.nanoTime() - sent;
+                        if (response.statusCode() / 100 != 2) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+
+            long[] all = new long[CLIENTS * requestsPerClient];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(all);
+            double p99Millis = all[(int) Math.ceil(all.length * 0.99) - 1] / 1_000_000.0;
+            return new Result(all.length, failures.get(), all.length / (elapsed / 1_000_000_000.0), p99Millis);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private record Result(int requests, int failures, double throughput, double p99Millis) {
+    }
+}
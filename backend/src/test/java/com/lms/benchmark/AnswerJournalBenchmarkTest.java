@@ -0,0 +1,144 @@
+package com.lms.benchmark;
+
+import com.lms.repository.AnswerJournalEntry;
+import com.lms.repository.AnswerJournalRepositoryImpl;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.service.impl.AnswerJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Autosaves/sec on one node: one journal INSERT per autosave in its own transaction
+ * (the cost of writing every answer change straight to the database) versus the
+ * coalescing answer journal flushed in batches every 100 ms.
+ * 
+ * Run with: mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=none
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+class AnswerJournalBenchmarkTest {
+
+    private static final int CLIENT_THREADS = 8;
+    private static final int ATTEMPTS = 500;
+    private static final int QUESTIONS = 40;
+    private static final long RUN_MILLIS = 3_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private AnswerJournalRepositoryImpl journalRepository;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:journal-benchmark-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, created_at, first_name, last_name, email, role, is_active) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Bench', 'Mark', 'bench@test.com', 'STUDENT', TRUE)");
+        jdbcTemplate.update("INSERT INTO courses (id, created_at, title, instructor_id, status, is_featured, " +
+                "enrollment_count, review_count) VALUES (1, CURRENT_TIMESTAMP, 'Course', 1, 'PUBLISHED', FALSE, 0, 0)");
+        jdbcTemplate.update("INSERT INTO assessments (id, created_at, title, course_id, is_active) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Quiz', 1, TRUE)");
+        List<Object[]> attempts = new ArrayList<>(ATTEMPTS);
+        for (long attemptId = 1; attemptId <= ATTEMPTS; attemptId++) {
+            attempts.add(new Object[] {attemptId, attemptId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO assessment_attempts (id, created_at, assessment_id, student_id, " +
+                "attempt_number, started_at, status) VALUES (?, CURRENT_TIMESTAMP, 1, 1, ?, CURRENT_TIMESTAMP, " +
+                "'IN_PROGRESS')", attempts);
+        journalRepository = new AnswerJournalRepositoryImpl(jdbcTemplate);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void autosavesPerSecond() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        double direct = run(entry -> transactionTemplate.executeWithoutResult(
+                status -> journalRepository.appendJournal(List.of(entry))));
+        long directRows = rows();
+        jdbcTemplate.update("DELETE FROM attempt_answer_journal");
+
+        StudentAnswerRepository answerRepository = mock(StudentAnswerRepository.class, delegatesTo(journalRepository));
+        AnswerJournal journal = new AnswerJournal(answerRepository, transactionManager, new SimpleMeterRegistry(),
+                100_000, 500, Duration.ofHours(6));
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(journal::flush, 100, 100, TimeUnit.MILLISECONDS);
+        double buffered;
+        try {
+            buffered = run(journal::record);
+        } finally {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        journal.shutdown();
+        long bufferedRows = rows();
+
+        System.out.printf("Autosaves: direct %.0f/s (%d rows), journal %.0f/s (%d rows, x%.1f)%n",
+                direct, directRows, buffered, bufferedRows, buffered / direct);
+        assertTrue(bufferedRows > 0);
+    }
+
+    private double run(Consumer<AnswerJournalEntry> autosave) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+        List<Future<Long>> counts = new ArrayList<>();
+        for (int i = 0; i < CLIENT_THREADS; i++) {
+            counts.add(clients.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long saved = 0;
+                while (System.nanoTime() < deadline) {
+                    long attemptId = random.nextInt(ATTEMPTS) + 1;
+                    long questionId = random.nextInt(QUESTIONS) + 1;
+                    autosave.accept(new AnswerJournalEntry(attemptId, questionId, List.of(),
+                            "draft " + saved, LocalDateTime.now()));
+                    saved++;
+                }
+                return saved;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> count : counts) {
+            total += count.get();
+        }
+        clients.shutdown();
+        return total * 1000.0 / RUN_MILLIS;
+    }
+
+    private long rows() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attempt_answer_journal", Long.class);
+        return count != null ? count : 0L;
+    }
+}
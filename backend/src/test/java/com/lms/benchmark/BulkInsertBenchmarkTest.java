@@ -0,0 +1,95 @@
+package com.lms.benchmark;
+
+import com.lms.entity.LearningModule;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.repository.UserRepository;
+import com.lms.service.LearningModuleService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Inserts/sec for bulk module creation with one INSERT per row (the behaviour under
+ * IDENTITY ids) versus Hibernate JDBC batching with pooled ids.
+ * 
+ * Run with: mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=none
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:benchmark",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false"
+})
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private LearningModuleService learningModuleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bulkModuleInserts() {
+        User creator = userRepository.save(new User("Bench", "Mark", "bench@test.com", Role.INSTRUCTOR));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Warm up both paths before measuring
+        run(transactionTemplate, creator, 1, 2_000);
+        run(transactionTemplate, creator, 50, 2_000);
+
+        double unbatched = 0;
+        double batched = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            unbatched = Math.max(unbatched, run(transactionTemplate, creator, 1, ROWS));
+            batched = Math.max(batched, run(transactionTemplate, creator, 50, ROWS));
+        }
+
+        System.out.printf("Bulk module inserts: one statement per row %.0f rows/s, batched %.0f rows/s (x%.1f)%n",
+                unbatched, batched, batched / unbatched);
+    }
+
+    private double run(TransactionTemplate transactionTemplate, User creator, int jdbcBatchSize, int rows) {
+        List<LearningModule> modules = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LearningModule module = new LearningModule("Module " + i, "Benchmark module", creator);
+            module.setSubject("Benchmark");
+            modules.add(module);
+        }
+
+        long start = System.nanoTime();
+        List<LearningModule> created = transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            return learningModuleService.createModules(modules);
+        });
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(rows, created.size());
+        return rows / (elapsed / 1_000_000_000.0);
+    }
+}
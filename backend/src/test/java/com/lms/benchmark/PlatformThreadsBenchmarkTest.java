@@ -0,0 +1,18 @@
+package com.lms.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Thread model benchmark on Tomcat's platform worker pool
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsBenchmarkTest extends AbstractThreadModelBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
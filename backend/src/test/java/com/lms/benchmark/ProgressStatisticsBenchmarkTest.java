@@ -0,0 +1,143 @@
+package com.lms.benchmark;
+
+import com.lms.entity.LearningModule;
+import com.lms.entity.StudentProgress;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.repository.StudentProgressRepository;
+import com.lms.repository.projection.ProgressStatisticsView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latency of an instructor's progress statistics: loading every progress entity and
+ * aggregating in Java (the previous implementation) versus the single aggregate query
+ * behind StudentProgressService.getProgressStatistics.
+ *
+ * Run with: mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=none
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statistics-benchmark",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false"
+})
+class ProgressStatisticsBenchmarkTest {
+
+    private static final int MODULES = 20;
+    private static final int STUDENTS = 2_000;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private StudentProgressRepository studentProgressRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void instructorProgressStatistics() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User instructor = transactionTemplate.execute(status -> seed());
+        transactionTemplate.setReadOnly(true);
+
+        // Warm up both paths, and check they agree, before measuring
+        long expected = (long) MODULES * STUDENTS;
+        assertEquals(expected, time(transactionTemplate, () -> aggregateInJava(instructor)).records);
+        assertEquals(expected, time(transactionTemplate, () -> aggregateInDatabase(instructor)).records);
+
+        long inJava = Long.MAX_VALUE;
+        long inDatabase = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            inJava = Math.min(inJava, time(transactionTemplate, () -> aggregateInJava(instructor)).nanos);
+            inDatabase = Math.min(inDatabase, time(transactionTemplate, () -> aggregateInDatabase(instructor)).nanos);
+        }
+
+        System.out.printf("Instructor statistics over %d progress rows: entities + Java %.1f ms, SQL aggregate %.1f ms (x%.1f)%n",
+                expected, inJava / 1_000_000.0, inDatabase / 1_000_000.0, (double) inJava / inDatabase);
+    }
+
+    private User seed() {
+        User instructor = new User("Bench", "Mark", "bench@test.com", Role.INSTRUCTOR);
+        entityManager.persist(instructor);
+        List<LearningModule> modules = new ArrayList<>(MODULES);
+        for (int m = 0; m < MODULES; m++) {
+            LearningModule module = new LearningModule("Module " + m, "Benchmark module", instructor);
+            module.setEstimatedDuration(60);
+            module.setIsPublished(true);
+            entityManager.persist(module);
+            modules.add(module);
+        }
+        for (int s = 0; s < STUDENTS; s++) {
+            User student = new User("Student", "No" + s, "student" + s + "@test.com", Role.STUDENT);
+            entityManager.persist(student);
+            for (LearningModule module : modules) {
+                StudentProgress progress = new StudentProgress(student, module);
+                progress.setCompletionPercentage((double) ((s * 7 + module.getId()) % 101));
+                progress.setIsCompleted(progress.getCompletionPercentage() == 100.0);
+                entityManager.persist(progress);
+            }
+            if (s % 50 == 49) {
+                entityManager.flush();
+                entityManager.clear();
+                modules.replaceAll(module -> entityManager.getReference(LearningModule.class, module.getId()));
+            }
+        }
+        entityManager.flush();
+        return instructor;
+    }
+
+    private long aggregateInJava(User instructor) {
+        List<StudentProgress> rows = studentProgressRepository.findByInstructor(instructor);
+        long students = rows.stream().map(p -> p.getStudent().getId()).distinct().count();
+        long completed = rows.stream().filter(p -> Boolean.TRUE.equals(p.getIsCompleted())).count();
+        double average = rows.stream().mapToDouble(StudentProgress::getCompletionPercentage).average().orElse(0.0);
+        assertEquals(STUDENTS, students);
+        return completed >= 0 && average >= 0 ? rows.size() : -1;
+    }
+
+    private long aggregateInDatabase(User instructor) {
+        ProgressStatisticsView statistics = studentProgressRepository.findStatisticsByInstructor(instructor);
+        assertEquals(STUDENTS, statistics.getTotalStudents());
+        return statistics.getTotalProgressRecords();
+    }
+
+    private Timing time(TransactionTemplate transactionTemplate, Supplier<Long> query) {
+        long start = System.nanoTime();
+        Long records = transactionTemplate.execute(status -> {
+            Long result = query.get();
+            entityManager.clear();
+            return result;
+        });
+        return new Timing(records, System.nanoTime() - start);
+    }
+
+    private static final class Timing {
+        private final long records;
+        private final long nanos;
+
+        private Timing(long records, long nanos) {
+            this.records = records;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.lms.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Thread model benchmark with virtual threads and the database admission guard
+ *
+ * @author LMS Team
+ * @version 1.0
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsBenchmarkTest extends AbstractThreadModelBenchmark {
+
+    @BeforeAll
+    static void requireVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need a Java 21 runtime");
+    }
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
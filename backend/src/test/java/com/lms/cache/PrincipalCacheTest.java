@@ -0,0 +1,44 @@
+package com.lms.cache;
+
+import com.lms.dto.PrincipalView;
+import com.lms.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new SimpleMeterRegistry(), 2, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void evict_ShouldDropViewButKeepSubjectMapping() {
+        principalCache.put("google-1", view(1L));
+
+        principalCache.evict(1L);
+
+        assertTrue(principalCache.getBySubject("google-1").isEmpty());
+        assertEquals(1L, principalCache.getUserId("google-1"));
+    }
+
+    @Test
+    void put_ShouldRespectMaxSize() {
+        principalCache.put("google-1", view(1L));
+        principalCache.put("google-2", view(2L));
+        principalCache.put("google-3", view(3L));
+
+        assertEquals(2, principalCache.size());
+    }
+
+    private static PrincipalView view(Long id) {
+        return new PrincipalView(id, "user" + id + "@test.com", "Test", "User", Role.STUDENT, true);
+    }
+}
@@ -0,0 +1,107 @@
+package com.lms.cache;
+
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(meterRegistry, 2, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    private Optional<User> load(String email) {
+        loads.incrementAndGet();
+        User user = new User("John", "Doe", email, Role.STUDENT);
+        user.setId((long) email.hashCode());
+        return Optional.of(user);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromCache() {
+        userCache.get("john@test.com", this::load);
+        userCache.get("john@test.com", this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("lms.cache.user.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("lms.cache.user.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_ShouldNotCacheMissingUsers() {
+        userCache.get("ghost@test.com", email -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(0, userCache.size());
+    }
+
+    @Test
+    void evict_ShouldForceReload() {
+        userCache.get("john@test.com", this::load);
+        userCache.evict("john@test.com");
+        userCache.get("john@test.com", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictById_ShouldRemoveMatchingEntries() {
+        User user = userCache.get("john@test.com", this::load).orElseThrow();
+        userCache.evictById(user.getId());
+
+        assertEquals(0, userCache.size());
+    }
+
+    @Test
+    void put_ShouldRespectMaxSize() {
+        userCache.get("a@test.com", this::load);
+        userCache.get("b@test.com", this::load);
+        userCache.get("c@test.com", this::load);
+
+        assertEquals(2, userCache.size());
+    }
+
+    @Test
+    void get_ShouldReloadExpiredEntries() {
+        UserCache shortLived = new UserCache(meterRegistry, 10, Duration.ZERO);
+        shortLived.get("john@test.com", this::load);
+        shortLived.get("john@test.com", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldServeCopiesWithoutPasswordHash() {
+        userCache.get("john@test.com", email -> {
+            User user = load(email).orElseThrow();
+            user.setPassword("$2a$10$hash");
+            return Optional.of(user);
+        });
+
+        User first = userCache.get("john@test.com", this::load).orElseThrow();
+        first.setActive(false);
+        User second = userCache.get("john@test.com", this::load).orElseThrow();
+
+        assertNotSame(first, second);
+        assertNull(second.getPassword());
+        assertEquals(Boolean.TRUE, second.isActive());
+        assertEquals("john@test.com", second.getEmail());
+    }
+}
@@ -0,0 +1,78 @@
+package com.lms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceSettingsValidatorTest {
+
+    private static final String MYSQL_URL = "jdbc:mysql://localhost:3306/lms_db?useSSL=false";
+
+    private HikariDataSource dataSource;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        // Never started: the validator only reads configuration
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL_URL);
+        environment = new MockEnvironment()
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void findSlowSettings_ShouldBeEmptyForTunedDefaults() {
+        DataSourceTuningConfig.apply(new DataSourceTuningProperties(), dataSource);
+
+        List<String> warnings = new DataSourceSettingsValidator(environment, dataSource).findSlowSettings();
+
+        assertEquals(List.of(), warnings);
+    }
+
+    @Test
+    void findSlowSettings_ShouldFlagStatementInflationAndMissingDriverCaches() {
+        environment.withProperty("spring.jpa.properties.hibernate.use_sql_comments", "true")
+                .withProperty("spring.jpa.show-sql", "true")
+                .withProperty("spring.jpa.properties.hibernate.format_sql", "true");
+        dataSource.setMaximumPoolSize(100);
+        dataSource.setMinimumIdle(5);
+
+        List<String> warnings = new DataSourceSettingsValidator(environment, dataSource).findSlowSettings();
+
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("hibernate.use_sql_comments")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("spring.jpa.show-sql")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("hibernate.format_sql")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("maximum pool size 100")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("minimum idle 5")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("cachePrepStmts")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("useServerPrepStmts")));
+        assertTrue(warnings.stream().anyMatch(w -> w.startsWith("rewriteBatchedStatements")));
+    }
+
+    @Test
+    void driverProperties_ShouldLetUrlParametersWin() {
+        Properties poolProperties = new Properties();
+        poolProperties.setProperty("cachePrepStmts", "true");
+        poolProperties.setProperty("prepStmtCacheSize", "250");
+
+        Map<String, String> properties = DataSourceSettingsValidator.driverProperties(
+                MYSQL_URL + "&cachePrepStmts=false", poolProperties);
+
+        assertEquals("false", properties.get("cachePrepStmts"));
+        assertEquals("250", properties.get("prepStmtCacheSize"));
+        assertEquals("false", properties.get("useSSL"));
+    }
+}
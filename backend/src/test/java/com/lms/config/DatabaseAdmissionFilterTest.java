@@ -0,0 +1,67 @@
+package com.lms.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseAdmissionFilterTest {
+
+    private DatabaseAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new DatabaseAdmissionFilter(1, Duration.ofMillis(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void doFilter_ShouldHoldPermitWhileHandlerRuns() throws Exception {
+        AtomicInteger activeInHandler = new AtomicInteger();
+
+        filter.doFilter(request(), new MockHttpServletResponse(),
+                (req, res) -> activeInHandler.set(filter.getActiveRequests()));
+
+        assertEquals(1, activeInHandler.get());
+        assertEquals(0, filter.getActiveRequests());
+    }
+
+    @Test
+    void doFilter_ShouldHoldPermitWhileBodyIsWritten() throws Exception {
+        AtomicInteger activeWhileWriting = new AtomicInteger(-1);
+        FilterChain chain = (req, res) -> {
+            res.getOutputStream().write('x');
+            res.flushBuffer();
+            activeWhileWriting.set(filter.getActiveRequests());
+        };
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertEquals(1, activeWhileWriting.get());
+        assertEquals(0, filter.getActiveRequests());
+    }
+
+    @Test
+    void doFilter_ShouldRejectWhenNoPermitIsFree() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        filter.doFilter(request(), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(request(), rejected, (innerReq, innerRes) -> fail("admitted")));
+
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses");
+        request.setServletPath("/courses");
+        return request;
+    }
+}
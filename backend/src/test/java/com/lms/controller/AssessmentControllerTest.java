@@ -0,0 +1,111 @@
+package com.lms.controller;
+
+import com.lms.delivery.DeliverySnapshot;
+import com.lms.delivery.DeliverySnapshotService;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.grading.AnswerKeyService;
+import com.lms.grading.GradingEngine;
+import com.lms.grading.ItemAnalysis;
+import com.lms.service.AssessmentAttemptService;
+import com.lms.service.EnrollmentService;
+import com.lms.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AssessmentController.class)
+class AssessmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GradingEngine gradingEngine;
+
+    @MockBean
+    private AnswerKeyService answerKeyService;
+
+    @MockBean
+    private ItemAnalysis itemAnalysis;
+
+    @MockBean
+    private DeliverySnapshotService deliverySnapshotService;
+
+    @MockBean
+    private AssessmentAttemptService attemptService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private EnrollmentService enrollmentService;
+
+    private User student;
+
+    @BeforeEach
+    void setUp() {
+        student = new User("Ada", "Lovelace", "ada@test.com", Role.STUDENT);
+        student.setId(5L);
+        when(userService.findByEmail("ada@test.com")).thenReturn(Optional.of(student));
+    }
+
+    @Test
+    @WithMockUser(username = "ada@test.com")
+    void checkAnswer_ShouldForbidFeedbackDuringAnAttemptAtAnAssessmentThatHidesIt() throws Exception {
+        when(attemptService.allowsFeedback(1L, 7L, student)).thenReturn(false);
+
+        mockMvc.perform(post("/assessments/7/questions/10/feedback")
+                .param("attemptId", "1")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"selectedOptionIds\":[101]}"))
+                .andExpect(status().isForbidden());
+
+        verify(answerKeyService, never()).check(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "ada@test.com")
+    void getDelivery_ShouldForbidStudentsNotEnrolledInTheCourse() throws Exception {
+        when(deliverySnapshotService.getOpenSnapshot(7L)).thenReturn(snapshot());
+        when(enrollmentService.isStudentEnrolled(5L, 2L)).thenReturn(false);
+
+        mockMvc.perform(get("/assessments/7/delivery"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "ada@test.com")
+    void getDelivery_ShouldServeEnrolledStudents() throws Exception {
+        when(deliverySnapshotService.getOpenSnapshot(7L)).thenReturn(snapshot());
+        when(enrollmentService.isStudentEnrolled(5L, 2L)).thenReturn(true);
+
+        mockMvc.perform(get("/assessments/7/delivery"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(content().string("{}"));
+    }
+
+    private DeliverySnapshot snapshot() {
+        return new DeliverySnapshot(7L, 2L, 3L, true, null, null,
+                "{}".getBytes(StandardCharsets.UTF_8), "\"abc\"");
+    }
+}
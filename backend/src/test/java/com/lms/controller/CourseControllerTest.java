@@ -1,6 +1,8 @@
 package com.lms.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.dto.CourseDetailDTO;
+import com.lms.dto.CourseSummaryDTO;
 import com.lms.entity.Course;
 import com.lms.entity.User;
 import com.lms.enums.CourseStatus;
@@ -20,10 +22,14 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -60,6 +66,8 @@ class CourseControllerTest {
         testCourse.setId(1L);
         testCourse.setTitle("Test Course");
         testCourse.setDescription("Test Description");
+        testCourse.setCategory("Programming");
+        testCourse.setLevel("Beginner");
         testCourse.setInstructor(testInstructor);
         testCourse.setStatus(CourseStatus.PUBLISHED);
     }
@@ -67,19 +75,40 @@ class CourseControllerTest {
     @Test
     @WithMockUser
     void getAllCourses_ShouldReturnPageOfCourses() throws Exception {
-        Page<Course> coursePage = new PageImpl<>(Arrays.asList(testCourse));
+        Page<CourseSummaryDTO> coursePage = new PageImpl<>(Arrays.asList(CourseSummaryDTO.from(testCourse)), PageRequest.of(0, 10), 1);
         when(courseService.getAllCourses(any())).thenReturn(coursePage);
 
         mockMvc.perform(get("/courses"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content[0].title").value("Test Course"));
+                .andExpect(jsonPath("$.content[0].title").value("Test Course"))
+                .andExpect(jsonPath("$.content[0].instructorName").value("John Instructor"));
+    }
+
+    @Test
+    @WithMockUser
+    void getPublishedCourses_ShouldReturnOnlyCardFields() throws Exception {
+        testInstructor.setPassword("secret-hash");
+        Page<CourseSummaryDTO> coursePage = new PageImpl<>(Arrays.asList(CourseSummaryDTO.from(testCourse)), PageRequest.of(0, 10), 1);
+        when(courseService.getCoursesByStatus(eq(CourseStatus.PUBLISHED), any())).thenReturn(coursePage);
+
+        String body = mockMvc.perform(get("/courses/published"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].instructor").doesNotExist())
+                .andExpect(jsonPath("$.content[0].enrollments").doesNotExist())
+                .andExpect(jsonPath("$.content[0].contents").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        assertFalse(body.contains("secret-hash"));
+        // One card should stay well below a kilobyte of JSON
+        String card = objectMapper.writeValueAsString(CourseSummaryDTO.from(testCourse));
+        assertTrue(card.length() < 1024, "Course card is " + card.length() + " bytes");
     }
 
     @Test
     @WithMockUser
     void getCourseById_ShouldReturnCourse_WhenCourseExists() throws Exception {
-        when(courseService.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(courseService.getCourseDetail(1L)).thenReturn(Optional.of(CourseDetailDTO.from(testCourse, List.of())));
 
         mockMvc.perform(get("/courses/1"))
                 .andExpect(status().isOk())
@@ -89,7 +118,7 @@ class CourseControllerTest {
     @Test
     @WithMockUser
     void getCourseById_ShouldReturnNotFound_WhenCourseDoesNotExist() throws Exception {
-        when(courseService.findById(1L)).thenReturn(Optional.empty());
+        when(courseService.getCourseDetail(1L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/courses/1"))
                 .andExpect(status().isNotFound());
@@ -0,0 +1,133 @@
+package com.lms.delivery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.entity.Assessment;
+import com.lms.entity.Course;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.exception.ResourceNotFoundException;
+import com.lms.repository.AssessmentRepository;
+import com.lms.repository.QuestionRepository;
+import com.lms.repository.projection.DeliveryRowView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliverySnapshotServiceTest {
+
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private AssessmentRepository assessmentRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    private DeliverySnapshotCache snapshotCache;
+    private DeliverySnapshotService service;
+    private Assessment assessment;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new DeliverySnapshotCache(new SimpleMeterRegistry(), Duration.ofMinutes(1));
+        service = new DeliverySnapshotService(assessmentRepository, questionRepository, snapshotCache,
+                new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(10));
+
+        User instructor = new User("Grace", "Hopper", "grace@test.com", Role.INSTRUCTOR);
+        instructor.setId(3L);
+        Course course = new Course("Compilers", "Description", instructor);
+        course.setId(2L);
+        assessment = new Assessment();
+        assessment.setId(1L);
+        assessment.setCourse(course);
+        assessment.setTitle("Midterm");
+        assessment.setTimeLimitMinutes(60);
+        assessment.setStartDate(LocalDateTime.now().minusMinutes(1));
+        assessment.setEndDate(LocalDateTime.now().plusHours(1));
+    }
+
+    @Test
+    void prewarm_ShouldBuildAnswerFreeSnapshotsServedWithoutDatabaseReads() {
+        when(assessmentRepository.findActiveIdsStartingBetween(any(), any())).thenReturn(List.of(1L));
+        when(assessmentRepository.findWithCourseById(1L)).thenReturn(Optional.of(assessment));
+        when(questionRepository.findDeliveryRows(1L)).thenReturn(List.of(
+                row(10L, "Capital of France?", 100L, "Berlin"),
+                row(10L, "Capital of France?", 101L, "Paris")));
+
+        assertEquals(1, service.prewarm());
+        assertEquals(0, service.prewarm());
+
+        DeliverySnapshot first = service.getOpenSnapshot(1L);
+        DeliverySnapshot second = service.getOpenSnapshot(1L);
+
+        assertSame(first, second);
+        verify(assessmentRepository, times(1)).findWithCourseById(1L);
+        verify(questionRepository, times(1)).findDeliveryRows(1L);
+
+        String json = new String(first.getBody(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"optionText\":\"Paris\""));
+        assertFalse(json.contains("orrect"));
+        assertFalse(json.contains("explanation"));
+        assertTrue(first.getETag().startsWith("\"") && first.getETag().endsWith("\""));
+    }
+
+    @Test
+    void getOpenSnapshot_ShouldHideAssessmentsOutsideTheirWindow() {
+        assessment.setStartDate(LocalDateTime.now().plusMinutes(5));
+        when(assessmentRepository.findWithCourseById(1L)).thenReturn(Optional.of(assessment));
+        when(questionRepository.findDeliveryRows(1L)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getOpenSnapshot(1L));
+        // The snapshot stays warm for the opening minute
+        assertTrue(snapshotCache.contains(1L));
+
+        snapshotCache.evict(1L);
+        assertFalse(snapshotCache.contains(1L));
+    }
+
+    @Test
+    void getOpenSnapshot_ShouldRebuildSnapshotsOlderThanTheirTimeToLive() {
+        // Edits on another node never reach this node's eviction hook
+        service = new DeliverySnapshotService(assessmentRepository, questionRepository,
+                new DeliverySnapshotCache(new SimpleMeterRegistry(), Duration.ZERO),
+                new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(10));
+        when(assessmentRepository.findWithCourseById(1L)).thenReturn(Optional.of(assessment));
+        when(questionRepository.findDeliveryRows(1L)).thenReturn(
+                List.of(row(10L, "Capital of France?", 101L, "Paris")),
+                List.of(row(10L, "Capital of Italy?", 101L, "Rome")));
+
+        DeliverySnapshot first = service.getOpenSnapshot(1L);
+        DeliverySnapshot second = service.getOpenSnapshot(1L);
+
+        assertNotEquals(first.getETag(), second.getETag());
+        assertTrue(new String(second.getBody(), StandardCharsets.UTF_8).contains("Rome"));
+    }
+
+    private static DeliveryRowView row(Long questionId, String questionText, Long optionId, String optionText) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("questionId", questionId);
+        values.put("questionText", questionText);
+        values.put("questionType", "MULTIPLE_CHOICE");
+        values.put("points", 1.0);
+        values.put("optionId", optionId);
+        values.put("optionText", optionText);
+        return PROJECTIONS.createProjection(DeliveryRowView.class, values);
+    }
+}
@@ -0,0 +1,53 @@
+package com.lms.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void of_ShouldEncodeLastKeysAndDecodeToForwardPosition() {
+        Window<String> window = Window.from(List.of("a", "b"),
+                index -> ScrollPosition.forward(Map.of("id", 40L + index)), true);
+
+        CursorPage<String> page = CursorPage.of(window);
+
+        assertTrue(page.isHasNext());
+        assertEquals(2, page.getSize());
+        KeysetScrollPosition position = (KeysetScrollPosition) CursorPage.decode(page.getNextCursor());
+        assertEquals(Map.of("id", 41L), position.getKeys());
+        assertEquals(ScrollPosition.Direction.FORWARD, position.getDirection());
+    }
+
+    @Test
+    void of_ShouldOmitCursorOnLastWindow() {
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        assertNull(CursorPage.of(window).getNextCursor());
+    }
+
+    @Test
+    void decode_ShouldStartFromBeginningForBlankCursor() {
+        assertTrue(CursorPage.decode(null).isInitial());
+        assertTrue(CursorPage.decode(" ").isInitial());
+    }
+
+    @Test
+    void decode_ShouldRejectTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode("not*base64"));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.decode("aWQ9eHl6")); // id=xyz
+    }
+
+    @Test
+    void limit_ShouldClampRequestedSize() {
+        assertEquals(1, CursorPage.limit(0).max());
+        assertEquals(CursorPage.MAX_SIZE, CursorPage.limit(10_000).max());
+    }
+}
@@ -0,0 +1,71 @@
+package com.lms.entity;
+
+import com.lms.service.CounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LearningPathCounterListenerTest {
+
+    @Mock
+    private CounterService counterService;
+
+    private LearningPathCounterListener listener;
+    private LearningPathEnrollment enrollment;
+
+    @BeforeEach
+    void setUp() {
+        listener = new LearningPathCounterListener(new StaticListableBeanFactory(
+                Map.of("counterService", counterService)).getBeanProvider(CounterService.class));
+        LearningPath path = new LearningPath();
+        path.setId(3L);
+        enrollment = new LearningPathEnrollment(new User(), path);
+    }
+
+    @Test
+    void onUpdate_ShouldCountTheFirstCompletionOnce() {
+        listener.onUpdate(enrollment);
+        enrollment.updateProgress(100.0);
+        enrollment.complete();
+        listener.onUpdate(enrollment);
+        enrollment.updateProgress(100.0);
+        listener.onUpdate(enrollment);
+
+        verify(counterService, times(1)).addLearningPathCompletions(3L, 1);
+        verify(counterService, never()).addLearningPathEnrollments(anyLong(), anyInt());
+        assertNotNull(enrollment.getCompletionDate());
+    }
+
+    @Test
+    void onEnroll_ShouldCountTheEnrollmentAndAnImmediateCompletion() {
+        enrollment.complete();
+
+        listener.onEnroll(enrollment);
+        listener.onUpdate(enrollment);
+
+        verify(counterService).addLearningPathEnrollments(3L, 1);
+        verify(counterService, times(1)).addLearningPathCompletions(3L, 1);
+    }
+
+    @Test
+    void onRemove_ShouldTakeBackTheEnrollmentAndItsCompletion() {
+        enrollment.complete();
+        listener.onEnroll(enrollment);
+
+        listener.onRemove(enrollment);
+
+        verify(counterService).addLearningPathEnrollments(3L, -1);
+        verify(counterService).addLearningPathCompletions(3L, -1);
+    }
+}
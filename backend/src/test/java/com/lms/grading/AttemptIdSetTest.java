@@ -0,0 +1,23 @@
+package com.lms.grading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttemptIdSetTest {
+
+    @Test
+    void add_ShouldCountEachAttemptOnceAcrossResizes() {
+        ItemAnalysis.AttemptIdSet set = new ItemAnalysis.AttemptIdSet();
+
+        for (long attemptId = 1; attemptId <= 1000; attemptId++) {
+            assertTrue(set.add(attemptId));
+        }
+        for (long attemptId = 1; attemptId <= 1000; attemptId++) {
+            assertFalse(set.add(attemptId));
+        }
+
+        assertEquals(1000, set.size());
+        assertThrows(IllegalArgumentException.class, () -> set.add(0L));
+    }
+}
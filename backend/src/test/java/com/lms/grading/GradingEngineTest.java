@@ -0,0 +1,209 @@
+package com.lms.grading;
+
+import com.lms.entity.Assessment;
+import com.lms.repository.AnswerGrade;
+import com.lms.repository.AssessmentAttemptRepository;
+import com.lms.repository.AssessmentRepository;
+import com.lms.repository.AttemptGrade;
+import com.lms.repository.QuestionRepository;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.repository.projection.AnswerKeyRowView;
+import com.lms.repository.projection.AnswerRowView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GradingEngineTest {
+
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private AssessmentRepository assessmentRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private AssessmentAttemptRepository attemptRepository;
+
+    @Mock
+    private StudentAnswerRepository answerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ItemAnalysis itemAnalysis;
+
+    private GradingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        AnswerKeyService answerKeyService = new AnswerKeyService(assessmentRepository, questionRepository,
+                new AnswerKeyCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+        engine = new GradingEngine(answerKeyService, itemAnalysis, attemptRepository, answerRepository,
+                transactionManager, 2, 2);
+
+        Assessment assessment = new Assessment();
+        assessment.setId(1L);
+        assessment.setPassingScore(60.0);
+        when(assessmentRepository.findById(1L)).thenReturn(Optional.of(assessment));
+        lenient().when(assessmentRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
+        // Q10: 2 points, option 101 correct; Q20: 3 points, options 201 and 203 correct;
+        // Q30: essay graded by hand, 5 points; Q40: short answer "New York", 1 point
+        when(questionRepository.findAnswerKeyRows(1L)).thenReturn(List.of(
+                keyRow(10L, 2.0, "MULTIPLE_CHOICE", 100L, false, "Berlin"),
+                keyRow(10L, 2.0, "MULTIPLE_CHOICE", 101L, true, "Paris"),
+                keyRow(20L, 3.0, "MULTIPLE_CHOICE", 201L, true, "2"),
+                keyRow(20L, 3.0, "MULTIPLE_CHOICE", 202L, false, "3"),
+                keyRow(20L, 3.0, "MULTIPLE_CHOICE", 203L, true, "5"),
+                keyRow(30L, 5.0, "ESSAY", null, null, null),
+                keyRow(40L, 1.0, "SHORT_ANSWER", 401L, true, "New York")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void gradeAttempts_ShouldScoreFromTheKeyAndKeepManualGrades() {
+        when(answerRepository.findAnswerRowsByAttemptIds(List.of(1L, 2L))).thenReturn(List.of(
+                answerRow(11L, 1L, 10L, 101L, null, null),
+                answerRow(12L, 1L, 20L, 203L, null, null),
+                answerRow(13L, 1L, 30L, null, "An essay", 4.0),
+                answerRow(21L, 2L, 10L, 100L, null, null),
+                answerRow(22L, 2L, 20L, 201L, null, null),
+                answerRow(23L, 2L, 20L, 203L, null, null)));
+        when(answerRepository.findAnswerRowsByAttemptIds(List.of(3L))).thenReturn(List.of(
+                answerRow(31L, 3L, 40L, null, "  new   YORK ", null)));
+
+        GradingResult result = engine.gradeAttempts(1L, List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.getAttemptsGraded());
+        assertEquals(6, result.getAnswersGraded());
+
+        Map<Long, AttemptGrade> attempts = new HashMap<>();
+        Map<Long, AnswerGrade> answers = new HashMap<>();
+        captureSavedGrades(attempts, answers);
+
+        // 2 points + 4 manual points of 11; Q20 needs both correct options
+        assertEquals(6.0, attempts.get(1L).getScore());
+        assertEquals(11.0, attempts.get(1L).getMaxScore());
+        assertFalse(attempts.get(1L).isPassed());
+        assertFalse(answers.get(12L).isCorrect());
+        // The full selection on Q20 is credited once, on its first row
+        assertEquals(3.0, attempts.get(2L).getScore());
+        assertTrue(answers.get(22L).isCorrect());
+        assertEquals(3.0, answers.get(22L).getPointsEarned());
+        assertTrue(answers.get(23L).isCorrect());
+        assertEquals(0.0, answers.get(23L).getPointsEarned());
+        // Short answers match after normalization
+        assertEquals(1.0, attempts.get(3L).getScore());
+        assertTrue(answers.get(31L).isCorrect());
+
+        assertTrue(answers.get(11L).isCorrect());
+        assertEquals(2.0, answers.get(11L).getPointsEarned());
+        assertFalse(answers.get(21L).isCorrect());
+        assertFalse(answers.containsKey(13L));
+    }
+
+    @Test
+    void gradeAttempts_ShouldCompileTheKeyOncePerAssessmentVersion() {
+        when(answerRepository.findAnswerRowsByAttemptIds(anyList())).thenReturn(List.of());
+
+        engine.gradeAttempts(1L, List.of(1L));
+        engine.gradeAttempts(1L, List.of(2L));
+
+        verify(questionRepository, times(1)).findAnswerKeyRows(1L);
+    }
+
+    @Test
+    void gradeAttempts_ShouldRecompileTheKeyOnceTheAssessmentVersionMoves() {
+        when(answerRepository.findAnswerRowsByAttemptIds(anyList())).thenReturn(List.of());
+        engine.gradeAttempts(1L, List.of(1L));
+
+        // A question edited on another node bumped the version; no local eviction happened
+        assessmentRepository.findById(1L).orElseThrow().setVersion(1L);
+        when(assessmentRepository.findVersionById(1L)).thenReturn(Optional.of(1L));
+        engine.gradeAttempts(1L, List.of(2L));
+        engine.gradeAttempts(1L, List.of(3L));
+
+        verify(questionRepository, times(2)).findAnswerKeyRows(1L);
+    }
+
+    @Test
+    void gradePendingAttempts_ShouldDoNothingWhenAllAttemptsAreScored() {
+        when(attemptRepository.findUngradedSubmittedIds(1L)).thenReturn(List.of());
+
+        GradingResult result = engine.gradePendingAttempts(1L);
+
+        assertEquals(0, result.getAttemptsGraded());
+        verifyNoInteractions(answerRepository);
+        verify(attemptRepository, never()).saveGrades(anyList(), anyList());
+    }
+
+    @Test
+    void gradeSubmittedAttempts_ShouldGradeAssessmentsQueuedBySubmitsOnce() {
+        when(attemptRepository.findUngradedSubmittedIds(1L)).thenReturn(List.of(1L, 2L));
+        when(answerRepository.findAnswerRowsByAttemptIds(anyList())).thenReturn(List.of());
+
+        engine.gradeAfterCommit(1L);
+        engine.gradeAfterCommit(1L);
+
+        assertEquals(2, engine.gradeSubmittedAttempts());
+        assertEquals(0, engine.gradeSubmittedAttempts());
+        verify(attemptRepository, times(1)).findUngradedSubmittedIds(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void captureSavedGrades(Map<Long, AttemptGrade> attempts, Map<Long, AnswerGrade> answers) {
+        ArgumentCaptor<List<AttemptGrade>> attemptCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<AnswerGrade>> answerCaptor = ArgumentCaptor.forClass(List.class);
+        verify(attemptRepository, times(2)).saveGrades(attemptCaptor.capture(), answerCaptor.capture());
+        attemptCaptor.getAllValues().forEach(list -> list.forEach(grade -> attempts.put(grade.getAttemptId(), grade)));
+        answerCaptor.getAllValues().forEach(list -> list.forEach(grade -> answers.put(grade.getAnswerId(), grade)));
+    }
+
+    private static AnswerKeyRowView keyRow(Long questionId, Double points, String type, Long optionId, Boolean correct,
+                                           String optionText) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("questionId", questionId);
+        values.put("points", points);
+        values.put("questionType", type);
+        values.put("optionId", optionId);
+        values.put("correct", correct);
+        values.put("optionText", optionText);
+        return PROJECTIONS.createProjection(AnswerKeyRowView.class, values);
+    }
+
+    private static AnswerRowView answerRow(Long id, Long attemptId, Long questionId, Long selectedOptionId,
+                                           String answerText, Double pointsEarned) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("attemptId", attemptId);
+        values.put("questionId", questionId);
+        values.put("selectedOptionId", selectedOptionId);
+        values.put("answerText", answerText);
+        values.put("pointsEarned", pointsEarned);
+        return PROJECTIONS.createProjection(AnswerRowView.class, values);
+    }
+}
@@ -0,0 +1,176 @@
+package com.lms.grading;
+
+import com.lms.entity.Assessment;
+import com.lms.repository.AssessmentAttemptRepository;
+import com.lms.repository.AssessmentRepository;
+import com.lms.repository.QuestionRepository;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.repository.projection.AnswerKeyRowView;
+import com.lms.repository.projection.AnswerRowView;
+import com.lms.repository.projection.AttemptScoreView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemAnalysisTest {
+
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private AssessmentRepository assessmentRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private AssessmentAttemptRepository attemptRepository;
+
+    @Mock
+    private StudentAnswerRepository answerRepository;
+
+    private AnswerKeyCache answerKeyCache;
+    private AnswerKeyService answerKeyService;
+    private ItemAnalysis itemAnalysis;
+
+    @BeforeEach
+    void setUp() {
+        answerKeyCache = new AnswerKeyCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        answerKeyService = new AnswerKeyService(assessmentRepository, questionRepository, answerKeyCache);
+        itemAnalysis = new ItemAnalysis(answerKeyService, attemptRepository, answerRepository, 2);
+
+        Assessment assessment = new Assessment();
+        assessment.setId(1L);
+        when(assessmentRepository.findById(1L)).thenReturn(Optional.of(assessment));
+        lenient().when(assessmentRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
+        // Q10: option 101 correct; Q20: options 201 and 203 correct
+        when(questionRepository.findAnswerKeyRows(1L)).thenReturn(List.of(
+                keyRow(10L, 2.0, 100L, false),
+                keyRow(10L, 2.0, 101L, true),
+                keyRow(20L, 3.0, 201L, true),
+                keyRow(20L, 3.0, 202L, false),
+                keyRow(20L, 3.0, 203L, true)));
+
+        // Scores 5, 2, 0 and 0; attempt 4 answered nothing
+        when(attemptRepository.findScoredAttempts(1L)).thenReturn(List.of(
+                score(1L, 5.0), score(2L, 2.0), score(3L, 0.0), score(4L, 0.0)));
+        when(answerRepository.findAnswerRowsByAttemptIds(List.of(1L, 2L))).thenReturn(List.of(
+                answerRow(1L, 10L, 101L),
+                answerRow(1L, 20L, 201L),
+                answerRow(1L, 20L, 203L),
+                answerRow(2L, 10L, 101L),
+                answerRow(2L, 20L, 201L)));
+        when(answerRepository.findAnswerRowsByAttemptIds(List.of(3L, 4L))).thenReturn(List.of(
+                answerRow(3L, 10L, 100L),
+                answerRow(3L, 20L, 202L)));
+    }
+
+    @Test
+    void getReport_ShouldComputeDifficultyDiscriminationAndDistractors() {
+        ItemAnalysisReport report = itemAnalysis.getReport(1L);
+
+        assertEquals(4, report.getAttempts());
+        assertEquals(1.75, report.getMeanScore(), 1e-9);
+        assertEquals(Math.sqrt(4.1875), report.getScoreStandardDeviation(), 1e-9);
+
+        ItemAnalysisReport.ItemStatistics q10 = report.getItems().get(0);
+        assertEquals(10L, q10.getQuestionId());
+        assertEquals(3, q10.getAnswered());
+        assertEquals(0.5, q10.getDifficulty(), 1e-9);
+        assertEquals(3.5 / Math.sqrt(4.1875) * 0.5, q10.getPointBiserial(), 1e-9);
+        assertEquals(1, q10.getOptions().get(0).getSelected());
+        assertFalse(q10.getOptions().get(0).isCorrect());
+        assertEquals(0.5, q10.getOptions().get(1).getRate(), 1e-9);
+
+        // Only the full selection of 201 and 203 counts as correct
+        ItemAnalysisReport.ItemStatistics q20 = report.getItems().get(1);
+        assertEquals(0.25, q20.getDifficulty(), 1e-9);
+        assertEquals((5.0 - 2.0 / 3.0) / Math.sqrt(4.1875) * Math.sqrt(0.1875), q20.getPointBiserial(), 1e-9);
+        assertEquals(List.of(2L, 1L, 1L), q20.getOptions().stream()
+                .map(ItemAnalysisReport.OptionFrequency::getSelected).toList());
+    }
+
+    @Test
+    void recordAfterCommit_ShouldUpdateTheReportWithoutReadingAnswersAgain() {
+        itemAnalysis.getReport(1L);
+        AnswerKey key = answerKeyService.getKey(1L);
+        AttemptResponses responses = new AttemptResponses(key);
+        responses.add(key.indexOf(10L), List.of(answerRow(5L, 10L, 101L)));
+
+        // Attempt 1 was already counted when the statistics were built
+        itemAnalysis.recordAfterCommit(key, List.of(5L, 1L), new double[] {2.0, 5.0},
+                new AttemptResponses[] {responses, null});
+        ItemAnalysisReport report = itemAnalysis.getReport(1L);
+
+        assertEquals(5, report.getAttempts());
+        assertEquals(0.6, report.getItems().get(0).getDifficulty(), 1e-9);
+        verify(attemptRepository, times(1)).findScoredAttempts(1L);
+        verify(answerRepository, times(2)).findAnswerRowsByAttemptIds(anyList());
+    }
+
+    @Test
+    void invalidate_ShouldRebuildFromTheDatabaseOnNextRead() {
+        itemAnalysis.getReport(1L);
+        itemAnalysis.invalidate(1L);
+        itemAnalysis.getReport(1L);
+
+        verify(attemptRepository, times(2)).findScoredAttempts(1L);
+    }
+
+    @Test
+    void getReport_ShouldKeepTheStatisticsWhenAnUnchangedKeyIsRecompiled() {
+        AnswerKey before = answerKeyService.getKey(1L);
+        itemAnalysis.getReport(1L);
+        answerKeyCache.evict(1L);
+
+        AnswerKey recompiled = answerKeyService.getKey(1L);
+        ItemAnalysisReport report = itemAnalysis.getReport(1L);
+
+        assertNotSame(before, recompiled);
+        assertEquals(4, report.getAttempts());
+        verify(questionRepository, times(2)).findAnswerKeyRows(1L);
+        verify(attemptRepository, times(1)).findScoredAttempts(1L);
+    }
+
+    private static AnswerKeyRowView keyRow(Long questionId, Double points, Long optionId, Boolean correct) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("questionId", questionId);
+        values.put("points", points);
+        values.put("questionType", "MULTIPLE_CHOICE");
+        values.put("optionId", optionId);
+        values.put("correct", correct);
+        values.put("optionText", "Option " + optionId);
+        return PROJECTIONS.createProjection(AnswerKeyRowView.class, values);
+    }
+
+    private static AttemptScoreView score(Long id, Double score) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("score", score);
+        return PROJECTIONS.createProjection(AttemptScoreView.class, values);
+    }
+
+    private static AnswerRowView answerRow(Long attemptId, Long questionId, Long selectedOptionId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", attemptId * 100 + selectedOptionId);
+        values.put("attemptId", attemptId);
+        values.put("questionId", questionId);
+        values.put("selectedOptionId", selectedOptionId);
+        values.put("answerText", null);
+        values.put("pointsEarned", null);
+        return PROJECTIONS.createProjection(AnswerRowView.class, values);
+    }
+}
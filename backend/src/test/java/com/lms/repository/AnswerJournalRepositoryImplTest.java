@@ -0,0 +1,149 @@
+package com.lms.repository;
+
+import com.lms.service.impl.AnswerJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+
+class AnswerJournalRepositoryImplTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AnswerJournalRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:journal-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, created_at, first_name, last_name, email, role, is_active) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Ada', 'Lovelace', 'ada@test.com', 'STUDENT', TRUE)");
+        jdbcTemplate.update("INSERT INTO courses (id, created_at, title, instructor_id, status, is_featured, " +
+                "enrollment_count, review_count) VALUES (1, CURRENT_TIMESTAMP, 'Course', 1, 'PUBLISHED', FALSE, 0, 0)");
+        jdbcTemplate.update("INSERT INTO assessments (id, created_at, title, course_id, is_active) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Quiz', 1, TRUE)");
+        insertAttempt(1L, "IN_PROGRESS");
+        insertAttempt(2L, "IN_PROGRESS");
+        insertAttempt(3L, "SUBMITTED");
+        repository = new AnswerJournalRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void findLatestJournalEntries_ShouldKeepTheLastEntryPerQuestion() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.appendJournal(List.of(
+                new AnswerJournalEntry(1L, 20L, List.of(201L), null, now),
+                new AnswerJournalEntry(1L, 10L, List.of(), "Par", now),
+                new AnswerJournalEntry(2L, 10L, List.of(), "Berlin", now)));
+        repository.appendJournal(List.of(
+                new AnswerJournalEntry(1L, 10L, List.of(), "Paris", now.plusSeconds(1)),
+                new AnswerJournalEntry(1L, 20L, List.of(201L, 203L), null, now.plusSeconds(1))));
+
+        List<AnswerJournalEntry> latest = repository.findLatestJournalEntries(1L);
+
+        assertEquals(2, latest.size());
+        assertEquals(10L, latest.get(0).getQuestionId());
+        assertEquals("Paris", latest.get(0).getAnswerText());
+        assertTrue(latest.get(0).getSelectedOptionIds().isEmpty());
+        assertEquals(20L, latest.get(1).getQuestionId());
+        assertEquals(List.of(201L, 203L), latest.get(1).getSelectedOptionIds());
+    }
+
+    @Test
+    void deleteJournal_ShouldOnlyRemoveTheGivenAttempt() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.appendJournal(List.of(
+                new AnswerJournalEntry(1L, 10L, List.of(101L), null, now),
+                new AnswerJournalEntry(2L, 10L, List.of(100L), null, now)));
+
+        assertEquals(1, repository.deleteJournal(1L));
+        assertTrue(repository.findLatestJournalEntries(1L).isEmpty());
+        assertEquals(1, repository.findLatestJournalEntries(2L).size());
+    }
+
+    @Test
+    void appendJournal_ShouldRejectEntriesOfAttemptsThatAreNotInProgress() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int appended = repository.appendJournal(List.of(
+                new AnswerJournalEntry(1L, 10L, List.of(101L), null, now),
+                new AnswerJournalEntry(3L, 10L, List.of(101L), null, now),
+                new AnswerJournalEntry(99L, 10L, List.of(101L), null, now)));
+
+        assertEquals(1, appended);
+        assertEquals(1, repository.findLatestJournalEntries(1L).size());
+        assertTrue(repository.findLatestJournalEntries(3L).isEmpty());
+    }
+
+    @Test
+    void appendJournal_ShouldStoreTheLargestSelectionThatIsAllowed() {
+        List<Long> optionIds = new ArrayList<>(Collections.nCopies(AnswerJournalEntry.MAX_SELECTED_OPTIONS, Long.MAX_VALUE));
+
+        repository.appendJournal(List.of(new AnswerJournalEntry(1L, 10L, optionIds, null, LocalDateTime.now())));
+
+        assertEquals(optionIds, repository.findLatestJournalEntries(1L).get(0).getSelectedOptionIds());
+        optionIds.add(1L);
+        assertThrows(IllegalArgumentException.class, () -> repository.appendJournal(
+                List.of(new AnswerJournalEntry(1L, 10L, optionIds, null, LocalDateTime.now()))));
+    }
+
+    @Test
+    void journal_ShouldRecoverFlushedAnswersAfterACrash() {
+        StudentAnswerRepository answerRepository = mock(StudentAnswerRepository.class, delegatesTo(repository));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        AnswerJournal crashed = journal(answerRepository, transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        crashed.record(new AnswerJournalEntry(1L, 10L, List.of(), "Par", now));
+        crashed.record(new AnswerJournalEntry(1L, 10L, List.of(), "Paris", now.plusSeconds(1)));
+        crashed.record(new AnswerJournalEntry(1L, 20L, List.of(201L), null, now));
+        crashed.flush();
+        // Buffered after the last flush, then lost with the node
+        crashed.record(new AnswerJournalEntry(1L, 30L, List.of(), "lost", now.plusSeconds(2)));
+
+        AnswerJournal restarted = journal(answerRepository, transactionManager);
+
+        assertTrue(restarted.pendingEntries(1L).isEmpty());
+        assertEquals(0, restarted.flush());
+        List<AnswerJournalEntry> recovered = repository.findLatestJournalEntries(1L);
+        assertEquals(List.of(10L, 20L), recovered.stream().map(AnswerJournalEntry::getQuestionId).toList());
+        assertEquals("Paris", recovered.get(0).getAnswerText());
+        assertEquals(List.of(201L), recovered.get(1).getSelectedOptionIds());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attempt_answer_journal WHERE attempt_id = 1", Integer.class));
+    }
+
+    private void insertAttempt(long id, String status) {
+        jdbcTemplate.update("INSERT INTO assessment_attempts (id, created_at, assessment_id, student_id, " +
+                "attempt_number, started_at, status) VALUES (?, CURRENT_TIMESTAMP, 1, 1, ?, CURRENT_TIMESTAMP, ?)",
+                id, id, status);
+    }
+
+    private static AnswerJournal journal(StudentAnswerRepository answerRepository,
+                                         DataSourceTransactionManager transactionManager) {
+        return new AnswerJournal(answerRepository, transactionManager, new SimpleMeterRegistry(),
+                100, 10, Duration.ofHours(6));
+    }
+}
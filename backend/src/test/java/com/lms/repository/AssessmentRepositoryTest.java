@@ -0,0 +1,77 @@
+package com.lms.repository;
+
+import com.lms.entity.Assessment;
+import com.lms.entity.Course;
+import com.lms.entity.Question;
+import com.lms.entity.QuestionOption;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:assessment-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AssessmentRepositoryTest {
+
+    @Configuration
+    @EntityScan(basePackageClasses = Course.class)
+    @EnableJpaAuditing
+    @EnableJpaRepositories(basePackageClasses = CourseRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {AssessmentRepository.class}))
+    static class Config {
+    }
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void questionAndOptionEdits_ShouldMoveTheAssessmentVersionOnCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long[] ids = transaction.execute(status -> {
+            User instructor = new User("Grace", "Hopper", "grace@test.com", Role.INSTRUCTOR);
+            entityManager.persist(instructor);
+            Course course = new Course("Compilers", "Description", instructor);
+            entityManager.persist(course);
+            Assessment assessment = new Assessment("Quiz", course);
+            entityManager.persist(assessment);
+            Question question = new Question(assessment, "Capital of France?", "MULTIPLE_CHOICE");
+            entityManager.persist(question);
+            QuestionOption option = new QuestionOption(question, "Lyon", true);
+            entityManager.persist(option);
+            return new Long[] {assessment.getId(), option.getId()};
+        });
+        long created = assessmentRepository.findVersionById(ids[0]).orElseThrow();
+
+        transaction.executeWithoutResult(status ->
+                entityManager.find(QuestionOption.class, ids[1]).setIsCorrect(false));
+
+        assertEquals(created + 1, assessmentRepository.findVersionById(ids[0]).orElseThrow());
+        assertTrue(assessmentRepository.findVersionById(-1L).isEmpty());
+    }
+}
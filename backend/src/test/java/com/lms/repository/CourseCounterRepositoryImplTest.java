@@ -0,0 +1,117 @@
+package com.lms.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseCounterRepositoryImplTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:seats-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, created_at, first_name, last_name, email, role, is_active) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Ada', 'Lovelace', 'ada@test.com', 'INSTRUCTOR', TRUE)");
+        jdbcTemplate.update("INSERT INTO courses (id, created_at, title, instructor_id, status, is_featured, " +
+                "enrollment_count, review_count, max_students) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Course', 1, 'PUBLISHED', FALSE, 0, 0, 100)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void reserveSeats_ShouldNeverOversellAcrossNodes() throws Exception {
+        jdbcTemplate.update("UPDATE courses SET reserved_seats = 20 WHERE id = 1");
+        // Two application nodes sharing only the database
+        List<CourseCounterRepositoryImpl> nodes = List.of(
+                new CourseCounterRepositoryImpl(new JdbcTemplate(dataSource), null),
+                new CourseCounterRepositoryImpl(new JdbcTemplate(dataSource), null));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                CourseCounterRepositoryImpl node = nodes.get(i % 2);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return node.reserveSeats(1L, 1);
+                }));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Integer> future : futures) {
+                granted += future.get();
+            }
+            assertEquals(80, granted);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(0, nodes.get(0).findFreeSeats(1L));
+    }
+
+    @Test
+    void reserveSeats_ShouldGrantPartiallyAndReuseReleasedSeats() {
+        CourseCounterRepositoryImpl repository = new CourseCounterRepositoryImpl(jdbcTemplate, null);
+        jdbcTemplate.update("UPDATE courses SET reserved_seats = 97 WHERE id = 1");
+
+        assertEquals(3, repository.reserveSeats(1L, 5));
+        assertEquals(0, repository.reserveSeats(1L, 1));
+
+        repository.releaseSeats(1L, 1);
+        assertEquals(1, repository.reserveSeats(1L, 1));
+    }
+
+    @Test
+    void reserveSeats_ShouldReturnSeatsWhenTheTransactionRollsBack() {
+        CourseCounterRepositoryImpl repository = new CourseCounterRepositoryImpl(jdbcTemplate, null);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(10, repository.reserveSeats(1L, 10));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(100, repository.findFreeSeats(1L));
+    }
+
+    @Test
+    void resetReservedSeats_ShouldCountNonDroppedEnrollments() {
+        CourseCounterRepositoryImpl repository = new CourseCounterRepositoryImpl(jdbcTemplate, null);
+        for (long studentId = 2; studentId <= 4; studentId++) {
+            jdbcTemplate.update("INSERT INTO users (id, created_at, first_name, last_name, email, role, is_active) " +
+                    "VALUES (?, CURRENT_TIMESTAMP, 'Student', 'No', ?, 'STUDENT', TRUE)",
+                    studentId, "student" + studentId + "@test.com");
+            jdbcTemplate.update("INSERT INTO enrollments (id, created_at, student_id, course_id, status, " +
+                    "enrolled_at, progress_percentage) VALUES (?, CURRENT_TIMESTAMP, ?, 1, ?, CURRENT_TIMESTAMP, 0)",
+                    studentId, studentId, studentId == 4 ? "DROPPED" : "ACTIVE");
+        }
+
+        repository.resetReservedSeats(1L);
+
+        assertEquals(98, repository.findFreeSeats(1L));
+    }
+}
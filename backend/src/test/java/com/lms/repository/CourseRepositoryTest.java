@@ -0,0 +1,165 @@
+package com.lms.repository;
+
+import com.lms.dto.CourseDetailDTO;
+import com.lms.dto.CourseSummaryDTO;
+import com.lms.entity.Assessment;
+import com.lms.entity.Course;
+import com.lms.entity.CourseContent;
+import com.lms.entity.User;
+import com.lms.enums.ContentType;
+import com.lms.enums.CourseStatus;
+import com.lms.enums.Role;
+import com.lms.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        QueryCounter.STATISTICS_PROPERTY,
+        "spring.datasource.url=jdbc:h2:mem:course-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CourseRepositoryTest {
+
+    @Configuration
+    @EntityScan(basePackageClasses = Course.class)
+    @EnableJpaAuditing
+    @EnableJpaRepositories(basePackageClasses = CourseRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {CourseRepository.class, UserRepository.class, AssessmentRepository.class}))
+    static class Config {
+    }
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            User instructor = userRepository.save(
+                    new User("Instructor", "No" + i, "instructor" + i + "@test.com", Role.INSTRUCTOR));
+            for (int j = 0; j < 4; j++) {
+                Course course = new Course("Course " + i + "-" + j, "Description", instructor);
+                course.setStatus(j % 2 == 0 ? CourseStatus.PUBLISHED : CourseStatus.DRAFT);
+                course.setIsFeatured(j == 0);
+                courseRepository.save(course);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findSummariesByStatus_ShouldUseOneSelectAndOneCountRegardlessOfInstructors() {
+        QueryCounter counter = QueryCounter.of(entityManagerFactory);
+
+        Page<CourseSummaryDTO> page = counter.assertQueryCount(2, () ->
+                courseRepository.findSummariesByStatus(CourseStatus.PUBLISHED, PageRequest.of(0, 4)));
+
+        assertEquals(6, page.getTotalElements());
+        assertEquals(4, page.getContent().size());
+        assertTrue(page.getContent().get(0).getInstructorName().startsWith("Instructor No"));
+    }
+
+    @Test
+    void findFeaturedSummariesByStatus_ShouldFilterFeaturedCourses() {
+        QueryCounter counter = QueryCounter.of(entityManagerFactory);
+
+        Page<CourseSummaryDTO> page = counter.assertQueryCount(1, () ->
+                courseRepository.findFeaturedSummariesByStatus(CourseStatus.PUBLISHED, PageRequest.of(0, 10)));
+
+        assertEquals(3, page.getTotalElements());
+        assertTrue(page.getContent().stream().allMatch(CourseSummaryDTO::getFeatured));
+    }
+
+    @Test
+    void findDetailById_ShouldLoadInstructorAndOrderedContentsWithAssessmentsInTwoSelects() {
+        Course course = courseRepository.findAll().get(0);
+        for (int i = 5; i > 0; i--) {
+            entityManager.persist(new CourseContent("Lesson " + i, course, ContentType.VIDEO, i));
+        }
+        entityManager.persist(new Assessment("Quiz 1", course));
+        entityManager.persist(new Assessment("Quiz 2", course));
+        entityManager.flush();
+        entityManager.clear();
+        QueryCounter counter = QueryCounter.of(entityManagerFactory);
+
+        CourseDetailDTO detail = counter.assertQueryCount(2, () -> courseRepository.findDetailById(course.getId())
+                .map(c -> CourseDetailDTO.from(c, assessmentRepository.findActiveAssessmentsForCourse(c)))
+                .orElseThrow());
+
+        assertEquals("Instructor No0", detail.getInstructorName());
+        assertEquals("1,2,3,4,5", detail.getContents().stream()
+                .map(content -> String.valueOf(content.getOrderIndex()))
+                .collect(Collectors.joining(",")));
+        assertEquals(2, detail.getAssessments().size());
+    }
+
+    @Test
+    void reconcileEnrollmentCounts_ShouldLeaveRoomForBufferedDeltas() {
+        Long courseId = courseRepository.findAll().get(0).getId();
+
+        // Two enrollments are in the recount and their +2 is still buffered
+        assertEquals(1, courseRepository.reconcileEnrollmentCounts(id -> id == courseId ? 2L : 0L));
+        courseRepository.addToEnrollmentCount(courseId, 2);
+        entityManager.clear();
+
+        assertEquals(0, courseRepository.findById(courseId).orElseThrow().getEnrollmentCount());
+    }
+
+    @Test
+    void reconcileReservedSeats_ShouldFreeSeatsHeldWithoutAnEnrollment() {
+        Course course = courseRepository.findAll().get(0);
+        course.setMaxStudents(10);
+        courseRepository.saveAndFlush(course);
+        courseRepository.reserveSeats(course.getId(), 3);
+
+        assertEquals(1, courseRepository.reconcileReservedSeats());
+
+        assertEquals(10, courseRepository.findFreeSeats(course.getId()));
+        assertEquals(0, courseRepository.reconcileReservedSeats());
+    }
+
+    @Test
+    void save_ShouldNotWriteAStaleEnrollmentCountBack() {
+        Course course = courseRepository.findAll().get(0);
+        courseRepository.addToEnrollmentCount(course.getId(), 2);
+
+        course.setTitle("Renamed");
+        courseRepository.saveAndFlush(course);
+        entityManager.clear();
+
+        Course reloaded = courseRepository.findById(course.getId()).orElseThrow();
+        assertEquals("Renamed", reloaded.getTitle());
+        assertEquals(2, reloaded.getEnrollmentCount());
+    }
+}
@@ -0,0 +1,95 @@
+package com.lms.repository;
+
+import com.lms.entity.Course;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level cache behaviour of Course. A read-write cache entry is only readable by
+ * transactions that start after it was cached, so every repository call here commits
+ * on its own instead of running in one test transaction.
+ */
+@DataJpaTest(properties = {
+        QueryCounter.STATISTICS_PROPERTY,
+        "spring.datasource.url=jdbc:h2:mem:course-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CourseSecondLevelCacheTest {
+
+    @Configuration
+    @EntityScan(basePackageClasses = Course.class)
+    @EnableJpaAuditing
+    @EnableJpaRepositories(basePackageClasses = CourseRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {CourseRepository.class, UserRepository.class}))
+    static class Config {
+    }
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        User instructor = userRepository.save(new User("Instructor", "Cache", "cache@test.com", Role.INSTRUCTOR));
+        firstId = courseRepository.save(new Course("Course 1", "Description", instructor)).getId();
+        secondId = courseRepository.save(new Course("Course 2", "Description", instructor)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findById_ShouldBeServedFromSecondLevelCacheOnceLoaded() {
+        courseRepository.findById(firstId);
+        QueryCounter counter = QueryCounter.of(entityManagerFactory);
+
+        Course course = counter.assertQueryCount(0, () -> courseRepository.findById(firstId).orElseThrow());
+
+        assertEquals(firstId, course.getId());
+    }
+
+    @Test
+    void reconcileEnrollmentCounts_ShouldCorrectDriftWithoutDroppingOtherCachedCourses() {
+        courseRepository.addToEnrollmentCount(firstId, 3);
+        courseRepository.findById(secondId);
+
+        assertEquals(1, courseRepository.reconcileEnrollmentCounts(courseId -> 0L));
+
+        QueryCounter counter = QueryCounter.of(entityManagerFactory);
+        counter.assertQueryCount(0, () -> courseRepository.findById(secondId).orElseThrow());
+        assertEquals(0, courseRepository.reconcileEnrollmentCounts(courseId -> 0L));
+    }
+}
@@ -0,0 +1,138 @@
+package com.lms.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on H2 in MySQL mode and checks the plan of each hot
+ * repository query: a full table scan fails the test, and where a composite index
+ * is the only good choice the plan must name it. Queries that can be served equally
+ * well by a foreign key index pass null as the expected index.
+ */
+class SchemaIndexPlanTest {
+
+    private static final String URL = "jdbc:h2:mem:index-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("UserRepository.findByEmail",
+                        "SELECT * FROM users WHERE email = 'student@test.com'",
+                        "uk_users_email"),
+                Arguments.of("UserRepository.findByGoogleId",
+                        "SELECT * FROM users WHERE google_id = '1234'",
+                        "idx_users_google_id"),
+                Arguments.of("CourseRepository.findSummariesByStatus",
+                        "SELECT c.id, c.title FROM courses c LEFT JOIN users i ON i.id = c.instructor_id " +
+                        "WHERE c.status = 'PUBLISHED'",
+                        "idx_courses_status_featured"),
+                Arguments.of("CourseRepository.findFeaturedSummariesByStatus",
+                        "SELECT c.id FROM courses c WHERE c.status = 'PUBLISHED' AND c.is_featured = TRUE",
+                        "idx_courses_status_featured"),
+                Arguments.of("CourseRepository.findByInstructorAndStatus",
+                        "SELECT * FROM courses WHERE instructor_id = 1 AND status = 'DRAFT'",
+                        "idx_courses_instructor_status"),
+                Arguments.of("CourseContentRepository.findByCourseOrderByOrderIndex",
+                        "SELECT * FROM course_content WHERE course_id = 1 ORDER BY order_index",
+                        null),
+                Arguments.of("EnrollmentRepository.findByStudentAndCourse",
+                        "SELECT * FROM enrollments WHERE student_id = 1 AND course_id = 2",
+                        "idx_enrollments_student_course"),
+                Arguments.of("EnrollmentRepository.findByCourseAndStatus",
+                        "SELECT * FROM enrollments WHERE course_id = 2 AND status = 'ACTIVE'",
+                        "idx_enrollments_course_status"),
+                Arguments.of("EnrollmentRepository.countByCourseAndStatusNot",
+                        "SELECT COUNT(*) FROM enrollments WHERE course_id = 2 AND status <> 'DROPPED'",
+                        null),
+                Arguments.of("EnrollmentRepository.findByCourseOrderByIdAsc",
+                        "SELECT * FROM enrollments WHERE course_id = 2 AND id > 100 ORDER BY id LIMIT 21",
+                        "idx_enrollments_course_id"),
+                Arguments.of("EnrollmentRepository.findByStatus",
+                        "SELECT * FROM enrollments WHERE status = 'COMPLETED'",
+                        "idx_enrollments_status"),
+                Arguments.of("StudentProgressRepository.findByStudentAndModule",
+                        "SELECT * FROM student_progress WHERE student_id = 1 AND module_id = 2",
+                        "uk_student_progress_student_module"),
+                Arguments.of("StudentProgressRepository.findByStudent",
+                        "SELECT * FROM student_progress WHERE student_id = 1",
+                        null),
+                Arguments.of("StudentProgressRepository.findByModuleOrderByIdAsc",
+                        "SELECT * FROM student_progress WHERE module_id = 2 AND id > 100 ORDER BY id LIMIT 21",
+                        "idx_student_progress_module_id"),
+                Arguments.of("StudentProgressRepository.findByLastAccessedBetween",
+                        "SELECT * FROM student_progress WHERE last_accessed " +
+                        "BETWEEN TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-02-01 00:00:00'",
+                        "idx_student_progress_last_accessed"),
+                Arguments.of("ProgressRepository.findByUserAndCourseAndContent",
+                        "SELECT * FROM progress WHERE user_id = 1 AND course_id = 2 AND content_id = 3",
+                        "idx_progress_user_course_content"),
+                Arguments.of("AssessmentRepository.findActiveAssessmentsForCourse",
+                        "SELECT * FROM assessments WHERE course_id = 1 AND is_active = TRUE",
+                        "idx_assessments_course_active"),
+                Arguments.of("AssessmentAttemptRepository.findUngradedSubmittedIds",
+                        "SELECT id FROM assessment_attempts " +
+                        "WHERE assessment_id = 1 AND status = 'SUBMITTED' AND score IS NULL ORDER BY id",
+                        "idx_assessment_attempts_assessment_status_score"),
+                Arguments.of("AssessmentAttemptRepository.findSubmittedIds",
+                        "SELECT id FROM assessment_attempts " +
+                        "WHERE assessment_id = 1 AND status = 'SUBMITTED' ORDER BY id",
+                        "idx_assessment_attempts_assessment_status"),
+                Arguments.of("AssessmentRepository.findActiveIdsStartingBetween",
+                        "SELECT id FROM assessments WHERE is_active = TRUE " +
+                        "AND start_date BETWEEN TIMESTAMP '2024-01-01 08:50:00' AND TIMESTAMP '2024-01-01 09:10:00'",
+                        "idx_assessments_active_start"),
+                Arguments.of("StudentAnswerRepository.findAnswerRowsByAttemptIds",
+                        "SELECT * FROM student_answers WHERE attempt_id IN (1, 2, 3) ORDER BY attempt_id",
+                        null),
+                Arguments.of("StudentAnswerRepository.findLatestJournalEntries",
+                        "SELECT attempt_id, question_id, selected_option_ids, answer_text, saved_at " +
+                        "FROM attempt_answer_journal WHERE attempt_id = 1 ORDER BY question_id, id",
+                        null),
+                Arguments.of("LearningModuleRepository.findDistinctSubjects",
+                        "SELECT DISTINCT subject FROM learning_modules " +
+                        "WHERE is_published = TRUE AND subject IS NOT NULL ORDER BY subject",
+                        null),
+                Arguments.of("LearningSectionRepository.findByModuleOrderByOrderIndex",
+                        "SELECT * FROM learning_sections WHERE module_id = 1 ORDER BY order_index",
+                        null),
+                Arguments.of("ContentBlockRepository.findBySectionOrderByOrderIndex",
+                        "SELECT * FROM content_blocks WHERE section_id = 3 ORDER BY order_index",
+                        null)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQuery_ShouldNotScanTheWholeTable(String repositoryMethod, String sql, String expectedIndex) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertFalse(plan.contains(".tableScan"), repositoryMethod + " scans a whole table:\n" + plan);
+        if (expectedIndex != null) {
+            assertTrue(plan.toLowerCase().contains(expectedIndex),
+                    repositoryMethod + " does not use " + expectedIndex + ":\n" + plan);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.lms.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentProgressUpsertRepositoryImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private StudentProgressUpsertRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:upsert-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, created_at, first_name, last_name, email, role, is_active) " +
+                "VALUES (1, CURRENT_TIMESTAMP, 'Ada', 'Lovelace', 'ada@test.com', 'STUDENT', TRUE)");
+        jdbcTemplate.update("INSERT INTO users (id, created_at, first_name, last_name, email, role, is_active) " +
+                "VALUES (3, CURRENT_TIMESTAMP, 'Alan', 'Turing', 'alan@test.com', 'STUDENT', TRUE)");
+        for (long moduleId = 2; moduleId <= 3; moduleId++) {
+            jdbcTemplate.update("INSERT INTO learning_modules (id, created_at, title, created_by, is_published) " +
+                    "VALUES (?, CURRENT_TIMESTAMP, 'Module', 1, TRUE)", moduleId);
+        }
+        repository = new StudentProgressUpsertRepositoryImpl(jdbcTemplate, new AtomicLong(100)::incrementAndGet);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void upsertProgress_ShouldUpdateInPlaceAndKeepCompletionSticky() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.upsertProgress(new StudentProgressUpsert(1L, 2L, 3, 20, 100.0, true, now));
+        repository.upsertProgress(new StudentProgressUpsert(1L, 2L, 1, 25, 40.0, false, now.plusMinutes(1)));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM student_progress");
+        assertEquals(1, ((Number) row.get("current_section")).intValue());
+        assertEquals(25, ((Number) row.get("time_spent")).intValue());
+        assertEquals(40.0, ((Number) row.get("completion_percentage")).doubleValue());
+        assertEquals(Boolean.TRUE, row.get("is_completed"));
+        assertNotNull(row.get("completion_date"));
+        assertEquals(1L, ((Number) row.get("version")).longValue());
+    }
+
+    @Test
+    void upsertProgress_ShouldKeepStoredValuesThatAreNotReported() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.upsertProgress(new StudentProgressUpsert(1L, 2L, 3, 20, 60.0, false, now));
+        repository.upsertProgress(new StudentProgressUpsert(1L, 2L, null, null, null, false, now.plusMinutes(1)));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM student_progress");
+        assertEquals(3, ((Number) row.get("current_section")).intValue());
+        assertEquals(20, ((Number) row.get("time_spent")).intValue());
+        assertEquals(60.0, ((Number) row.get("completion_percentage")).doubleValue());
+        assertEquals(Boolean.FALSE, row.get("is_completed"));
+        assertNull(row.get("completion_date"));
+    }
+
+    @Test
+    void upsertProgress_ShouldWriteReportedJsonColumnsAndReturnTheRowId() {
+        LocalDateTime now = LocalDateTime.now();
+        long inserted = repository.upsertProgress(new StudentProgressUpsert(1L, 2L, 1, 5, 10.0, false, now,
+                "[\"intro\"]", null, "\"first notes\"", "[3]"));
+        long updated = repository.upsertProgress(new StudentProgressUpsert(1L, 2L, 2, 10, 20.0, false,
+                now.plusMinutes(1), null, "{\"quiz-1\":80}", "\"second notes\"", null));
+
+        assertEquals(jdbcTemplate.queryForObject("SELECT id FROM student_progress", Long.class), inserted);
+        assertEquals(inserted, updated);
+        Map<String, String> row = jdbcTemplate.queryForObject(
+                "SELECT completed_objectives, quiz_scores, notes, bookmarks FROM student_progress",
+                (rs, rowNum) -> Map.of(
+                        "completed_objectives", rs.getString(1),
+                        "quiz_scores", rs.getString(2),
+                        "notes", rs.getString(3),
+                        "bookmarks", rs.getString(4)));
+        assertEquals("[\"intro\"]", row.get("completed_objectives"));
+        assertEquals("{\"quiz-1\":80}", row.get("quiz_scores"));
+        assertEquals("\"second notes\"", row.get("notes"));
+        assertEquals("[3]", row.get("bookmarks"));
+    }
+
+    @Test
+    void upsertProgressBatch_ShouldInsertDistinctKeys() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.upsertProgressBatch(List.of(
+                new StudentProgressUpsert(1L, 2L, 0, 5, 10.0, false, now),
+                new StudentProgressUpsert(1L, 3L, 0, 5, 20.0, false, now),
+                new StudentProgressUpsert(3L, 2L, 0, 5, 30.0, false, now)));
+
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_progress", Integer.class));
+    }
+
+    @Test
+    void upsertProgress_ShouldNotDuplicateUnderConcurrentWritesToSameKey() throws Exception {
+        int threads = 16;
+        int writesPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < writesPerThread; i++) {
+                        repository.upsertProgress(new StudentProgressUpsert(1L, 2L, i, i,
+                                (double) i, thread == 0 && i == 0, LocalDateTime.now()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_progress", Integer.class));
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject("SELECT is_completed FROM student_progress", Boolean.class));
+    }
+}
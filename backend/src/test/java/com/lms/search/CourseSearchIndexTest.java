@@ -0,0 +1,134 @@
+package com.lms.search;
+
+import com.lms.dto.CourseSummaryDTO;
+import com.lms.entity.Course;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSearchIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseSearchIndex index;
+    private User instructor;
+
+    @BeforeEach
+    void setUp() {
+        instructor = new User("Jane", "Smith", "jane@test.com", Role.INSTRUCTOR);
+        instructor.setId(1L);
+        index = new CourseSearchIndex(courseRepository);
+    }
+
+    private Course course(long id, String title, String description, String category, String tags) {
+        Course course = new Course(title, description, instructor);
+        course.setId(id);
+        course.setCategory(category);
+        course.setTags(tags);
+        return course;
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        when(courseRepository.findAllWithInstructor()).thenReturn(Arrays.asList(
+                course(1L, "Cooking basics", "Learn java while you wait for water", "Food", null),
+                course(2L, "Java fundamentals", "Object oriented programming", "Programming", "java,oop")));
+        index.rebuild();
+
+        Page<CourseSummaryDTO> result = index.search("java", PageRequest.of(0, 10));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).getId());
+        assertEquals("Jane Smith", result.getContent().get(0).getInstructorName());
+    }
+
+    @Test
+    void search_ShouldRequireAllTermsAndMatchLastTermAsPrefix() {
+        when(courseRepository.findAllWithInstructor()).thenReturn(Arrays.asList(
+                course(1L, "Spring Boot in depth", "Build services", "Programming", null),
+                course(2L, "Spring gardening", "Plants and soil", "Hobby", null)));
+        index.rebuild();
+
+        Page<CourseSummaryDTO> result = index.search("spring bo", PageRequest.of(0, 10));
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(1L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void search_ShouldPageThroughRankedResults() {
+        when(courseRepository.findAllWithInstructor()).thenReturn(Arrays.asList(
+                course(1L, "Data one", "data", null, null),
+                course(2L, "Data two", "data", null, null),
+                course(3L, "Data three", "data", null, null)));
+        index.rebuild();
+
+        Page<CourseSummaryDTO> second = index.search("data", PageRequest.of(1, 2));
+
+        assertEquals(3, second.getTotalElements());
+        assertEquals(1, second.getContent().size());
+        assertEquals(3L, second.getContent().get(0).getId());
+    }
+
+    @Test
+    void indexAndDelete_ShouldUpdateIncrementally() {
+        Course course = course(7L, "Machine learning", "Models", "AI", null);
+        index.index(course);
+        assertEquals(1, index.search("machine", PageRequest.of(0, 10)).getTotalElements());
+
+        course.setTitle("Deep learning");
+        index.index(course);
+        assertEquals(0, index.search("machine", PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, index.search("deep", PageRequest.of(0, 10)).getTotalElements());
+
+        index.delete(7L);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void addEnrollments_ShouldMoveTheIndexedCountWithoutQueryingTheDatabase() {
+        Course course = course(7L, "Machine learning", "Models", "AI", null);
+        course.setRating(4.5);
+        course.setEnrollmentCount(10);
+        index.index(course);
+
+        index.addEnrollments(7L, 3);
+        index.addEnrollments(7L, -1);
+        index.addEnrollments(8L, 5);
+        CourseSummaryDTO hit = index.search("machine", PageRequest.of(0, 10)).getContent().get(0);
+
+        assertEquals(4.5, hit.getRating());
+        assertEquals(12, hit.getEnrollmentCount());
+        assertEquals("Machine learning", hit.getTitle());
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void index_ShouldKeepTheLiveEnrollmentCountOfAnIndexedCourse() {
+        Course course = course(7L, "Machine learning", "Models", "AI", null);
+        course.setEnrollmentCount(10);
+        index.index(course);
+        index.addEnrollments(7L, 2);
+
+        // Pending deltas are not in the entity's stored count yet
+        course.setTitle("Machine learning in practice");
+        index.index(course);
+
+        assertEquals(12, index.search("practice", PageRequest.of(0, 10)).getContent().get(0).getEnrollmentCount());
+    }
+}
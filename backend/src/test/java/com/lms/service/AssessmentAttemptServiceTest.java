@@ -0,0 +1,200 @@
+package com.lms.service;
+
+import com.lms.dto.AnswerDTO;
+import com.lms.dto.AttemptSubmissionResult;
+import com.lms.entity.Assessment;
+import com.lms.entity.AssessmentAttempt;
+import com.lms.entity.Question;
+import com.lms.entity.QuestionOption;
+import com.lms.entity.StudentAnswer;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.grading.AnswerKeyService;
+import com.lms.grading.GradingEngine;
+import com.lms.repository.AnswerJournalEntry;
+import com.lms.repository.AssessmentAttemptRepository;
+import com.lms.repository.StudentAnswerRepository;
+import com.lms.service.impl.AnswerJournal;
+import com.lms.service.impl.AssessmentAttemptServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssessmentAttemptServiceTest {
+
+    @Mock
+    private AssessmentAttemptRepository attemptRepository;
+
+    @Mock
+    private StudentAnswerRepository answerRepository;
+
+    @Mock
+    private AnswerJournal answerJournal;
+
+    @Mock
+    private AnswerKeyService answerKeyService;
+
+    @Mock
+    private GradingEngine gradingEngine;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private AssessmentAttemptServiceImpl attemptService;
+
+    private User student;
+    private Assessment assessment;
+    private AssessmentAttempt attempt;
+
+    @BeforeEach
+    void setUp() {
+        student = new User("Ada", "Lovelace", "ada@test.com", Role.STUDENT);
+        student.setId(5L);
+        assessment = new Assessment();
+        assessment.setId(7L);
+        attempt = new AssessmentAttempt(assessment, student, 1);
+        attempt.setId(1L);
+        lenient().when(attemptRepository.findById(1L)).thenReturn(Optional.of(attempt));
+        lenient().when(entityManager.getReference(eq(Question.class), any())).thenAnswer(invocation -> {
+            Question question = new Question();
+            question.setId(invocation.getArgument(1));
+            return question;
+        });
+        lenient().when(entityManager.getReference(eq(QuestionOption.class), any())).thenAnswer(invocation -> {
+            QuestionOption option = new QuestionOption();
+            option.setId(invocation.getArgument(1));
+            return option;
+        });
+    }
+
+    @Test
+    void submit_ShouldCompactTheLatestJournalEntriesIntoStudentAnswers() {
+        LocalDateTime now = LocalDateTime.now();
+        when(answerRepository.findLatestJournalEntries(1L)).thenReturn(List.of(
+                new AnswerJournalEntry(1L, 10L, List.of(101L, 103L), null, now),
+                new AnswerJournalEntry(1L, 20L, List.of(), "Paris", now),
+                new AnswerJournalEntry(1L, 30L, List.of(), " ", now)));
+
+        AttemptSubmissionResult result = attemptService.submit(1L, student);
+
+        InOrder inOrder = inOrder(answerJournal, answerRepository);
+        inOrder.verify(answerJournal).close(1L);
+        inOrder.verify(answerJournal).pendingEntries(1L);
+        inOrder.verify(answerRepository).findLatestJournalEntries(1L);
+        inOrder.verify(answerRepository).deleteByAttemptIdAndQuestionIds(1L, List.of(10L, 20L, 30L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StudentAnswer>> saved = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(answerRepository).saveAll(saved.capture());
+        inOrder.verify(answerRepository).deleteJournal(1L);
+
+        List<StudentAnswer> answers = saved.getValue();
+        assertEquals(3, answers.size());
+        assertEquals(List.of(101L, 103L), answers.subList(0, 2).stream()
+                .map(answer -> answer.getSelectedOption().getId()).toList());
+        assertEquals(10L, answers.get(0).getQuestion().getId());
+        assertEquals(20L, answers.get(2).getQuestion().getId());
+        assertEquals("Paris", answers.get(2).getAnswerText());
+        assertTrue(attempt.isSubmitted());
+        assertEquals(3, result.getQuestionsAnswered());
+        verify(attemptRepository).save(attempt);
+        verify(gradingEngine).gradeAfterCommit(7L);
+    }
+
+    @Test
+    void submit_ShouldPreferBufferedAnswersNewerThanTheJournalWithoutFlushingThem() {
+        LocalDateTime now = LocalDateTime.now();
+        when(answerJournal.pendingEntries(1L)).thenReturn(List.of(
+                new AnswerJournalEntry(1L, 10L, List.of(), "Paris", now.plusSeconds(5)),
+                new AnswerJournalEntry(1L, 20L, List.of(), "Rome", now.minusSeconds(5)),
+                new AnswerJournalEntry(1L, 30L, List.of(), "Madrid", now)));
+        when(answerRepository.findLatestJournalEntries(1L)).thenReturn(List.of(
+                new AnswerJournalEntry(1L, 10L, List.of(), "Par", now),
+                new AnswerJournalEntry(1L, 20L, List.of(), "Berlin", now)));
+
+        AttemptSubmissionResult result = attemptService.submit(1L, student);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StudentAnswer>> saved = ArgumentCaptor.forClass(List.class);
+        verify(answerRepository).saveAll(saved.capture());
+        assertEquals(List.of("Paris", "Berlin", "Madrid"), saved.getValue().stream()
+                .map(StudentAnswer::getAnswerText).toList());
+        assertEquals(3, result.getQuestionsAnswered());
+        verify(answerJournal, never()).flush();
+    }
+
+    @Test
+    void submit_ShouldPurgeTheJournalOnlyAfterCommit() {
+        when(answerRepository.findLatestJournalEntries(1L)).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            attemptService.submit(1L, student);
+
+            verify(answerJournal, never()).purge(anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(answerJournal).purge(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(answerRepository, never()).deleteByAttemptIdAndQuestionIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    void submit_ShouldRejectAnAttemptThatIsNotInProgress() {
+        attempt.submit();
+
+        assertThrows(IllegalArgumentException.class, () -> attemptService.submit(1L, student));
+
+        verifyNoInteractions(answerJournal);
+    }
+
+    @Test
+    void autosave_ShouldRejectMoreSelectedOptionsThanTheJournalCanHold() {
+        AnswerDTO answer = new AnswerDTO();
+        answer.setSelectedOptionIds(new ArrayList<>(Collections.nCopies(AnswerJournalEntry.MAX_SELECTED_OPTIONS + 1, 101L)));
+
+        assertThrows(IllegalArgumentException.class, () -> attemptService.autosave(1L, 10L, answer, student));
+
+        verify(answerJournal, never()).record(any());
+    }
+
+    @Test
+    void allowsFeedback_ShouldRejectAnInProgressAttemptAtAnAssessmentWithoutInstantFeedback() {
+        assertTrue(attempt.isInProgress());
+
+        assertFalse(attemptService.allowsFeedback(1L, 7L, student));
+    }
+
+    @Test
+    void allowsFeedback_ShouldRejectAttemptsOfOtherStudentsOrAssessments() {
+        assessment.setInstantFeedback(true);
+        User other = new User("Alan", "Turing", "alan@test.com", Role.STUDENT);
+        other.setId(6L);
+
+        assertFalse(attemptService.allowsFeedback(1L, 7L, other));
+        assertFalse(attemptService.allowsFeedback(1L, 8L, student));
+        assertTrue(attemptService.allowsFeedback(1L, 7L, student));
+    }
+}
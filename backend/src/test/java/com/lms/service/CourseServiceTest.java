@@ -0,0 +1,61 @@
+package com.lms.service;
+
+import com.lms.entity.Course;
+import com.lms.enums.CourseStatus;
+import com.lms.repository.CourseRepository;
+import com.lms.search.CourseSearchIndex;
+import com.lms.service.impl.CourseServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private CounterService counterService;
+
+    @InjectMocks
+    private CourseServiceImpl courseService;
+
+    @Test
+    void publishThenUnpublish_ShouldLeaveStatusCountersWhereTheyStarted() {
+        Course course = new Course();
+        course.setId(5L);
+        course.setStatus(CourseStatus.DRAFT);
+        when(courseRepository.findById(5L)).thenReturn(Optional.of(course));
+        when(courseRepository.save(course)).thenReturn(course);
+        Map<String, Long> counters = new HashMap<>();
+        doAnswer(invocation -> {
+            counters.merge(invocation.getArgument(0), -1L, Long::sum);
+            counters.merge(invocation.getArgument(1), 1L, Long::sum);
+            return null;
+        }).when(counterService).transfer(anyString(), anyString());
+
+        courseService.publishCourse(5L);
+        assertEquals(1L, counters.get(CounterService.courseStatus(CourseStatus.PUBLISHED)));
+        courseService.unpublishCourse(5L);
+
+        assertEquals(CourseStatus.DRAFT, course.getStatus());
+        assertEquals(0L, counters.get(CounterService.courseStatus(CourseStatus.PUBLISHED)));
+        assertEquals(0L, counters.get(CounterService.courseStatus(CourseStatus.DRAFT)));
+        verify(courseSearchIndex, times(2)).index(any(Course.class));
+    }
+}
@@ -0,0 +1,129 @@
+package com.lms.service;
+
+import com.lms.dto.BulkEnrollmentResult;
+import com.lms.dto.BulkEnrollmentResult.RowStatus;
+import com.lms.entity.Course;
+import com.lms.entity.Enrollment;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.repository.EnrollmentRepository;
+import com.lms.repository.UserRepository;
+import com.lms.service.impl.CourseSeatAdmission;
+import com.lms.service.impl.EnrollmentServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CounterService counterService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CourseSeatAdmission seatAdmission;
+
+    @InjectMocks
+    private EnrollmentServiceImpl enrollmentService;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(enrollmentService, "bulkBatchSize", 50);
+        course = new Course();
+        course.setId(10L);
+        lenient().when(seatAdmission.reserve(eq(course), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    void enrollStudents_ShouldReportEachRowAndInsertOnlyNewStudents() {
+        when(userRepository.findIdsByIdInAndRole(anyCollection(), eq(Role.STUDENT)))
+                .thenReturn(Arrays.asList(1L, 2L, 3L));
+        when(enrollmentRepository.findEnrolledStudentIds(eq(course), anyCollection()))
+                .thenReturn(List.of(2L));
+        when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(course, Arrays.asList(1L, 2L, 1L, 4L, 3L));
+
+        assertEquals(5, result.getRequested());
+        assertEquals(2, result.getEnrolled());
+        assertEquals(Arrays.asList(RowStatus.ENROLLED, RowStatus.ALREADY_ENROLLED, RowStatus.DUPLICATE,
+                        RowStatus.NOT_FOUND, RowStatus.ENROLLED),
+                result.getRows().stream().map(BulkEnrollmentResult.Row::getStatus).toList());
+        verify(entityManager, times(2)).persist(any(Enrollment.class));
+        verify(counterService).addCourseEnrollments(10L, 2);
+        verify(counterService).add(CounterService.ENROLLMENTS_TOTAL, 2);
+    }
+
+    @Test
+    void enrollStudentsFromCsv_ShouldSkipHeaderAndFlagInvalidRows() throws Exception {
+        when(userRepository.findIdsByIdInAndRole(anyCollection(), eq(Role.STUDENT))).thenReturn(List.of(7L));
+        when(enrollmentRepository.findEnrolledStudentIds(eq(course), anyCollection())).thenReturn(List.of());
+        when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+        String csv = "student_id,name\n7,Ada\n\nabc,Bob\n";
+
+        BulkEnrollmentResult result = enrollmentService.enrollStudentsFromCsv(
+                course, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, result.getRows().size());
+        assertEquals(2, result.getRows().get(0).getRow());
+        assertEquals(RowStatus.ENROLLED, result.getRows().get(0).getStatus());
+        assertEquals(4, result.getRows().get(1).getRow());
+        assertEquals(RowStatus.INVALID, result.getRows().get(1).getStatus());
+    }
+
+    @Test
+    void enrollStudents_ShouldReportRowsBeyondFreeSeatsAsCourseFull() {
+        when(userRepository.findIdsByIdInAndRole(anyCollection(), eq(Role.STUDENT))).thenReturn(Arrays.asList(1L, 2L));
+        when(enrollmentRepository.findEnrolledStudentIds(eq(course), anyCollection())).thenReturn(List.of());
+        when(entityManager.getReference(eq(User.class), any())).thenReturn(new User());
+        when(seatAdmission.reserve(course, 2)).thenReturn(1);
+
+        BulkEnrollmentResult result = enrollmentService.enrollStudents(course, Arrays.asList(1L, 2L));
+
+        assertEquals(RowStatus.ENROLLED, result.getRows().get(0).getStatus());
+        assertEquals(RowStatus.COURSE_FULL, result.getRows().get(1).getStatus());
+        verify(entityManager, times(1)).persist(any(Enrollment.class));
+    }
+
+    @Test
+    void createEnrollments_ShouldDetachOnlyItsOwnRowsPerBatch() {
+        ReflectionTestUtils.setField(enrollmentService, "bulkBatchSize", 2);
+        List<Enrollment> enrollments = Arrays.asList(
+                new Enrollment(new User(), course), new Enrollment(new User(), course), new Enrollment(new User(), course));
+
+        enrollmentService.createEnrollments(enrollments);
+
+        verify(entityManager, times(2)).flush();
+        enrollments.forEach(enrollment -> verify(entityManager).detach(same(enrollment)));
+        verify(entityManager, never()).clear();
+        verify(counterService).addCourseEnrollments(10L, 3);
+    }
+}
@@ -0,0 +1,57 @@
+package com.lms.service;
+
+import com.lms.entity.LearningModule;
+import com.lms.entity.StudentProgress;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.repository.StudentProgressRepository;
+import com.lms.repository.StudentProgressUpsert;
+import com.lms.service.impl.StudentProgressServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentProgressServiceTest {
+
+    @Mock
+    private StudentProgressRepository studentProgressRepository;
+
+    @InjectMocks
+    private StudentProgressServiceImpl progressService;
+
+    @Test
+    void recordProgress_ShouldReturnTheMergedRowRatherThanTheRequest() {
+        User student = new User("Ada", "Lovelace", "ada@test.com", Role.STUDENT);
+        student.setId(1L);
+        LearningModule module = new LearningModule();
+        module.setId(2L);
+        StudentProgress request = new StudentProgress(student, module);
+        request.setCompletionPercentage(40.0);
+
+        StudentProgress stored = new StudentProgress(student, module);
+        stored.setId(9L);
+        stored.setVersion(3L);
+        stored.setCreatedAt(LocalDateTime.now().minusDays(1));
+        stored.setCompletionPercentage(40.0);
+        stored.setIsCompleted(true);
+        when(studentProgressRepository.upsertProgress(any(StudentProgressUpsert.class))).thenReturn(9L);
+        when(studentProgressRepository.findWithStudentAndModuleById(9L)).thenReturn(Optional.of(stored));
+
+        StudentProgress saved = progressService.recordProgress(request);
+
+        assertSame(stored, saved);
+        assertEquals(3L, saved.getVersion());
+        assertTrue(saved.getIsCompleted());
+        assertNull(request.getId());
+    }
+}
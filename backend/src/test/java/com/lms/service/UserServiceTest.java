@@ -1,5 +1,7 @@
 package com.lms.service;
 
+import com.lms.cache.PrincipalCache;
+import com.lms.cache.UserCache;
 import com.lms.entity.User;
 import com.lms.enums.Role;
 import com.lms.exception.ResourceNotFoundException;
@@ -16,13 +18,17 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +41,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private CounterService counterService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -63,6 +78,8 @@ class UserServiceTest {
         assertEquals(testUser.getEmail(), result.getEmail());
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(testUser);
+        verify(counterService).add(CounterService.USERS_TOTAL, 1);
+        verify(counterService).add(CounterService.userRole(Role.STUDENT), 1);
     }
 
     @Test
@@ -95,10 +112,11 @@ class UserServiceTest {
 
     @Test
     void getUserStatistics_ShouldReturnCorrectStatistics() {
-        when(userRepository.count()).thenReturn(100L);
-        when(userRepository.countByActiveTrue()).thenReturn(90L);
-        when(userRepository.countByRole(Role.INSTRUCTOR)).thenReturn(10L);
-        when(userRepository.countByRole(Role.STUDENT)).thenReturn(80L);
+        when(counterService.get(anyCollection())).thenReturn(Map.of(
+                CounterService.USERS_TOTAL, 100L,
+                CounterService.USERS_ACTIVE, 90L,
+                CounterService.userRole(Role.INSTRUCTOR), 10L,
+                CounterService.userRole(Role.STUDENT), 80L));
 
         UserService.UserStatistics stats = userService.getUserStatistics();
 
@@ -108,4 +126,22 @@ class UserServiceTest {
         assertEquals(10L, stats.getInstructors());
         assertEquals(80L, stats.getStudents());
     }
-}
\ No newline at end of file
+
+    @Test
+    void deactivateUser_ShouldEvictCachesOnlyAfterCommit() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(testUser)).thenReturn(testUser);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.deactivateUser(1L);
+
+            verify(userCache, never()).evict(anyString());
+            verify(principalCache, never()).evict(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(userCache).evict("john.doe@example.com");
+            verify(principalCache).evict(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
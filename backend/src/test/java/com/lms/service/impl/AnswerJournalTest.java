@@ -0,0 +1,161 @@
+package com.lms.service.impl;
+
+import com.lms.repository.AnswerJournalEntry;
+import com.lms.repository.StudentAnswerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerJournalTest {
+
+    @Mock
+    private StudentAnswerRepository answerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AnswerJournal journal;
+    private final List<List<AnswerJournalEntry>> appendedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(answerRepository.appendJournal(anyList())).thenAnswer(invocation -> {
+            List<AnswerJournalEntry> rows = invocation.getArgument(0);
+            appendedBatches.add(List.copyOf(rows));
+            return rows.size();
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        journal = new AnswerJournal(answerRepository, transactionManager, meterRegistry, 100, 2, Duration.ofHours(6));
+    }
+
+    @Test
+    void record_ShouldCoalesceToTheLatestAnswerPerQuestion() {
+        LocalDateTime now = LocalDateTime.now();
+        journal.record(entry(1L, 10L, "P", now));
+        journal.record(entry(1L, 10L, "Par", now.plusSeconds(1)));
+        journal.record(entry(1L, 10L, "Paris", now.plusSeconds(2)));
+        journal.record(entry(1L, 20L, "Rome", now));
+
+        assertEquals(2, journal.pendingEntries(1L).size());
+        assertEquals(2, journal.flush());
+
+        assertEquals(1, appendedBatches.size());
+        assertEquals(List.of("Paris", "Rome"), appendedBatches.get(0).stream()
+                .map(AnswerJournalEntry::getAnswerText).sorted().toList());
+        assertTrue(journal.pendingEntries(1L).isEmpty());
+    }
+
+    @Test
+    void flush_ShouldKeepAnEntryReplacedWhileItsBatchIsWrittenAndAppendItAfterwards() {
+        LocalDateTime now = LocalDateTime.now();
+        AnswerJournalEntry older = entry(1L, 10L, "Par", now);
+        AnswerJournalEntry newer = entry(1L, 10L, "Paris", now.plusSeconds(1));
+        journal.record(older);
+        when(answerRepository.appendJournal(List.of(older))).thenAnswer(invocation -> {
+            journal.record(newer);
+            return 1;
+        });
+
+        journal.flush();
+
+        assertEquals(List.of(newer), journal.pendingEntries(1L));
+        journal.flush();
+        InOrder inOrder = inOrder(answerRepository);
+        inOrder.verify(answerRepository).appendJournal(List.of(older));
+        inOrder.verify(answerRepository).appendJournal(List.of(newer));
+        assertTrue(journal.pendingEntries(1L).isEmpty());
+    }
+
+    @Test
+    void flush_ShouldWriteInBatchesOfTheConfiguredSize() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long questionId = 1; questionId <= 5; questionId++) {
+            journal.record(entry(1L, questionId, "answer", now));
+        }
+
+        assertEquals(5, journal.flush());
+
+        assertEquals(List.of(2, 2, 1), appendedBatches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void record_ShouldAppendDirectlyWhenTheBufferIsFull() {
+        journal = new AnswerJournal(answerRepository, transactionManager, meterRegistry, 1, 2, Duration.ofHours(6));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(journal.record(entry(1L, 10L, "Paris", now)));
+        assertTrue(journal.record(entry(1L, 10L, "Paris!", now)));
+        assertFalse(journal.record(entry(1L, 20L, "Rome", now)));
+
+        assertEquals(1, appendedBatches.size());
+        assertEquals(20L, appendedBatches.get(0).get(0).getQuestionId());
+        assertEquals(1, journal.pendingEntries(1L).size());
+    }
+
+    @Test
+    void flush_ShouldCountEntriesRejectedForAttemptsNoLongerInProgress() {
+        when(answerRepository.appendJournal(anyList())).thenReturn(1);
+        LocalDateTime now = LocalDateTime.now();
+        journal.record(entry(1L, 10L, "Paris", now));
+        journal.record(entry(2L, 10L, "Rome", now));
+
+        assertEquals(1, journal.flush());
+
+        assertEquals(1.0, meterRegistry.get("lms.attempts.journal.rows-rejected").counter().count());
+        assertTrue(journal.pendingEntries(1L).isEmpty());
+        assertTrue(journal.pendingEntries(2L).isEmpty());
+    }
+
+    @Test
+    void purge_ShouldDropPendingEntriesAndOpenAttemptAndLeaveJournalRowsToTheNextFlush() {
+        journal.open(1L, 5L, 7L);
+        journal.record(entry(1L, 10L, "Paris", LocalDateTime.now()));
+        journal.record(entry(2L, 10L, "Rome", LocalDateTime.now()));
+
+        journal.purge(1L);
+
+        assertNull(journal.openAssessmentId(1L, 5L));
+        assertTrue(journal.pendingEntries(1L).isEmpty());
+        assertEquals(1, journal.pendingEntries(2L).size());
+        verifyNoInteractions(answerRepository, transactionManager);
+
+        journal.scheduledFlush();
+        journal.scheduledFlush();
+
+        verify(answerRepository, times(1)).deleteJournal(1L);
+        assertEquals(List.of(2L), appendedBatches.get(0).stream().map(AnswerJournalEntry::getAttemptId).toList());
+    }
+
+    @Test
+    void shutdown_ShouldFlushPendingEntries() {
+        journal.record(entry(1L, 10L, "Paris", LocalDateTime.now()));
+
+        journal.shutdown();
+
+        assertEquals(1, appendedBatches.size());
+        assertTrue(journal.pendingEntries(1L).isEmpty());
+    }
+
+    private static AnswerJournalEntry entry(long attemptId, long questionId, String text, LocalDateTime savedAt) {
+        return new AnswerJournalEntry(attemptId, questionId, List.of(), text, savedAt);
+    }
+}
@@ -0,0 +1,125 @@
+package com.lms.service.impl;
+
+import com.lms.repository.AggregateCounterRepository;
+import com.lms.repository.CourseRepository;
+import com.lms.repository.LearningPathRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CounterDeltaBufferTest {
+
+    @Mock
+    private AggregateCounterRepository counterRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private LearningPathRepository learningPathRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CounterDeltaBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        buffer = new CounterDeltaBuffer(counterRepository, courseRepository, learningPathRepository, transactionManager);
+    }
+
+    @Test
+    void flush_ShouldWriteNetDeltaOfConcurrentUpdatesOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        buffer.add(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, 5L, 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        buffer.add(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, 5L, -10);
+
+        assertEquals(7990, buffer.pending(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, 5L));
+        assertEquals(1, buffer.flush());
+
+        verify(courseRepository).addToEnrollmentCount(5L, 7990);
+        assertEquals(0, buffer.pending(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, 5L));
+        assertEquals(0, buffer.flush());
+    }
+
+    @Test
+    void flush_ShouldNotLoseDeltasAddedWhileItRuns() throws Exception {
+        AtomicLong written = new AtomicLong();
+        when(courseRepository.addToEnrollmentCount(eq(5L), anyInt())).thenAnswer(invocation -> {
+            written.addAndGet(invocation.<Integer>getArgument(1));
+            return 1;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        buffer.add(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, 5L, 1);
+                    }
+                }));
+            }
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                buffer.flush();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        buffer.flush();
+
+        assertEquals(80000, written.get());
+        assertEquals(0, buffer.pending(CounterDeltaBuffer.Target.COURSE_ENROLLMENTS, 5L));
+    }
+
+    @Test
+    void flush_ShouldKeepDeltaWhenWriteFails() {
+        when(counterRepository.addToValue(anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("down"))
+                .thenReturn(1);
+        buffer.add(CounterDeltaBuffer.Target.AGGREGATE, "enrollments.total", 3);
+
+        assertEquals(0, buffer.flush());
+        assertEquals(3, buffer.pending(CounterDeltaBuffer.Target.AGGREGATE, "enrollments.total"));
+        assertEquals(1, buffer.flush());
+        verify(counterRepository, times(2)).addToValue("enrollments.total", 3);
+        verify(learningPathRepository, never()).addToCompletionCount(anyLong(), anyInt());
+    }
+}
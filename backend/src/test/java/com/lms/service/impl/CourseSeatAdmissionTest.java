@@ -0,0 +1,126 @@
+package com.lms.service.impl;
+
+import com.lms.entity.Course;
+import com.lms.repository.CourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSeatAdmissionTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourseSeatAdmission admission;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admission = new CourseSeatAdmission(courseRepository, meterRegistry, Duration.ofHours(1));
+        course = new Course();
+        course.setId(1L);
+        course.setMaxStudents(100);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void reserve_ShouldRejectFromThePoolOnceFullWithoutTouchingTheCourseRow() {
+        when(courseRepository.findFreeSeats(1L)).thenReturn(3);
+        when(courseRepository.reserveSeats(1L, 3)).thenReturn(3);
+
+        assertEquals(3, admission.reserve(course, 5));
+        assertEquals(0, admission.reserve(course, 1));
+
+        verify(courseRepository, times(1)).reserveSeats(anyLong(), anyInt());
+        assertEquals(3.0, meterRegistry.get("lms.enrollment.admission").tag("result", "admitted").counter().count());
+        assertEquals(3.0, meterRegistry.get("lms.enrollment.admission").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void reserve_ShouldResyncThePoolWhenAnotherNodeTookTheSeats() {
+        when(courseRepository.findFreeSeats(1L)).thenReturn(5, 0);
+        when(courseRepository.reserveSeats(1L, 3)).thenReturn(1);
+
+        assertEquals(1, admission.reserve(course, 3));
+
+        assertEquals(0, admission.available(course));
+    }
+
+    @Test
+    void reserve_ShouldReturnOnlyThePoolTokensWhenTheEnrollmentRollsBack() {
+        when(courseRepository.findFreeSeats(1L)).thenReturn(1);
+        when(courseRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        assertEquals(1, admission.reserve(course, 1));
+        assertEquals(0, admission.available(course));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // The reserving UPDATE ran in the enrollment's transaction and rolled back with it
+        verify(courseRepository, never()).releaseSeats(anyLong(), anyInt());
+        assertEquals(1, admission.available(course));
+    }
+
+    @Test
+    void reserve_ShouldKeepTheReservationWhenTheEnrollmentCommits() {
+        when(courseRepository.findFreeSeats(1L)).thenReturn(1);
+        when(courseRepository.reserveSeats(1L, 1)).thenReturn(1);
+
+        admission.reserve(course, 1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(courseRepository, never()).releaseSeats(anyLong(), anyInt());
+    }
+
+    @Test
+    void release_ShouldFreeTheRowInTheTransactionAndRefillThePoolOnlyAfterCommit() {
+        when(courseRepository.findFreeSeats(1L)).thenReturn(0);
+        assertEquals(0, admission.available(course));
+
+        admission.release(course, 2);
+
+        verify(courseRepository).releaseSeats(1L, 2);
+        assertEquals(0, admission.available(course));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(2, admission.available(course));
+    }
+
+    @Test
+    void capacityChanged_ShouldRecountSeatsOnlyForCappedCourses() {
+        admission.capacityChanged(course);
+        course.setMaxStudents(null);
+        admission.capacityChanged(course);
+
+        verify(courseRepository, times(1)).resetReservedSeats(1L);
+    }
+
+    @Test
+    void reserve_ShouldAdmitEveryoneForUncappedCourses() {
+        course.setMaxStudents(null);
+
+        assertEquals(500, admission.reserve(course, 500));
+        admission.release(course, 500);
+        assertEquals(-1, admission.available(course));
+        verifyNoInteractions(courseRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.lms.service.impl;
+
+import com.lms.cache.PrincipalCache;
+import com.lms.dto.PrincipalView;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2ProvisioningServiceImplTest {
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @InjectMocks
+    private OAuth2ProvisioningServiceImpl provisioningService;
+
+    private final OAuth2User principal = new DefaultOAuth2User(
+            AuthorityUtils.createAuthorityList("ROLE_USER"),
+            Map.of("sub", "google-42", "email", "jane.doe@example.com", "name", "Jane Doe"),
+            "sub");
+
+    @Test
+    void resolve_ShouldCreateUserOnceForConcurrentFirstLogins() throws Exception {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.findByEmail("jane.doe@example.com")).thenReturn(Optional.empty());
+        when(userService.createUser(any(User.class))).thenAnswer(invocation -> {
+            creating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            User user = invocation.getArgument(0);
+            user.setId(7L);
+            return user;
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CompletableFuture<PrincipalView>> first = executor.submit(() -> provisioningService.resolve(principal));
+            assertTrue(creating.await(5, TimeUnit.SECONDS));
+
+            List<CompletableFuture<PrincipalView>> followers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                followers.add(provisioningService.resolve(principal));
+            }
+            followers.forEach(follower -> assertFalse(follower.isDone()));
+
+            release.countDown();
+            PrincipalView view = first.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+            assertEquals(7L, view.getId());
+            assertEquals("Jane", view.getFirstName());
+            assertEquals("Doe", view.getLastName());
+            assertEquals(Role.STUDENT, view.getRole());
+            for (CompletableFuture<PrincipalView> follower : followers) {
+                assertSame(view, follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userService, times(1)).createUser(any(User.class));
+    }
+
+    @Test
+    void resolve_ShouldServeKnownSubjectWithoutUserLookups() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("jane.doe@example.com");
+        user.setRole(Role.STUDENT);
+        when(userService.findByEmail("jane.doe@example.com")).thenReturn(Optional.of(user));
+
+        PrincipalView first = provisioningService.resolve(principal).join();
+        PrincipalView second = provisioningService.resolve(principal).join();
+
+        assertSame(first, second);
+        verify(userService, times(1)).findByEmail("jane.doe@example.com");
+        verify(userService, never()).createUser(any(User.class));
+    }
+
+    @Test
+    void resolve_ShouldReloadByIdAfterEviction() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("jane.doe@example.com");
+        user.setRole(Role.STUDENT);
+        when(userService.findByEmail("jane.doe@example.com")).thenReturn(Optional.of(user));
+        provisioningService.resolve(principal).join();
+
+        user.setRole(Role.INSTRUCTOR);
+        when(userService.findById(7L)).thenReturn(Optional.of(user));
+        principalCache.evict(7L);
+
+        assertEquals(Role.INSTRUCTOR, provisioningService.resolve(principal).join().getRole());
+        verify(userService, times(1)).findByEmail("jane.doe@example.com");
+    }
+}
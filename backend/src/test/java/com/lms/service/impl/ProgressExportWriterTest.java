@@ -0,0 +1,83 @@
+package com.lms.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.entity.LearningModule;
+import com.lms.entity.StudentProgress;
+import com.lms.entity.User;
+import com.lms.enums.ExportFormat;
+import com.lms.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ndjson_ShouldWriteOneParseableObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ProgressExportWriter writer = ProgressExportWriter.create(ExportFormat.NDJSON, out, objectMapper.getFactory())) {
+            writer.write(progress(1L, 40.0, false));
+            writer.write(progress(2L, 100.0, true));
+            writer.write(progress(3L, null, null));
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(lines[i].startsWith("{"), "line " + i + " does not start a record: " + lines[i]);
+            JsonNode record = objectMapper.readTree(lines[i]);
+            assertEquals(i + 1, record.get("id").asLong());
+            assertEquals(7L, record.get("moduleId").asLong());
+            assertEquals("Algebra", record.get("moduleTitle").asText());
+            assertEquals("2024-03-01T10:15", record.get("lastAccessed").asText());
+        }
+        assertEquals(40.0, objectMapper.readTree(lines[0]).get("completionPercentage").asDouble());
+        assertTrue(objectMapper.readTree(lines[1]).get("completed").asBoolean());
+        assertTrue(objectMapper.readTree(lines[2]).get("completionPercentage").isNull());
+        assertFalse(objectMapper.readTree(lines[2]).get("completed").asBoolean());
+    }
+
+    @Test
+    void csv_ShouldWriteHeaderAndQuoteCellsWithSeparators() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StudentProgress progress = progress(1L, 40.0, false);
+        progress.getModule().setTitle("Algebra, part 1");
+
+        try (ProgressExportWriter writer = ProgressExportWriter.create(ExportFormat.CSV, out, objectMapper.getFactory())) {
+            writer.write(progress);
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(String.join(",", ProgressExportWriter.COLUMNS), lines[0]);
+        assertEquals("1,5,ada@test.com,London,UK,7,\"Algebra, part 1\",2,30,40.0,false,2024-03-01T10:15", lines[1]);
+    }
+
+    private static StudentProgress progress(Long id, Double completionPercentage, Boolean completed) {
+        User student = new User("Ada", "Lovelace", "ada@test.com", Role.STUDENT);
+        student.setId(5L);
+        student.setCity("London");
+        student.setCountry("UK");
+        LearningModule module = new LearningModule();
+        module.setId(7L);
+        module.setTitle("Algebra");
+        StudentProgress progress = new StudentProgress(student, module);
+        progress.setId(id);
+        progress.setCurrentSection(2);
+        progress.setTimeSpent(30);
+        progress.setCompletionPercentage(completionPercentage);
+        if (completed != null) {
+            progress.setIsCompleted(completed);
+        }
+        progress.setLastAccessed(LocalDateTime.of(2024, 3, 1, 10, 15));
+        return progress;
+    }
+}
@@ -0,0 +1,184 @@
+package com.lms.service.impl;
+
+import com.lms.entity.LearningModule;
+import com.lms.entity.StudentProgress;
+import com.lms.entity.User;
+import com.lms.enums.Role;
+import com.lms.repository.StudentProgressRepository;
+import com.lms.repository.StudentProgressUpsert;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressWriteBehindBufferTest {
+
+    @Mock
+    private StudentProgressRepository studentProgressRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProgressWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new ProgressWriteBehindBuffer(studentProgressRepository, transactionManager,
+                meterRegistry, true, 100, 100, 500);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteOneCoalescedRowPerStudentAndModule() {
+        assertTrue(buffer.offer(progress(7L, 2, 10, 20.0, false)));
+        assertTrue(buffer.offer(progress(7L, 3, null, null, true)));
+        assertTrue(buffer.offer(progress(7L, 4, 15, 60.0, false)));
+        assertTrue(buffer.offer(progress(8L, 1, 5, 10.0, false)));
+
+        assertEquals(2, buffer.flush());
+
+        ArgumentCaptor<List<StudentProgressUpsert>> rows = ArgumentCaptor.forClass(List.class);
+        verify(studentProgressRepository).upsertProgressBatch(rows.capture());
+        List<StudentProgressUpsert> written = rows.getValue().stream()
+                .sorted(Comparator.comparing(StudentProgressUpsert::getModuleId))
+                .toList();
+        assertEquals(2, written.size());
+        StudentProgressUpsert coalesced = written.get(0);
+        assertEquals(1L, coalesced.getStudentId());
+        assertEquals(7L, coalesced.getModuleId());
+        assertEquals(4, coalesced.getCurrentSection());
+        assertEquals(15, coalesced.getTimeSpent());
+        assertEquals(60.0, coalesced.getCompletionPercentage());
+        assertTrue(coalesced.isCompleted());
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void offer_ShouldKeepPreviousValuesWhenLaterUpdateLeavesThemNull() {
+        buffer.offer(progress(7L, 2, 10, 20.0, false));
+        buffer.offer(progress(7L, null, null, null, null));
+
+        buffer.flush();
+
+        ArgumentCaptor<List<StudentProgressUpsert>> rows = ArgumentCaptor.forClass(List.class);
+        verify(studentProgressRepository).upsertProgressBatch(rows.capture());
+        StudentProgressUpsert row = rows.getValue().get(0);
+        assertEquals(2, row.getCurrentSection());
+        assertEquals(10, row.getTimeSpent());
+        assertEquals(20.0, row.getCompletionPercentage());
+        assertFalse(row.isCompleted());
+    }
+
+    @Test
+    void flush_ShouldKeepFailedBatchPendingAndWriteItOnRetry() {
+        buffer.offer(progress(7L, 2, 10, 20.0, false));
+        doThrow(new IllegalStateException("database unavailable"))
+                .doNothing()
+                .when(studentProgressRepository).upsertProgressBatch(anyList());
+
+        assertThrows(IllegalStateException.class, () -> buffer.flush());
+        assertEquals(1, buffer.pendingCount());
+
+        assertEquals(1, buffer.flush());
+        assertEquals(0, buffer.pendingCount());
+        verify(studentProgressRepository, times(2)).upsertProgressBatch(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void offer_ShouldCarryTheLatestJsonColumnsIntoTheBufferedRow() {
+        StudentProgress first = progress(7L, 2, 10, 20.0, false);
+        first.setNotes("[\"first\"]");
+        first.setBookmarks("[3]");
+        StudentProgress second = progress(7L, 3, 12, 30.0, false);
+        second.setNotes("[\"second\"]");
+        second.setQuizScores("{\"q1\":80}");
+        buffer.offer(first);
+        buffer.offer(second);
+
+        buffer.flush();
+
+        ArgumentCaptor<List<StudentProgressUpsert>> rows = ArgumentCaptor.forClass(List.class);
+        verify(studentProgressRepository).upsertProgressBatch(rows.capture());
+        StudentProgressUpsert row = rows.getValue().get(0);
+        assertEquals("[\"second\"]", row.getNotes());
+        assertEquals("[3]", row.getBookmarks());
+        assertEquals("{\"q1\":80}", row.getQuizScores());
+        assertNull(row.getCompletedObjectives());
+    }
+
+    @Test
+    void flush_ShouldDropRowsThatBreakAConstraintAndWriteTheRest() {
+        buffer.offer(progress(7L, 2, 10, 20.0, false));
+        buffer.offer(progress(99L, 1, 5, 10.0, false));
+        doThrow(new DataIntegrityViolationException("fk_student_progress_module"))
+                .when(studentProgressRepository).upsertProgressBatch(argThat(rows ->
+                        rows.stream().anyMatch(row -> row.getModuleId() == 99L)));
+
+        assertEquals(1, buffer.flush());
+
+        assertEquals(0, buffer.pendingCount());
+        verify(studentProgressRepository).upsertProgressBatch(argThat(rows ->
+                rows.size() == 1 && rows.get(0).getModuleId() == 7L));
+        assertEquals(1.0, meterRegistry.get("lms.progress.write-behind.rows-dropped").counter().count());
+    }
+
+    @Test
+    void shutdown_ShouldFlushPendingUpdates() {
+        buffer.offer(progress(7L, 2, 10, 20.0, false));
+        buffer.offer(progress(8L, 1, 5, 10.0, false));
+
+        buffer.shutdown();
+
+        verify(studentProgressRepository).upsertProgressBatch(argThat(rows -> rows.size() == 2));
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    void offer_ShouldRefuseUpdatesWithoutModule() {
+        StudentProgress progress = progress(7L, 1, 1, 1.0, false);
+        progress.setModule(null);
+
+        assertFalse(buffer.offer(progress));
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    private static StudentProgress progress(Long moduleId, Integer section, Integer timeSpent,
+                                            Double completionPercentage, Boolean completed) {
+        User student = new User("Ada", "Lovelace", "ada@test.com", Role.STUDENT);
+        student.setId(1L);
+        LearningModule module = new LearningModule();
+        module.setId(moduleId);
+        StudentProgress progress = new StudentProgress(student, module);
+        progress.setCurrentSection(section);
+        progress.setTimeSpent(timeSpent);
+        progress.setCompletionPercentage(completionPercentage);
+        if (completed != null) {
+            progress.setIsCompleted(completed);
+        } else {
+            // A heartbeat that does not report completion; the setter cannot take null
+            ReflectionTestUtils.setField(progress, "isCompleted", null);
+        }
+        return progress;
+    }
+}
@@ -0,0 +1,64 @@
+package com.lms.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Counts the JDBC statements Hibernate prepares so tests can pin the number of
+ * queries an operation issues. Requires hibernate.generate_statistics=true.
+ * 
+ * @author LMS Team
+ * @version 1.0
+ */
+public final class QueryCounter {
+
+    /**
+     * Test properties enabling the statistics this counter reads
+     */
+    public static final String STATISTICS_PROPERTY = "spring.jpa.properties.hibernate.generate_statistics=true";
+
+    private final Statistics statistics;
+
+    private QueryCounter(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    public static QueryCounter of(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("Hibernate statistics are disabled; set " + STATISTICS_PROPERTY);
+        }
+        return new QueryCounter(statistics);
+    }
+
+    /**
+     * Run an action and fail unless it prepared exactly the expected number of statements
+     * 
+     * @param expected Expected statement count
+     * @param action The action to measure
+     * @return The action's result
+     */
+    public <T> T assertQueryCount(long expected, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Unexpected number of SQL statements; entities loaded: " + statistics.getEntityLoadCount()
+                        + ", collections fetched: " + statistics.getCollectionFetchCount());
+        return result;
+    }
+
+    /**
+     * Variant of {@link #assertQueryCount(long, Supplier)} for actions without a result
+     */
+    public void assertQueryCount(long expected, Runnable action) {
+        assertQueryCount(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
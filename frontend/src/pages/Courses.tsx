@@ -18,13 +18,9 @@ import { api } from '../services/api';
 interface Course {
   id: number;
   title: string;
-  description: string;
   shortDescription: string;
-  instructor: {
-    id: number;
-    firstName: string;
-    lastName: string;
-  };
+  instructorId: number;
+  instructorName: string;
   category: string;
   level: string;
   durationHours: number;
@@ -130,14 +126,14 @@ const Courses: React.FC = () => {
                   {course.title}
                 </Typography>
                 <Typography variant="body2" color="text.secondary" sx={{ mb: 2 }}>
-                  {course.shortDescription || course.description.substring(0, 100) + '...'}
+                  {course.shortDescription}
                 </Typography>
                 <Box sx={{ mb: 2 }}>
                   <Chip label={course.category} size="small" sx={{ mr: 1 }} />
                   <Chip label={course.level} size="small" variant="outlined" />
                 </Box>
                 <Typography variant="body2" sx={{ mb: 1 }}>
-                  Instructor: {course.instructor.firstName} {course.instructor.lastName}
+                  Instructor: {course.instructorName}
                 </Typography>
                 <Typography variant="body2" sx={{ mb: 1 }}>
                   Duration: {course.durationHours} hours